@@ -0,0 +1,217 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.Check;
+import com.puppycrawl.tools.checkstyle.internal.CheckUtil;
+
+/**
+ * Runs the benchmarks, {@link CheckBenchmark} with every check of Checkstyle,
+ * writes their scores to a results file and compares them with the scores
+ * of a baseline file. A benchmark is reported as a regression if its score,
+ * the average time of an operation, exceeds its baseline by more than a
+ * threshold. To update the baseline, copy the results file over it.
+ *
+ * <p>Arguments: the regular expression of the benchmarks to run, the results
+ * file, the baseline file, and the threshold in percents. Exits with status 1
+ * if there are regressions.
+ */
+public final class BenchmarkRunner {
+    /** The number of arguments. */
+    private static final int ARGUMENT_COUNT = 4;
+
+    /** Format of the lines of the comparison report. */
+    private static final String REPORT_FORMAT = "%-60s %12s %12s %9s%s%n";
+
+    /** Prevents instantiation. */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks and compares their scores with the baseline.
+     * @param args the regular expression of the benchmarks to run, the results
+     *     file, the baseline file, and the threshold in percents
+     * @throws Exception if the benchmarks cannot be run or the files cannot
+     *     be read or written
+     */
+    public static void main(String... args) throws Exception {
+        if (args.length != ARGUMENT_COUNT) {
+            throw new IllegalArgumentException("Usage: BenchmarkRunner <benchmark regexp>"
+                    + " <results file> <baseline file> <threshold percents>");
+        }
+        final Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(args[0])
+                .param("check", getCheckNames())
+                .build()).run();
+
+        final SortedMap<String, Double> scores = Maps.newTreeMap();
+        for (RunResult result : results) {
+            scores.put(getName(result), result.getPrimaryResult().getScore());
+        }
+        writeScores(new File(args[1]), scores);
+
+        final File baselineFile = new File(args[2]);
+        if (baselineFile.exists()) {
+            final int regressions = compare(scores, readScores(baselineFile),
+                    Double.parseDouble(args[3]));
+            if (regressions > 0) {
+                System.exit(1);
+            }
+        }
+        else {
+            System.out.println("No baseline " + baselineFile + ", copy " + args[1]
+                    + " to create it.");
+        }
+    }
+
+    /**
+     * Gets the names of the checks of Checkstyle.
+     * @return the simple names of the check classes, sorted
+     * @throws IOException if the classes cannot be listed
+     */
+    private static String[] getCheckNames() throws IOException {
+        final CodeSource checkstyleClasses = Check.class.getProtectionDomain().getCodeSource();
+        final SortedSet<String> names = Sets.newTreeSet();
+        for (Class<?> checkClass : CheckUtil.getCheckstyleChecks()) {
+            if (checkstyleClasses.equals(checkClass.getProtectionDomain().getCodeSource())) {
+                names.add(checkClass.getSimpleName());
+            }
+        }
+        return names.toArray(new String[names.size()]);
+    }
+
+    /**
+     * Gets the name of the result of a benchmark, made of the class and
+     * method names of the benchmark and the values of its parameters.
+     * @param result the result of the benchmark
+     * @return the name of the result
+     */
+    private static String getName(RunResult result) {
+        final String benchmark = result.getParams().getBenchmark();
+        final StringBuilder name = new StringBuilder(
+                benchmark.substring(BenchmarkRunner.class.getPackage().getName().length() + 1));
+        for (String key : result.getParams().getParamsKeys()) {
+            name.append('.').append(result.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Compares scores with the baseline and prints the comparison.
+     * @param scores the scores by benchmark name
+     * @param baseline the scores of the baseline by benchmark name
+     * @param threshold the allowed increase of a score in percents
+     * @return the number of regressions
+     */
+    private static int compare(Map<String, Double> scores, Map<String, Double> baseline,
+            double threshold) {
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, REPORT_FORMAT, "Benchmark (us/op)", "Baseline",
+                "Current", "Change", "");
+        for (Map.Entry<String, Double> score : scores.entrySet()) {
+            final Double baselineScore = baseline.get(score.getKey());
+            if (baselineScore == null) {
+                System.out.printf(Locale.ROOT, REPORT_FORMAT, score.getKey(), "-",
+                        format(score.getValue()), "-", "  NEW");
+            }
+            else {
+                final double change = (score.getValue() / baselineScore - 1) * 100;
+                String flag = "";
+                if (change > threshold) {
+                    flag = "  REGRESSION";
+                    regressions++;
+                }
+                System.out.printf(Locale.ROOT, REPORT_FORMAT, score.getKey(),
+                        format(baselineScore), format(score.getValue()),
+                        String.format(Locale.ROOT, "%+.1f%%", change), flag);
+            }
+        }
+        System.out.printf(Locale.ROOT, "%d regressions of more than %.1f%%.%n",
+                regressions, threshold);
+        return regressions;
+    }
+
+    /**
+     * Formats a score for the report.
+     * @param score the score
+     * @return the formatted score
+     */
+    private static String format(double score) {
+        return String.format(Locale.ROOT, "%.3f", score);
+    }
+
+    /**
+     * Writes scores to a file, one line per benchmark, sorted by name.
+     * @param file the file to write
+     * @param scores the scores by benchmark name
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeScores(File file, SortedMap<String, Double> scores)
+            throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create directory " + directory);
+        }
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            writer.println("# Average time of an operation in microseconds, by benchmark");
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                writer.println(score.getKey() + '=' + score.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads scores written by {@link #writeScores(File, SortedMap)}.
+     * @param file the file to read
+     * @return the scores by benchmark name
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Double> readScores(File file) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(file)) {
+            properties.load(stream);
+        }
+        final Map<String, Double> scores = Maps.newHashMap();
+        for (String name : properties.stringPropertyNames()) {
+            scores.put(name, Double.valueOf(properties.getProperty(name)));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,84 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Helpers shared by the benchmarks. The benchmarks measure the processing of
+ * a fixed corpus of real-world sources, copied into {@value #CORPUS} so the
+ * measured work does not change with the sources of Checkstyle.
+ */
+final class BenchmarkSupport {
+    /** The directory of the corpus, relative to the project directory. */
+    static final String CORPUS = "src/bench/resources/corpus";
+
+    /** The charset of the files of the corpus. */
+    static final String CHARSET = "UTF-8";
+
+    /** Prevents instantiation. */
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Gets the files of the corpus, sorted by name.
+     * @return the files
+     */
+    static File[] getCorpusFiles() {
+        final File[] files = new File(CORPUS).listFiles();
+        if (files == null || files.length == 0) {
+            throw new IllegalStateException("No files in " + new File(CORPUS).getAbsolutePath()
+                    + ", benchmarks must be run from the project directory");
+        }
+        Arrays.sort(files);
+        return files;
+    }
+
+    /**
+     * Reads the files of the corpus.
+     * @return the contents of the files, sorted by file name
+     * @throws IOException if a file cannot be read
+     */
+    static List<FileText> readCorpus() throws IOException {
+        final List<FileText> texts = Lists.newArrayList();
+        for (File file : getCorpusFiles()) {
+            texts.add(new FileText(file.getAbsoluteFile(), CHARSET));
+        }
+        return texts;
+    }
+
+    /**
+     * Creates a factory of the modules of Checkstyle, as created by Checker.
+     * @return the module factory
+     * @throws CheckstyleException if the package names cannot be loaded
+     */
+    static ModuleFactory createModuleFactory() throws CheckstyleException {
+        final ClassLoader classLoader = BenchmarkSupport.class.getClassLoader();
+        return new PackageObjectFactory(PackageNamesLoader.getPackageNames(classLoader),
+                PackageNamesLoader.getModuleNames(classLoader), classLoader);
+    }
+}
@@ -0,0 +1,142 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+/**
+ * Measures the cost of asking every node of a freshly parsed AST whether
+ * its branch contains some token types, with the token types of branches
+ * computed lazily and precomputed in one pass, as done by {@link TreeWalker}
+ * with {@code precomputeBranchTokenTypes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BranchContainsBenchmark {
+    /** The file the AST of which is inspected. */
+    private static final String INPUT =
+            "src/main/java/com/puppycrawl/tools/checkstyle/TreeWalker.java";
+
+    /** The token types asked for, as in checks using branchContains. */
+    private static final int[] TYPES = {
+        TokenTypes.LITERAL_RETURN, TokenTypes.LITERAL_THROW, TokenTypes.ASSIGN,
+        TokenTypes.LITERAL_THIS, TokenTypes.FINAL,
+    };
+
+    /** The contents of the input file. */
+    private FileContents contents;
+
+    /** The root of a freshly parsed AST. */
+    private DetailAST root;
+
+    /** All nodes of the AST, in the order they are visited. */
+    private DetailAST[] nodes;
+
+    /**
+     * Reads the input file.
+     * @throws Exception if the input file cannot be read
+     */
+    @Setup
+    public void setUp() throws Exception {
+        contents = new FileContents(new FileText(new File(INPUT), "UTF-8"));
+    }
+
+    /**
+     * Parses the input file again, so no token types are computed yet.
+     * @throws Exception if the input file cannot be parsed
+     */
+    @Setup(Level.Invocation)
+    public void parse() throws Exception {
+        root = TreeWalker.parse(contents);
+        final List<DetailAST> allNodes = Lists.newArrayList();
+        collectNodes(root, allNodes);
+        nodes = allNodes.toArray(new DetailAST[allNodes.size()]);
+    }
+
+    /**
+     * Asks every node for the token types, computing them lazily.
+     * @param blackhole consumes the answers
+     */
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        askAllNodes(blackhole);
+    }
+
+    /**
+     * Computes the token types of all branches in one pass and
+     * asks every node for them.
+     * @param blackhole consumes the answers
+     */
+    @Benchmark
+    public void precomputed(Blackhole blackhole) {
+        DetailAST.computeBranchTokenTypes(root);
+        askAllNodes(blackhole);
+    }
+
+    /**
+     * Asks every node whether its branch contains the token types.
+     * @param blackhole consumes the answers
+     */
+    private void askAllNodes(Blackhole blackhole) {
+        for (DetailAST node : nodes) {
+            for (int type : TYPES) {
+                blackhole.consume(node.branchContains(type));
+            }
+        }
+    }
+
+    /**
+     * Adds a node and all its descendants to a list, in the order
+     * they are visited.
+     * @param first the node to start from
+     * @param allNodes the list to add the nodes to
+     */
+    private static void collectNodes(DetailAST first, List<DetailAST> allNodes) {
+        for (DetailAST node = first; node != null; node = node.getNextSibling()) {
+            allNodes.add(node);
+            collectNodes(node.getFirstChild(), allNodes);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.Check;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessages;
+
+/**
+ * Measures the cost of one check with its default configuration on the
+ * files of the corpus, in isolation. The ASTs are parsed once, and the check
+ * is notified of their nodes as done by {@link TreeWalker}. Fileset checks
+ * process the lines of the files. {@link BenchmarkRunner} runs this benchmark
+ * for every check of Checkstyle; the default checks are a sample of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CheckBenchmark {
+    /** The name of the check, as in configurations. */
+    @Param({"IndentationCheck", "JavadocMethodCheck", "MemberNameCheck",
+        "NewlineAtEndOfFileCheck"})
+    private String check;
+
+    /** The files of the corpus. */
+    private File[] files;
+
+    /** The contents of the files of the corpus. */
+    private List<FileText> texts;
+
+    /** The measured check if it is a check of TreeWalker, null otherwise. */
+    private Check treeCheck;
+
+    /** The measured check if it is a fileset check, null otherwise. */
+    private AbstractFileSetCheck fileSetCheck;
+
+    /** The messages logged by the check of TreeWalker. */
+    private final LocalizedMessages messages = new LocalizedMessages();
+
+    /** The contents of the files, for the check of TreeWalker. */
+    private FileContents[] contents;
+
+    /** The ASTs of the files, for the check of TreeWalker. */
+    private DetailAST[] roots;
+
+    /** Whether the check is notified of each token type. */
+    private boolean[] tokens;
+
+    /**
+     * Creates and configures the check, reads the files of the corpus and
+     * parses them for a check of TreeWalker.
+     * @throws Exception if the check cannot be configured or a file cannot
+     *     be read or parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        files = BenchmarkSupport.getCorpusFiles();
+        texts = BenchmarkSupport.readCorpus();
+        final Object module = BenchmarkSupport.createModuleFactory().createModule(check);
+        if (module instanceof Check) {
+            setUpTreeCheck((Check) module);
+        }
+        else {
+            fileSetCheck = (AbstractFileSetCheck) module;
+            fileSetCheck.configure(new DefaultConfiguration(check));
+            fileSetCheck.init();
+            fileSetCheck.beginProcessing(BenchmarkSupport.CHARSET);
+        }
+    }
+
+    /** Destroys the check. */
+    @TearDown
+    public void tearDown() {
+        if (treeCheck == null) {
+            fileSetCheck.destroy();
+        }
+        else {
+            treeCheck.destroy();
+        }
+    }
+
+    /**
+     * Runs the check on the files of the corpus.
+     * @param blackhole consumes the messages of the check
+     * @throws CheckstyleException if a check of files fails
+     */
+    @Benchmark
+    public void run(Blackhole blackhole) throws CheckstyleException {
+        if (treeCheck == null) {
+            for (int i = 0; i < files.length; i++) {
+                blackhole.consume(fileSetCheck.process(files[i], texts.get(i)));
+            }
+        }
+        else {
+            for (int i = 0; i < roots.length; i++) {
+                treeCheck.setFileContents(contents[i]);
+                treeCheck.beginTree(roots[i]);
+                walk(roots[i]);
+                treeCheck.finishTree(roots[i]);
+                blackhole.consume(messages.size());
+                messages.reset();
+            }
+        }
+    }
+
+    /**
+     * Configures a check of TreeWalker and parses the files of the corpus.
+     * @param module the check
+     * @throws Exception if the check cannot be configured or a file cannot be parsed
+     */
+    private void setUpTreeCheck(Check module) throws Exception {
+        treeCheck = module;
+        final DefaultContext context = new DefaultContext();
+        context.add("classLoader", getClass().getClassLoader());
+        context.add("messages", messages);
+        treeCheck.contextualize(context);
+        treeCheck.configure(new DefaultConfiguration(check));
+        treeCheck.init();
+
+        tokens = new boolean[0];
+        for (int tokenType : treeCheck.getDefaultTokens()) {
+            if (tokenType >= tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokenType + 1);
+            }
+            tokens[tokenType] = true;
+        }
+
+        contents = new FileContents[texts.size()];
+        roots = new DetailAST[texts.size()];
+        for (int i = 0; i < roots.length; i++) {
+            contents[i] = new FileContents(texts.get(i));
+            if (treeCheck.isCommentNodesRequired()) {
+                roots[i] = TreeWalker.parseWithComments(contents[i]);
+            }
+            else {
+                roots[i] = TreeWalker.parse(contents[i]);
+            }
+        }
+    }
+
+    /**
+     * Notifies the check of the nodes of an AST it visits,
+     * in the order of {@link TreeWalker}.
+     * @param root the root of the AST
+     */
+    private void walk(DetailAST root) {
+        DetailAST curNode = root;
+        while (curNode != null) {
+            if (isVisited(curNode)) {
+                treeCheck.visitToken(curNode);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                if (isVisited(curNode)) {
+                    treeCheck.leaveToken(curNode);
+                }
+                toVisit = curNode.getNextSibling();
+                if (toVisit == null) {
+                    curNode = curNode.getParent();
+                }
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Checks whether the check is notified of a node.
+     * @param node the node
+     * @return true if the check visits the type of the node
+     */
+    private boolean isVisited(DetailAST node) {
+        final int tokenType = node.getType();
+        return tokenType < tokens.length && tokens[tokenType];
+    }
+}
@@ -0,0 +1,91 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Measures the cost of parsing the files of the corpus into ASTs, without
+ * and with comment nodes. The difference between both is the cost of
+ * appending the comment nodes to the AST, done by {@link TreeWalker}
+ * for comment checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParseBenchmark {
+    /** The contents of the files of the corpus. */
+    private final List<FileContents> contents = Lists.newArrayList();
+
+    /**
+     * Reads the files of the corpus.
+     * @throws Exception if a file cannot be read
+     */
+    @Setup
+    public void setUp() throws Exception {
+        for (FileText text : BenchmarkSupport.readCorpus()) {
+            contents.add(new FileContents(text));
+        }
+    }
+
+    /**
+     * Parses the files of the corpus.
+     * @param blackhole consumes the ASTs
+     * @throws Exception if a file cannot be parsed
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        for (FileContents fileContents : contents) {
+            blackhole.consume(TreeWalker.parse(fileContents));
+        }
+    }
+
+    /**
+     * Parses the files of the corpus and appends the comment nodes to the ASTs.
+     * @param blackhole consumes the ASTs
+     * @throws Exception if a file cannot be parsed
+     */
+    @Benchmark
+    public void parseWithComments(Blackhole blackhole) throws Exception {
+        for (FileContents fileContents : contents) {
+            blackhole.consume(TreeWalker.parseWithComments(fileContents));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import com.puppycrawl.tools.checkstyle.api.Check;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
+import com.puppycrawl.tools.checkstyle.checks.coding.MagicNumberCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.ConstantNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.LocalVariableNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MethodNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.ParameterNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.WhitespaceAroundCheck;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
+
+/**
+ * Measures the cost of finding the checks to notify for every node of an AST,
+ * with checks looked up by token name in a multimap and by token type
+ * in an array indexed by token type, as done by {@link TreeWalker}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TokenDispatchBenchmark {
+    /** The file the AST of which is walked. */
+    private static final String INPUT =
+            "src/main/java/com/puppycrawl/tools/checkstyle/TreeWalker.java";
+
+    /** All nodes of the AST, in the order they are visited. */
+    private DetailAST[] nodes;
+
+    /** Checks by token name. */
+    private Multimap<String, Check> tokenNameToChecks;
+
+    /** Checks indexed by token type. */
+    private Check[][] tokenTypeToChecks;
+
+    /**
+     * Parses the input file and registers the checks.
+     * @throws Exception if the input file cannot be parsed
+     */
+    @Setup
+    public void setUp() throws Exception {
+        final FileContents contents =
+                new FileContents(new FileText(new File(INPUT), "UTF-8"));
+        final List<DetailAST> allNodes = Lists.newArrayList();
+        collectNodes(TreeWalker.parse(contents), allNodes);
+        nodes = allNodes.toArray(new DetailAST[allNodes.size()]);
+
+        final Check[] checks = {
+            new ConstantNameCheck(), new HiddenFieldCheck(), new LocalVariableNameCheck(),
+            new MagicNumberCheck(), new MemberNameCheck(), new MethodNameCheck(),
+            new ParameterNameCheck(), new TypeNameCheck(), new WhitespaceAroundCheck(),
+        };
+        tokenNameToChecks = HashMultimap.create();
+        tokenTypeToChecks = new Check[0][];
+        for (Check check : checks) {
+            for (int tokenId : check.getDefaultTokens()) {
+                tokenNameToChecks.put(TokenUtils.getTokenName(tokenId), check);
+                if (tokenId >= tokenTypeToChecks.length) {
+                    tokenTypeToChecks = Arrays.copyOf(tokenTypeToChecks, tokenId + 1);
+                }
+                final Check[] tokenChecks = tokenTypeToChecks[tokenId];
+                if (tokenChecks == null) {
+                    tokenTypeToChecks[tokenId] = new Check[] {check};
+                }
+                else {
+                    final Check[] newChecks = Arrays.copyOf(tokenChecks, tokenChecks.length + 1);
+                    newChecks[tokenChecks.length] = check;
+                    tokenTypeToChecks[tokenId] = newChecks;
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the checks of every node by token name, once for visiting
+     * and once for leaving the node.
+     * @param blackhole consumes the checks found
+     */
+    @Benchmark
+    public void dispatchByTokenName(Blackhole blackhole) {
+        for (DetailAST node : nodes) {
+            for (int i = 0; i < 2; i++) {
+                final String tokenName = TokenUtils.getTokenName(node.getType());
+                if (tokenNameToChecks.containsKey(tokenName)) {
+                    for (Check check : tokenNameToChecks.get(tokenName)) {
+                        blackhole.consume(check);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks up the checks of every node by token type, once for visiting
+     * and once for leaving the node.
+     * @param blackhole consumes the checks found
+     */
+    @Benchmark
+    public void dispatchByTokenType(Blackhole blackhole) {
+        for (DetailAST node : nodes) {
+            for (int i = 0; i < 2; i++) {
+                final int tokenType = node.getType();
+                if (tokenType < tokenTypeToChecks.length
+                        && tokenTypeToChecks[tokenType] != null) {
+                    for (Check check : tokenTypeToChecks[tokenType]) {
+                        blackhole.consume(check);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a node and all its descendants to a list, in the order
+     * they are visited.
+     * @param root the node to start from
+     * @param allNodes the list to add the nodes to
+     */
+    private static void collectNodes(DetailAST root, List<DetailAST> allNodes) {
+        for (DetailAST node = root; node != null; node = node.getNextSibling()) {
+            allNodes.add(node);
+            collectNodes(node.getFirstChild(), allNodes);
+        }
+    }
+}
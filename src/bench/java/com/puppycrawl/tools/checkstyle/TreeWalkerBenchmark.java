@@ -0,0 +1,138 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.api.Check;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
+
+/**
+ * Measures the cost of processing the files of the corpus with
+ * {@link TreeWalker}, without checks and with checks that visit every token
+ * but do nothing. The first includes reading the lines into FileContents and
+ * parsing; the difference between both is the cost of walking the AST and
+ * dispatching the tokens to the checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TreeWalkerBenchmark {
+    /** The number of checks visiting every token but comments, 0 for no checks. */
+    @Param({"0", "1", "10"})
+    private int checks;
+
+    /** The files of the corpus. */
+    private File[] files;
+
+    /** The contents of the files of the corpus. */
+    private List<FileText> texts;
+
+    /** The TreeWalker processing the files. */
+    private TreeWalker treeWalker;
+
+    /**
+     * Reads the files of the corpus and configures the TreeWalker.
+     * @throws Exception if a file cannot be read
+     */
+    @Setup
+    public void setUp() throws Exception {
+        files = BenchmarkSupport.getCorpusFiles();
+        texts = BenchmarkSupport.readCorpus();
+        final DefaultConfiguration config = new DefaultConfiguration("TreeWalker");
+        for (int i = 0; i < checks; i++) {
+            config.addChild(new DefaultConfiguration(NoOpCheck.class.getName()));
+        }
+        treeWalker = new TreeWalker();
+        treeWalker.setModuleFactory(BenchmarkSupport.createModuleFactory());
+        treeWalker.configure(config);
+        treeWalker.beginProcessing(BenchmarkSupport.CHARSET);
+    }
+
+    /** Destroys the TreeWalker. */
+    @TearDown
+    public void tearDown() {
+        treeWalker.destroy();
+    }
+
+    /**
+     * Processes the files of the corpus.
+     * @param blackhole consumes the messages of the files
+     * @throws Exception if a file cannot be parsed
+     */
+    @Benchmark
+    public void process(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < files.length; i++) {
+            blackhole.consume(treeWalker.process(files[i], texts.get(i)));
+        }
+    }
+
+    /**
+     * A check visiting every token but comments and doing nothing, comments
+     * are measured by {@link ParseBenchmark#parseWithComments(Blackhole)}.
+     */
+    public static final class NoOpCheck extends Check {
+        /** The tokens visited by the check. */
+        private static final int[] TOKENS = getNonCommentTokens();
+
+        @Override
+        public int[] getDefaultTokens() {
+            return TOKENS.clone();
+        }
+
+        /**
+         * Gets the types of all tokens but comments.
+         * @return the types of the tokens
+         */
+        private static int[] getNonCommentTokens() {
+            final int[] allTokens = TokenUtils.getAllTokenIds();
+            final int[] tokens = new int[allTokens.length];
+            int count = 0;
+            for (int token : allTokens) {
+                if (!TokenUtils.isCommentType(token)) {
+                    tokens[count] = token;
+                    count++;
+                }
+            }
+            return Arrays.copyOf(tokens, count);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileListener;
+
+/**
+ * Notifies an audit listener asynchronously, so a slow listener does not
+ * stall the processing of files. Events are put into a bounded queue and
+ * delivered in the order they were fired by a dedicated thread, which ends
+ * after delivering the end of the audit. When the queue is full, firing an
+ * event waits until the listener has caught up. The profile of an audit
+ * is delivered only if the listener is a {@link ProfileListener}.
+ * @author the original author or authors.
+ */
+public final class AsyncAuditListener implements ProfileListener {
+    /** How long to wait for a free slot before checking the delivering thread. */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    /** Message of exceptions thrown when a thread is interrupted while delivering. */
+    private static final String DELIVERY_INTERRUPTED =
+            "Interrupted while delivering audit events";
+
+    /** The listener the events are delivered to. */
+    private final AuditListener listener;
+
+    /** The events not delivered yet. */
+    private final BlockingQueue<Event> events;
+
+    /** The thread delivering the events of the current audit, null until the first event. */
+    private Thread deliveringThread;
+
+    /** The first exception thrown by the listener, null if there is none. */
+    private volatile Throwable failure;
+
+    /**
+     * Creates a new {@code AsyncAuditListener} instance.
+     * @param listener the listener to deliver the events to
+     * @param capacity the maximum number of events not delivered yet
+     */
+    public AsyncAuditListener(AuditListener listener, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.listener = listener;
+        events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns the listener the events are delivered to.
+     * @return the listener
+     */
+    public AuditListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public void auditStarted(AuditEvent event) {
+        fire(new Event(EventType.AUDIT_STARTED, event, null));
+    }
+
+    @Override
+    public void auditFinished(AuditEvent event) {
+        fire(new Event(EventType.AUDIT_FINISHED, event, null));
+        awaitDelivery();
+    }
+
+    @Override
+    public void fileStarted(AuditEvent event) {
+        fire(new Event(EventType.FILE_STARTED, event, null));
+    }
+
+    @Override
+    public void fileFinished(AuditEvent event) {
+        fire(new Event(EventType.FILE_FINISHED, event, null));
+    }
+
+    @Override
+    public void addError(AuditEvent event) {
+        fire(new Event(EventType.ERROR, event, null));
+    }
+
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        fire(new Event(EventType.EXCEPTION, event, throwable));
+    }
+
+    @Override
+    public void addProfile(AuditEvent event, Profile profile) {
+        if (listener instanceof ProfileListener) {
+            fire(new Event(EventType.PROFILE, event, profile));
+        }
+    }
+
+    /**
+     * Stops delivering events if the end of the audit was not fired,
+     * e.g. because the audit failed. Events already fired are delivered first.
+     */
+    public synchronized void close() {
+        if (deliveringThread != null && deliveringThread.isAlive()) {
+            fire(new Event(EventType.CLOSE, null, null));
+            awaitDelivery();
+        }
+    }
+
+    /**
+     * Puts an event into the queue, starting the delivering thread
+     * with the first event of an audit.
+     * @param event the event to deliver
+     * @throws IllegalStateException if the listener failed or
+     *     the calling thread was interrupted while waiting
+     */
+    private synchronized void fire(Event event) {
+        checkFailure();
+        if (deliveringThread == null || !deliveringThread.isAlive()) {
+            // the thread may have failed after the previous check
+            checkFailure();
+            deliveringThread = new Thread(new Delivery(),
+                    "checkstyle-" + listener.getClass().getSimpleName());
+            deliveringThread.setDaemon(true);
+            deliveringThread.setUncaughtExceptionHandler(new FailureHandler());
+            deliveringThread.start();
+        }
+        try {
+            while (!events.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+        }
+        catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while firing an audit event", ex);
+        }
+    }
+
+    /**
+     * Waits until the delivering thread has ended.
+     * @throws IllegalStateException if the listener failed or
+     *     the calling thread was interrupted while waiting
+     */
+    private void awaitDelivery() {
+        try {
+            deliveringThread.join();
+        }
+        catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(DELIVERY_INTERRUPTED, ex);
+        }
+        checkFailure();
+    }
+
+    /**
+     * Checks whether the listener threw an exception.
+     * @throws IllegalStateException if it did
+     */
+    private void checkFailure() {
+        if (failure != null) {
+            throw new IllegalStateException("Audit listener "
+                    + listener.getClass().getName() + " failed", failure);
+        }
+    }
+
+    /** Types of audit events. */
+    private enum EventType {
+        /** The audit started. */
+        AUDIT_STARTED,
+        /** The audit finished. */
+        AUDIT_FINISHED,
+        /** The audit of a file started. */
+        FILE_STARTED,
+        /** The audit of a file finished. */
+        FILE_FINISHED,
+        /** An error was found. */
+        ERROR,
+        /** An exception was thrown. */
+        EXCEPTION,
+        /** The profile of the audit is available. */
+        PROFILE,
+        /** No more events are delivered. */
+        CLOSE,
+    }
+
+    /** An audit event waiting for delivery. */
+    private static final class Event {
+        /** The type of the event. */
+        private final EventType type;
+
+        /** The details of the event. */
+        private final AuditEvent auditEvent;
+
+        /**
+         * The exception of an {@code EXCEPTION} event,
+         * or the profile of a {@code PROFILE} event.
+         */
+        private final Object detail;
+
+        /**
+         * Creates a new {@code Event} instance.
+         * @param type the type of the event
+         * @param auditEvent the details of the event
+         * @param detail the exception of an {@code EXCEPTION} event,
+         *     or the profile of a {@code PROFILE} event
+         */
+        Event(EventType type, AuditEvent auditEvent, Object detail) {
+            this.type = type;
+            this.auditEvent = auditEvent;
+            this.detail = detail;
+        }
+    }
+
+    /** Delivers the events in the queue to the listener. */
+    private final class Delivery implements Runnable {
+        @Override
+        public void run() {
+            try {
+                boolean finished = false;
+                while (!finished) {
+                    final Event event = events.take();
+                    finished = deliver(event);
+                }
+            }
+            catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(DELIVERY_INTERRUPTED, ex);
+            }
+        }
+
+        /**
+         * Delivers an event to the listener.
+         * @param event the event
+         * @return true if no more events are delivered after this one
+         */
+        private boolean deliver(Event event) {
+            boolean finished = false;
+            switch (event.type) {
+                case AUDIT_STARTED:
+                    listener.auditStarted(event.auditEvent);
+                    break;
+                case AUDIT_FINISHED:
+                    listener.auditFinished(event.auditEvent);
+                    finished = true;
+                    break;
+                case FILE_STARTED:
+                    listener.fileStarted(event.auditEvent);
+                    break;
+                case FILE_FINISHED:
+                    listener.fileFinished(event.auditEvent);
+                    break;
+                case ERROR:
+                    listener.addError(event.auditEvent);
+                    break;
+                case EXCEPTION:
+                    listener.addException(event.auditEvent, (Throwable) event.detail);
+                    break;
+                case PROFILE:
+                    ((ProfileListener) listener).addProfile(event.auditEvent,
+                            (Profile) event.detail);
+                    break;
+                default:
+                    finished = true;
+                    break;
+            }
+            return finished;
+        }
+    }
+
+    /** Records the exception that ended the delivering thread. */
+    private final class FailureHandler implements Thread.UncaughtExceptionHandler {
+        @Override
+        public void uncaughtException(Thread thread, Throwable throwable) {
+            failure = throwable;
+        }
+    }
+}
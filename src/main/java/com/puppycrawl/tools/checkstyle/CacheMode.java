@@ -0,0 +1,70 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+/**
+ * How a {@link ResultCache} identifies files that did not change.
+ *
+ * @author the original author or authors.
+ */
+enum CacheMode {
+    /**
+     * Files with the same timestamp did not change.
+     */
+    TIMESTAMP,
+
+    /**
+     * Files with the same digest of contents did not change.
+     */
+    CONTENT;
+
+    /**
+     * Returns the cache mode with a given name.
+     * @param name the name of the cache mode, case insensitive
+     * @return the cache mode
+     */
+    static CacheMode getInstance(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Creates and loads a cache in this mode.
+     * @param config the current configuration
+     * @param fileName the cache file
+     * @return the loaded cache
+     * @throws IOException if there are some problems with file loading
+     */
+    ResultCache createCache(Configuration config, String fileName) throws IOException {
+        final ResultCache cache;
+        if (this == CONTENT) {
+            cache = new ContentHashCacheFile(config, fileName);
+        }
+        else {
+            cache = new PropertyCacheFile(config, fileName);
+        }
+        cache.load();
+        return cache;
+    }
+}
@@ -0,0 +1,370 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.List;
+import java.util.SortedSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * Converts the messages logged for a file to and from the form they are
+ * stored in a {@link ResultCache}.
+ *
+ * <p>Every message is written on a line of its own, as fields separated by
+ * tabs: the line and column numbers, the severity, the bundle, the key, the
+ * module id, the name of the source class, the custom message, the number
+ * of arguments and the arguments. Integer and floating point arguments keep
+ * their type, so that number formats still apply to them, and other
+ * arguments are converted to strings. Tabs, line ends and backslashes are
+ * escaped in the fields, and null fields are written as {@code \0}.
+ * The messages are parsed back field by field, never with Java
+ * serialization, so that a tampered cache file can at worst produce wrong
+ * messages.
+ *
+ * @author the original author or authors.
+ */
+final class CachedMessages {
+    /** Logger for CachedMessages. */
+    private static final Log LOG = LogFactory.getLog(CachedMessages.class);
+
+    /** Separates messages. */
+    private static final char MESSAGE_SEPARATOR = '\n';
+
+    /** Separates the fields of a message. */
+    private static final char FIELD_SEPARATOR = '\t';
+
+    /** Starts escape sequences. */
+    private static final char ESCAPE = '\\';
+
+    /** The field written for null values. */
+    private static final String NULL_FIELD = "\\0";
+
+    /** The number of fields of a message before its arguments. */
+    private static final int FIXED_FIELDS = 9;
+
+    /** The index of the number of arguments in the fields of a message. */
+    private static final int ARGS_COUNT_INDEX = FIXED_FIELDS - 1;
+
+    /** The type of integer arguments. */
+    private static final char INTEGER_TYPE = 'i';
+
+    /** The type of long arguments. */
+    private static final char LONG_TYPE = 'l';
+
+    /** The type of floating point arguments. */
+    private static final char DOUBLE_TYPE = 'd';
+
+    /** The type of the other arguments, converted to strings. */
+    private static final char STRING_TYPE = 's';
+
+    /** Splits messages. */
+    private static final Splitter MESSAGE_SPLITTER =
+            Splitter.on(MESSAGE_SEPARATOR).omitEmptyStrings();
+
+    /** Splits the fields of a message. */
+    private static final Splitter FIELD_SPLITTER = Splitter.on(FIELD_SEPARATOR);
+
+    /** Prevent instances. */
+    private CachedMessages() {
+    }
+
+    /**
+     * Converts messages to the form they are stored in.
+     * @param messages the messages
+     * @return the messages, one per line, empty if there are no messages
+     */
+    static String serialize(SortedSet<LocalizedMessage> messages) {
+        final StringBuilder result = new StringBuilder();
+        for (final LocalizedMessage message : messages) {
+            final Object[] args = message.getArgs();
+            final List<String> fields = Lists.newArrayList(
+                    String.valueOf(message.getLineNo()),
+                    String.valueOf(message.getColumnNo()),
+                    message.getSeverityLevel().getName(),
+                    message.getBundleName(),
+                    message.getKey(),
+                    message.getModuleId(),
+                    message.getSourceName(),
+                    message.getCustomMessage());
+            if (args == null) {
+                fields.add(null);
+            }
+            else {
+                fields.add(String.valueOf(args.length));
+                for (final Object arg : args) {
+                    fields.add(serializeArgument(arg));
+                }
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    result.append(FIELD_SEPARATOR);
+                }
+                appendEscaped(result, fields.get(i));
+            }
+            result.append(MESSAGE_SEPARATOR);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Parses stored messages.
+     * @param stored the stored messages
+     * @return the messages, or null if the messages cannot be parsed,
+     *     or if the classes of their sources are missing
+     */
+    static SortedSet<LocalizedMessage> deserialize(String stored) {
+        SortedSet<LocalizedMessage> result = Sets.newTreeSet();
+        try {
+            for (final String line : MESSAGE_SPLITTER.split(stored)) {
+                final List<String> fields = Lists.newArrayList();
+                for (final String field : FIELD_SPLITTER.split(line)) {
+                    fields.add(unescape(field));
+                }
+                result.add(parseMessage(fields));
+            }
+        }
+        catch (IllegalArgumentException | ClassNotFoundException ex) {
+            LOG.debug("Unable to parse cached messages.", ex);
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a message from its fields.
+     * @param fields the unescaped fields
+     * @return the message
+     * @throws ClassNotFoundException if the source class is missing
+     */
+    private static LocalizedMessage parseMessage(List<String> fields)
+            throws ClassNotFoundException {
+        if (fields.size() < FIXED_FIELDS) {
+            throw new IllegalArgumentException("Missing fields in " + fields);
+        }
+        Object[] args = null;
+        final String argsCount = fields.get(ARGS_COUNT_INDEX);
+        if (argsCount != null) {
+            args = new Object[Integer.parseInt(argsCount)];
+            if (fields.size() != FIXED_FIELDS + args.length) {
+                throw new IllegalArgumentException("Wrong number of arguments in " + fields);
+            }
+            for (int i = 0; i < args.length; i++) {
+                args[i] = parseArgument(fields.get(FIXED_FIELDS + i));
+            }
+        }
+        int index = 0;
+        final int lineNo = Integer.parseInt(getRequired(fields, index++));
+        final int columnNo = Integer.parseInt(getRequired(fields, index++));
+        final SeverityLevel severity = SeverityLevel.getInstance(getRequired(fields, index++));
+        final String bundle = fields.get(index++);
+        final String key = fields.get(index++);
+        final String moduleId = fields.get(index++);
+        final Class<?> sourceClass = loadSourceClass(getRequired(fields, index++));
+        final String customMessage = fields.get(index);
+        return new LocalizedMessage(lineNo, columnNo, bundle, key, args, severity, moduleId,
+                sourceClass, customMessage);
+    }
+
+    /**
+     * Gets a field that cannot be null.
+     * @param fields the fields of a message
+     * @param index the index of the field
+     * @return the field
+     */
+    private static String getRequired(List<String> fields, int index) {
+        final String field = fields.get(index);
+        if (field == null) {
+            throw new IllegalArgumentException("Missing field " + index + " in " + fields);
+        }
+        return field;
+    }
+
+    /**
+     * Converts an argument of a message to a field.
+     * @param arg the argument
+     * @return the field, with the type of the argument as first character,
+     *     or null if the argument is null
+     */
+    private static String serializeArgument(Object arg) {
+        final String result;
+        if (arg == null) {
+            result = null;
+        }
+        else if (arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+            result = INTEGER_TYPE + arg.toString();
+        }
+        else if (arg instanceof Long) {
+            result = LONG_TYPE + arg.toString();
+        }
+        else if (arg instanceof Double || arg instanceof Float) {
+            result = DOUBLE_TYPE + arg.toString();
+        }
+        else {
+            result = STRING_TYPE + arg.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Parses an argument of a message.
+     * @param field the field of the argument
+     * @return the argument
+     */
+    private static Object parseArgument(String field) {
+        Object result = null;
+        if (field != null) {
+            if (field.isEmpty()) {
+                throw new IllegalArgumentException("Missing type of argument");
+            }
+            final String value = field.substring(1);
+            switch (field.charAt(0)) {
+                case INTEGER_TYPE:
+                    result = Integer.valueOf(value);
+                    break;
+                case LONG_TYPE:
+                    result = Long.valueOf(value);
+                    break;
+                case DOUBLE_TYPE:
+                    result = Double.valueOf(value);
+                    break;
+                case STRING_TYPE:
+                    result = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown type of argument " + field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the source class of a message without initializing it.
+     * @param name the name of the class
+     * @return the class
+     * @throws ClassNotFoundException if the class is missing
+     */
+    private static Class<?> loadSourceClass(String name) throws ClassNotFoundException {
+        Class<?> result;
+        try {
+            result = Class.forName(name, false, CachedMessages.class.getClassLoader());
+        }
+        catch (ClassNotFoundException ex) {
+            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader == null) {
+                throw ex;
+            }
+            result = Class.forName(name, false, contextClassLoader);
+        }
+        return result;
+    }
+
+    /**
+     * Appends a field, escaping the separators and the escape character.
+     * @param builder the builder to append to
+     * @param field the field, may be null
+     */
+    private static void appendEscaped(StringBuilder builder, String field) {
+        if (field == null) {
+            builder.append(NULL_FIELD);
+        }
+        else {
+            for (int i = 0; i < field.length(); i++) {
+                final char character = field.charAt(i);
+                switch (character) {
+                    case ESCAPE:
+                        builder.append(ESCAPE).append(ESCAPE);
+                        break;
+                    case FIELD_SEPARATOR:
+                        builder.append(ESCAPE).append('t');
+                        break;
+                    case MESSAGE_SEPARATOR:
+                        builder.append(ESCAPE).append('n');
+                        break;
+                    case '\r':
+                        builder.append(ESCAPE).append('r');
+                        break;
+                    default:
+                        builder.append(character);
+                }
+            }
+        }
+    }
+
+    /**
+     * Unescapes a field.
+     * @param field the escaped field
+     * @return the field, null if the field is null
+     */
+    private static String unescape(String field) {
+        String result = null;
+        if (!NULL_FIELD.equals(field)) {
+            final StringBuilder builder = new StringBuilder(field.length());
+            int index = 0;
+            while (index < field.length()) {
+                char character = field.charAt(index);
+                if (character == ESCAPE) {
+                    index++;
+                    if (index == field.length()) {
+                        throw new IllegalArgumentException("Unfinished escape in " + field);
+                    }
+                    character = unescape(field.charAt(index));
+                }
+                builder.append(character);
+                index++;
+            }
+            result = builder.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Gets the character of an escape sequence.
+     * @param escaped the character following the escape character
+     * @return the character
+     */
+    private static char unescape(char escaped) {
+        final char result;
+        switch (escaped) {
+            case ESCAPE:
+                result = ESCAPE;
+                break;
+            case 't':
+                result = FIELD_SEPARATOR;
+                break;
+            case 'n':
+                result = MESSAGE_SEPARATOR;
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown escape " + escaped);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Map;
+
+import com.google.common.collect.Maps;
+
+/**
+ * The changed lines of files, for audits that only report violations on the
+ * lines that changed, like the audits of pull requests. Violations that are
+ * not on a line, like those about a whole file, belong to line 0, which is
+ * changed in every changed file. Files are identified by their canonical path.
+ * @see ChangedLinesLoader
+ * @author the original author or authors.
+ */
+public final class ChangedLines {
+    /** The numbers of the changed lines by canonical path of their file. */
+    private final Map<String, BitSet> lines = Maps.newHashMap();
+
+    /**
+     * Marks lines of a file as changed.
+     * @param file the file
+     * @param firstLine the number of the first changed line, starting at 1
+     * @param lastLine the number of the last changed line
+     */
+    public void addLines(File file, int firstLine, int lastLine) {
+        final String path = getPath(file);
+        BitSet fileLines = lines.get(path);
+        if (fileLines == null) {
+            fileLines = new BitSet();
+            fileLines.set(0);
+            lines.put(path, fileLines);
+        }
+        fileLines.set(firstLine, lastLine + 1);
+    }
+
+    /**
+     * Checks whether a file has changed lines.
+     * @param file the file
+     * @return true if some lines of the file changed
+     */
+    public boolean isChanged(File file) {
+        return lines.containsKey(getPath(file));
+    }
+
+    /**
+     * Gets the changed lines of a file.
+     * @param fileName the name of the file
+     * @return the numbers of the changed lines, which must not be modified,
+     *     empty if the file did not change
+     */
+    BitSet getLines(String fileName) {
+        BitSet fileLines = lines.get(getPath(new File(fileName)));
+        if (fileLines == null) {
+            fileLines = new BitSet();
+        }
+        return fileLines;
+    }
+
+    /**
+     * Gets the canonical path of a file, or its absolute path if the
+     * canonical path cannot be computed.
+     * @param file the file
+     * @return the path of the file
+     */
+    private static String getPath(File file) {
+        String path;
+        try {
+            path = file.getCanonicalPath();
+        }
+        catch (IOException ignored) {
+            path = file.getAbsolutePath();
+        }
+        return path;
+    }
+}
@@ -0,0 +1,78 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Loads the lines of the files of a git working tree that differ from
+ * a revision. JGit, an optional dependency, is only loaded by this class
+ * when the lines are loaded.
+ * @author the original author or authors.
+ */
+public final class ChangedLinesLoader {
+    /** Name of a JGit class, to check that JGit is on the class path. */
+    private static final String JGIT_CLASS_NAME = "org.eclipse.jgit.lib.Repository";
+
+    /** Prevents instantiation. */
+    private ChangedLinesLoader() {
+    }
+
+    /**
+     * Loads the lines of the files of a git working tree that differ from
+     * a revision. Lines that are not committed yet, and files that are not
+     * tracked yet but not ignored either, are changed. Renamed files keep
+     * the lines they had before, and deleted lines are not reported.
+     * @param directory a directory of the working tree
+     * @param revision the revision to compare the working tree with,
+     *     like {@code HEAD} or {@code origin/master}
+     * @return the changed lines
+     * @throws CheckstyleException if JGit is not on the class path, the directory
+     *     is not in a git working tree, the revision is not found or the
+     *     repository cannot be read
+     */
+    public static ChangedLines loadChangedLines(File directory, String revision)
+            throws CheckstyleException {
+        if (!isClassAvailable(ChangedLinesLoader.class.getClassLoader(), JGIT_CLASS_NAME)) {
+            throw new CheckstyleException("JGit is required to find the lines changed since "
+                    + revision + ", but it is not on the class path");
+        }
+        return GitChangedLinesLoader.loadChangedLines(directory, revision);
+    }
+
+    /**
+     * Checks whether a class can be loaded, without initializing it.
+     * @param classLoader the class loader to load the class with
+     * @param className the name of the class
+     * @return true if the class can be loaded
+     */
+    static boolean isClassAvailable(ClassLoader classLoader, String className) {
+        boolean available = true;
+        try {
+            Class.forName(className, false, classLoader);
+        }
+        catch (ClassNotFoundException ignored) {
+            available = false;
+        }
+        return available;
+    }
+}
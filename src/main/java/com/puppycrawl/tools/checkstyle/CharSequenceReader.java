@@ -0,0 +1,73 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.Reader;
+
+/**
+ * Reads a character sequence without copying it, and unlike
+ * {@link java.io.StringReader} without locking for each character,
+ * which is how the lexer reads its input.
+ * @author the original author or authors.
+ */
+final class CharSequenceReader extends Reader {
+    /** The text. */
+    private CharSequence text = "";
+
+    /** The position of the next character. */
+    private int position;
+
+    /**
+     * Starts reading a text.
+     * @param newText the text
+     */
+    public void setText(CharSequence newText) {
+        text = newText;
+        position = 0;
+    }
+
+    @Override
+    public int read() {
+        int result = -1;
+        if (position < text.length()) {
+            result = text.charAt(position);
+            position++;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        int result = -1;
+        if (position < text.length()) {
+            result = Math.min(length, text.length() - position);
+            for (int i = 0; i < result; i++) {
+                buffer[offset + i] = text.charAt(position + i);
+            }
+            position += result;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        text = "";
+    }
+}
@@ -23,14 +23,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -41,11 +41,12 @@ import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
-import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.Filter;
 import com.puppycrawl.tools.checkstyle.api.FilterSet;
 import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 import com.puppycrawl.tools.checkstyle.api.MessageDispatcher;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileListener;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevelCounter;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
@@ -57,9 +58,6 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  * @author lkuehne
  */
 public class Checker extends AutomaticBean implements MessageDispatcher {
-    /** Logger for Checker. */
-    private static final Log LOG = LogFactory.getLog(Checker.class);
-
     /** Maintains error count. */
     private final SeverityLevelCounter counter = new SeverityLevelCounter(
             SeverityLevel.ERROR);
@@ -70,6 +68,9 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
     /** Vector of fileset checks. */
     private final List<FileSetCheck> fileSetChecks = Lists.newArrayList();
 
+    /** Runs the fileset checks on the files of the audits. */
+    private final FileSetCheckRunner runner = new FileSetCheckRunner(this);
+
     /** The audit event filters. */
     private final FilterSet filters = new FilterSet();
 
@@ -112,6 +113,21 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
     /** Name of a charset. */
     private String charset = System.getProperty("file.encoding", "UTF-8");
 
+    /**
+     * Maximum number of audit events waiting for each listener,
+     * 0 if listeners are notified synchronously.
+     */
+    private int listenerQueueSize;
+
+    /** Whether the cost of the modules and files of audits is measured. */
+    private boolean profile;
+
+    /** Profiler of the audits, null if audits are not profiled. */
+    private Profiler profiler;
+
+    /** The changed lines of the files, null to audit all the files and lines. */
+    private ChangedLines changedLines;
+
     /**
      * Creates a new {@code Checker} instance.
      * The instance needs to be contextualized and configured.
@@ -135,8 +151,10 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
 
             final Set<String> packageNames = PackageNamesLoader
                     .getPackageNames(moduleClassLoader);
+            final Map<String, String> moduleNames = PackageNamesLoader
+                    .getModuleNames(moduleClassLoader);
             moduleFactory = new PackageObjectFactory(packageNames,
-                    moduleClassLoader);
+                    moduleNames, moduleClassLoader);
         }
 
         final DefaultContext context = new DefaultContext();
@@ -145,7 +163,12 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
         context.add("moduleFactory", moduleFactory);
         context.add("severity", severityLevel.getName());
         context.add("basedir", basedir);
+        if (profile) {
+            profiler = new Profiler();
+            context.add("profiler", profiler);
+        }
         childContext = context;
+        runner.setChildContext(moduleFactory, childContext);
     }
 
     @Override
@@ -171,6 +194,7 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
             final FileSetCheck fsc = (FileSetCheck) child;
             fsc.init();
             addFileSetCheck(fsc);
+            runner.addConfiguration(fsc, childConf);
         }
         else if (child instanceof Filter) {
             final Filter filter = (Filter) child;
@@ -244,44 +268,64 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
      * @see #destroy()
      */
     public int process(List<File> files) throws CheckstyleException {
+        return process((Iterable<File>) files);
+    }
+
+    /**
+     * Processes files with all FileSetChecks, as the iterator of the given
+     * iterable returns them, so files can be audited while the next ones
+     * are still being found. If a listener queue size is set, the listeners,
+     * except the error counter, are notified asynchronously during the audit;
+     * the error counter stays synchronous, as the number of errors is needed
+     * before the audit finishes.
+     * Once this is done, it is highly recommended to call for
+     * the destroy method to close and remove the listeners.
+     * @param files the files to be audited.
+     * @return the total number of errors found
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     * @see #destroy()
+     * @see FileScanner
+     */
+    public int process(Iterable<File> files) throws CheckstyleException {
+        final List<AuditListener> registeredListeners = Lists.newArrayList(listeners);
+        final List<AsyncAuditListener> asyncListeners = Lists.newArrayList();
+        if (listenerQueueSize > 0) {
+            for (int i = 0; i < listeners.size(); i++) {
+                final AuditListener listener = listeners.get(i);
+                if (listener != counter) {
+                    final AsyncAuditListener asyncListener =
+                            new AsyncAuditListener(listener, listenerQueueSize);
+                    asyncListeners.add(asyncListener);
+                    listeners.set(i, asyncListener);
+                }
+            }
+        }
+        try {
+            return processFiles(files);
+        }
+        finally {
+            for (final AsyncAuditListener asyncListener : asyncListeners) {
+                asyncListener.close();
+            }
+            listeners.clear();
+            listeners.addAll(registeredListeners);
+        }
+    }
+
+    /**
+     * Processes a set of files with all FileSetChecks and notifies the listeners.
+     * @param files the list of files to be audited.
+     * @return the total number of errors found
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    private int processFiles(Iterable<File> files) throws CheckstyleException {
         // Prepare to start
         fireAuditStarted();
         for (final FileSetCheck fsc : fileSetChecks) {
             fsc.beginProcessing(charset);
         }
 
-        // Process each file
-        for (final File file : files) {
-            try {
-                if (!CommonUtils.matchesFileExtension(file, fileExtensions)) {
-                    continue;
-                }
-                final String fileName = file.getAbsolutePath();
-                fireFileStarted(fileName);
-                final SortedSet<LocalizedMessage> fileMessages = Sets.newTreeSet();
-                try {
-                    final FileText theText = new FileText(file.getAbsoluteFile(),
-                            charset);
-                    for (final FileSetCheck fsc : fileSetChecks) {
-                        fileMessages.addAll(fsc.process(file, theText));
-                    }
-                }
-                catch (final IOException ioe) {
-                    LOG.debug("IOException occurred.", ioe);
-                    fileMessages.add(new LocalizedMessage(0,
-                            Definitions.CHECKSTYLE_BUNDLE, "general.exception",
-                            new String[] {ioe.getMessage()}, null, getClass(),
-                            null));
-                }
-                fireErrors(fileName, fileMessages);
-                fireFileFinished(fileName);
-            }
-            catch (Exception ex) {
-                // We need to catch all exception to put a reason failure(file name) in exception
-                throw new CheckstyleException("Exception was thrown while processing "
-                        + file.getPath(), ex);
-            }
-        }
+        runner.process(files, fileSetChecks, charset, profiler);
 
         // Finish up
         for (final FileSetCheck fsc : fileSetChecks) {
@@ -294,11 +338,32 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
             fsc.destroy();
         }
 
+        if (profiler != null) {
+            final AuditEvent event = new AuditEvent(this);
+            final Profile auditProfile = profiler.collectProfile();
+            for (final AuditListener listener : listeners) {
+                if (listener instanceof ProfileListener) {
+                    ((ProfileListener) listener).addProfile(event, auditProfile);
+                }
+            }
+        }
+
         final int errorCount = counter.getCount();
         fireAuditFinished();
         return errorCount;
     }
 
+    /**
+     * Checks whether a file is audited, according to its extension and,
+     * when only changed lines are audited, to its changes.
+     * @param file the file
+     * @return true if the file is audited
+     */
+    boolean isAudited(File file) {
+        return CommonUtils.matchesFileExtension(file, fileExtensions)
+                && (changedLines == null || changedLines.isChanged(file));
+    }
+
     /**
      * Sets base directory.
      * @param basedir the base directory to strip off in file names
@@ -361,10 +426,48 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
      */
     @Override
     public void fireErrors(String fileName, SortedSet<LocalizedMessage> errors) {
+        fireFilteredErrors(fileName, filterErrors(fileName, errors));
+    }
+
+    /**
+     * Applies the audit event filters to the errors in a file.
+     * Filters may rely on the state of the thread that processed the file,
+     * so this is called on that thread.
+     *
+     * @param fileName the audited file
+     * @param errors the audit errors from the file
+     * @return the errors accepted by all filters
+     */
+    SortedSet<LocalizedMessage> filterErrors(String fileName,
+            SortedSet<LocalizedMessage> errors) {
         final String stripped = CommonUtils.relativizeAndNormalizePath(basedir, fileName);
+        final SortedSet<LocalizedMessage> accepted = Sets.newTreeSet();
+        synchronized (filters) {
+            for (final LocalizedMessage element : errors) {
+                final AuditEvent event = new AuditEvent(this, stripped, element);
+                if (filters.accept(event)) {
+                    accepted.add(element);
+                }
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Notify all listeners about the errors in a file that passed the filters.
+     *
+     * @param fileName the audited file
+     * @param errors the filtered audit errors from the file
+     */
+    void fireFilteredErrors(String fileName, SortedSet<LocalizedMessage> errors) {
+        final String stripped = CommonUtils.relativizeAndNormalizePath(basedir, fileName);
+        BitSet fileLines = null;
+        if (changedLines != null) {
+            fileLines = changedLines.getLines(fileName);
+        }
         for (final LocalizedMessage element : errors) {
-            final AuditEvent event = new AuditEvent(this, stripped, element);
-            if (filters.accept(event)) {
+            if (fileLines == null || fileLines.get(element.getLineNo())) {
+                final AuditEvent event = new AuditEvent(this, stripped, element);
                 for (final AuditListener listener : listeners) {
                     listener.addError(event);
                 }
@@ -480,4 +583,74 @@ public class Checker extends AutomaticBean implements MessageDispatcher {
         }
         this.charset = charset;
     }
+
+    /**
+     * Sets the number of threads used to process files.
+     * @param threads the number of threads, must be positive
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
+        }
+        runner.setThreads(threads);
+    }
+
+    /**
+     * Sets the maximum number of audit events waiting for each listener.
+     * If it is positive, listeners are notified asynchronously by a thread
+     * of their own, in the order the events are fired, and firing an event
+     * waits while the queue of a listener is full.
+     * @param listenerQueueSize the maximum number of events waiting for
+     *     each listener, 0 to notify listeners synchronously
+     */
+    public void setListenerQueueSize(int listenerQueueSize) {
+        if (listenerQueueSize < 0) {
+            throw new IllegalArgumentException(
+                    "Listener queue size must not be negative: " + listenerQueueSize);
+        }
+        this.listenerQueueSize = listenerQueueSize;
+    }
+
+    /**
+     * Sets whether audits are profiled. If they are, the number of calls,
+     * the elapsed time, the CPU time and the allocated bytes of the checks
+     * and fileset checks, of parsing and of the files are measured, and
+     * sent to the listeners implementing {@link ProfileListener} before the
+     * audit finishes. Must be set before the Checker is configured.
+     * @param profile whether audits are profiled
+     */
+    public void setProfile(boolean profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Restricts audits to changed lines. Files without changed lines are
+     * not processed, and errors on lines that did not change are dropped
+     * before the listeners are notified. Errors are still filtered and
+     * cached as in a full audit, so the cache stays valid for full audits.
+     * @param changedLines the changed lines of the files,
+     *     null to audit all the files and lines
+     */
+    public void setChangedLines(ChangedLines changedLines) {
+        this.changedLines = changedLines;
+    }
+
+    /**
+     * Sets cache file.
+     * @param fileName the cache file
+     * @throws IOException if there are some problems with file loading
+     */
+    public void setCacheFile(String fileName) throws IOException {
+        runner.setCacheFile(fileName, getConfiguration());
+    }
+
+    /**
+     * Sets how the cache identifies files that did not change.
+     * @param cacheMode {@code timestamp} to compare the timestamps of files,
+     *     {@code content} to compare digests of their contents
+     * @throws IOException if there are some problems with file loading
+     */
+    public void setCacheMode(String cacheMode) throws IOException {
+        runner.setCacheMode(CacheMode.getInstance(cacheMode), getConfiguration());
+    }
 }
@@ -0,0 +1,442 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
+
+/**
+ * Audits files on behalf of clients, keeping a configured Checker for every
+ * configuration, so requests do not pay for starting the JVM, loading the
+ * configuration and creating the modules. A Checker is configured again
+ * when the content of its configuration file, of its properties file or
+ * of a local file the configuration refers to, like a suppressions file,
+ * changes.
+ *
+ * <p>Clients connect to a port of the loopback address and send lines encoded
+ * in UTF-8: the token of the daemon, the working directory of the client,
+ * the location of the configuration, the location of the properties file or
+ * an empty line to use the system properties, the output format, the paths
+ * of the files to audit and an empty line. Relative paths of the request
+ * are resolved against the working directory of the client, while the paths
+ * in the configuration are resolved against the working directory of the
+ * daemon, like the other resources the modules load. The daemon answers
+ * with a line holding the number of errors followed by the report, or with
+ * a line holding {@value #FAILURE_STATUS} followed by the description of the
+ * failure. Requests are served one at a time. Requests without the token,
+ * which {@link CheckstyleDaemonToken} writes to a file only the owner of the
+ * daemon can read, are rejected. {@link CheckstyleDaemonClient} sends such requests.
+ * @author the original author or authors.
+ */
+public final class CheckstyleDaemon implements Closeable {
+    /** Status of the responses to requests that failed. */
+    public static final int FAILURE_STATUS = -2;
+
+    /** End of the lines of requests and responses. */
+    static final char LINE_END = '\n';
+
+    /** Milliseconds to wait for the lines of a request. */
+    private static final int REQUEST_TIMEOUT = 10000;
+
+    /** Typical Javadoc comments, without delimiters, to warm up the Javadoc parser with. */
+    private static final String[] WARM_UP_JAVADOC_COMMENTS = {
+        "*\n * Summary of the {@link Object method}, with <b>HTML</b>.\n *\n"
+            + " * <p>Details of the {@code value}.</p>\n * @param value the value\n"
+            + " * @return the result\n * @throws IllegalStateException if it fails\n"
+            + " * @see Object#toString()\n ",
+        "*\n * <ul>\n * <li>item</li>\n * </ul>\n * <pre>code</pre>\n"
+            + " * @author name\n * @deprecated {@inheritDoc}\n ",
+    };
+
+    /** The socket accepting the connections of clients. */
+    private final ServerSocket serverSocket;
+
+    /** The token clients must send with their requests. */
+    private final String token;
+
+    /** The file holding the token. */
+    private final Path tokenFile;
+
+    /** The checkers by location of their configuration and properties file. */
+    private final Map<String, ConfiguredChecker> checkers = Maps.newHashMap();
+
+    /** The number of threads of the checkers, 0 if not specified. */
+    private int threads;
+
+    /** Whether the daemon is closed. */
+    private volatile boolean closed;
+
+    /**
+     * Creates a daemon listening on a port of the loopback address, which writes
+     * its token to the default directory of tokens.
+     * @param port the port, 0 for any free port
+     * @throws IOException if the port cannot be listened to or the token cannot be written
+     */
+    public CheckstyleDaemon(int port) throws IOException {
+        this(port, CheckstyleDaemonToken.getDefaultDirectory());
+    }
+
+    /**
+     * Creates a daemon listening on a port of the loopback address.
+     * @param port the port, 0 for any free port
+     * @param tokenDirectory the directory to write the token to
+     * @throws IOException if the port cannot be listened to or the token cannot be written
+     */
+    public CheckstyleDaemon(int port, File tokenDirectory) throws IOException {
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        tokenFile = CheckstyleDaemonToken.getFile(tokenDirectory, getPort()).toPath();
+        try {
+            token = CheckstyleDaemonToken.create(tokenFile);
+        }
+        catch (IOException ex) {
+            serverSocket.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Sets the number of threads the checkers process files with.
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the port the daemon listens to.
+     * @return the port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Serves requests until the daemon is closed. The Javadoc parser is
+     * warmed up first, so the first requests do not pay for filling its
+     * prediction cache.
+     * @throws IOException if connections cannot be accepted
+     */
+    public void run() throws IOException {
+        AbstractJavadocCheck.warmUpParser(WARM_UP_JAVADOC_COMMENTS);
+        while (!closed) {
+            final Socket socket = accept();
+            if (socket != null) {
+                serve(socket);
+            }
+        }
+    }
+
+    /**
+     * Stops listening to the port, which makes {@link #run()} return,
+     * and deletes the file of the token.
+     * @throws IOException if the socket cannot be closed or the file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        Files.deleteIfExists(tokenFile);
+    }
+
+    /**
+     * Waits for the connection of a client.
+     * @return the socket of the client, null if the daemon was closed
+     * @throws IOException if the connection cannot be accepted
+     */
+    private Socket accept() throws IOException {
+        Socket socket = null;
+        try {
+            socket = serverSocket.accept();
+        }
+        catch (SocketException ex) {
+            if (!closed) {
+                throw ex;
+            }
+        }
+        return socket;
+    }
+
+    /**
+     * Serves the request of a client and closes its socket.
+     * @param socket the socket of the client
+     */
+    private void serve(Socket socket) {
+        try (Socket client = socket) {
+            client.setSoTimeout(REQUEST_TIMEOUT);
+            final ByteArrayOutputStream report = new ByteArrayOutputStream();
+            int status;
+            try {
+                status = audit(new BufferedReader(new InputStreamReader(
+                        client.getInputStream(), StandardCharsets.UTF_8)), report);
+            }
+            catch (CheckstyleException ex) {
+                status = FAILURE_STATUS;
+                writeFailure(report, ex);
+            }
+            catch (RuntimeException | Error ex) {
+                // a failing module must not stop the daemon, but it may leave
+                // its checker in any state, so the checkers are configured again
+                destroyCheckers();
+                status = FAILURE_STATUS;
+                writeFailure(report, ex);
+            }
+            final OutputStream response = client.getOutputStream();
+            response.write((Integer.toString(status) + LINE_END)
+                    .getBytes(StandardCharsets.UTF_8));
+            report.writeTo(response);
+            response.flush();
+        }
+        catch (IOException ignored) {
+            // the client left or did not send its request in time,
+            // there is nobody to answer to
+        }
+    }
+
+    /**
+     * Replaces a report with the description of the failure of an audit.
+     * @param report the report
+     * @param failure the failure
+     */
+    private static void writeFailure(ByteArrayOutputStream report, Throwable failure) {
+        report.reset();
+        final byte[] description = Throwables.getStackTraceAsString(failure)
+                .getBytes(StandardCharsets.UTF_8);
+        report.write(description, 0, description.length);
+    }
+
+    /** Destroys the checkers, so the next requests configure new ones. */
+    private void destroyCheckers() {
+        for (final ConfiguredChecker checker : checkers.values()) {
+            checker.getChecker().destroy();
+        }
+        checkers.clear();
+    }
+
+    /**
+     * Reads a request and audits its files.
+     * @param request the lines of the request
+     * @param report the stream to write the report to
+     * @return the number of errors
+     * @throws IOException if the request cannot be read
+     * @throws CheckstyleException if the request is invalid or the audit fails
+     */
+    private int audit(BufferedReader request, OutputStream report)
+            throws IOException, CheckstyleException {
+        final byte[] requestToken = readLine(request).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), requestToken)) {
+            throw new CheckstyleException("Invalid token");
+        }
+        final File workingDirectory = new File(readLine(request));
+        String configLocation = readLine(request);
+        final File configFile = resolve(workingDirectory, configLocation);
+        if (configFile.exists()) {
+            configLocation = configFile.getPath();
+        }
+        String propertiesLocation = Strings.emptyToNull(readLine(request));
+        if (propertiesLocation != null) {
+            propertiesLocation = resolve(workingDirectory, propertiesLocation).getPath();
+        }
+        final String format = readLine(request);
+        final List<File> files = Lists.newArrayList();
+        for (String line = readLine(request); !line.isEmpty(); line = readLine(request)) {
+            files.add(resolve(workingDirectory, line));
+        }
+        if (!Main.isValidFormat(format)) {
+            throw new CheckstyleException("Invalid output format " + format);
+        }
+
+        final Checker checker = getChecker(configLocation, propertiesLocation);
+        final AuditListener listener = Main.createListener(format, report, true);
+        checker.addListener(listener);
+        try {
+            return checker.process(files);
+        }
+        finally {
+            checker.removeListener(listener);
+        }
+    }
+
+    /**
+     * Resolves a path of a request against the working directory of the client.
+     * @param workingDirectory the working directory of the client
+     * @param path the path
+     * @return the file
+     */
+    private static File resolve(File workingDirectory, String path) {
+        File file = new File(path);
+        if (!file.isAbsolute()) {
+            file = new File(workingDirectory, path);
+        }
+        return file;
+    }
+
+    /**
+     * Reads a line of a request.
+     * @param request the lines of the request
+     * @return the line
+     * @throws IOException if the line cannot be read
+     * @throws CheckstyleException if the request ends before the line
+     */
+    private static String readLine(BufferedReader request)
+            throws IOException, CheckstyleException {
+        final String line = request.readLine();
+        if (line == null) {
+            throw new CheckstyleException("Incomplete request");
+        }
+        return line;
+    }
+
+    /**
+     * Gets the checker of a configuration, which is configured again if the
+     * configuration file, the properties file or a local file the configuration
+     * refers to changed since it was last used.
+     * @param configLocation the location of the configuration
+     * @param propertiesLocation the location of the properties file,
+     *     null to use the system properties
+     * @return the checker
+     * @throws CheckstyleException if the checker cannot be configured
+     */
+    private Checker getChecker(String configLocation, String propertiesLocation)
+            throws CheckstyleException {
+        final String key = configLocation + LINE_END + propertiesLocation;
+        final HashCode hash = hash(configLocation, propertiesLocation);
+        ConfiguredChecker checker = checkers.get(key);
+        if (checker == null || !checker.isUpToDate(hash)) {
+            if (checker != null) {
+                checkers.remove(key);
+                checker.getChecker().destroy();
+            }
+            checker = new ConfiguredChecker(
+                    Main.loadConfiguration(configLocation, propertiesLocation), hash, threads);
+            checkers.put(key, checker);
+        }
+        return checker.getChecker();
+    }
+
+    /**
+     * Hashes the content of a configuration file and a properties file.
+     * @param configLocation the location of the configuration
+     * @param propertiesLocation the location of the properties file, may be null
+     * @return the hash of their content
+     * @throws CheckstyleException if a file cannot be read
+     */
+    private static HashCode hash(String configLocation, String propertiesLocation)
+            throws CheckstyleException {
+        final Hasher hasher = Hashing.sha1().newHasher();
+        try {
+            hasher.putBytes(Resources.toByteArray(
+                    CommonUtils.getUriByFilename(configLocation).toURL()));
+            if (propertiesLocation != null) {
+                hasher.putBytes(Files.readAllBytes(new File(propertiesLocation).toPath()));
+            }
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to read the configuration "
+                    + configLocation + " or the properties file " + propertiesLocation, ex);
+        }
+        return hasher.hash();
+    }
+
+    /**
+     * A checker with the hashes telling whether its configuration changed.
+     */
+    private static final class ConfiguredChecker {
+        /** The checker. */
+        private final Checker checker;
+
+        /** The configuration of the checker. */
+        private final Configuration configuration;
+
+        /** The hash of the configuration file and properties file. */
+        private final HashCode filesHash;
+
+        /** The hash of the configuration and of the local files it refers to. */
+        private final String resourcesHash;
+
+        /**
+         * Creates a checker.
+         * @param configuration the configuration of the checker
+         * @param filesHash the hash of the configuration file and properties file
+         * @param threads the number of threads of the checker, 0 if not specified
+         * @throws CheckstyleException if the checker cannot be configured
+         */
+        ConfiguredChecker(Configuration configuration, HashCode filesHash, int threads)
+                throws CheckstyleException {
+            this.configuration = configuration;
+            this.filesHash = filesHash;
+            resourcesHash = PropertyCacheFile.getConfigAndResourcesHashCode(configuration);
+            checker = new Checker();
+            checker.setModuleClassLoader(Checker.class.getClassLoader());
+            checker.configure(configuration);
+            if (threads > 0) {
+                checker.setThreads(threads);
+            }
+        }
+
+        /**
+         * Gets the checker.
+         * @return the checker
+         */
+        public Checker getChecker() {
+            return checker;
+        }
+
+        /**
+         * Checks whether the configuration of the checker did not change.
+         * @param currentFilesHash the current hash of the configuration file
+         *     and properties file
+         * @return true if neither these files nor the local files the
+         *     configuration refers to changed
+         */
+        public boolean isUpToDate(HashCode currentFilesHash) {
+            return filesHash.equals(currentFilesHash) && resourcesHash.equals(
+                    PropertyCacheFile.getConfigAndResourcesHashCode(configuration));
+        }
+    }
+}
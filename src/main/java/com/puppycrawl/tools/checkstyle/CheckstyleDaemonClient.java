@@ -0,0 +1,137 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Ints;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Sends files to audit to a {@link CheckstyleDaemon}, which is much faster
+ * than running a Checker in a new JVM for a few files.
+ * @author the original author or authors.
+ */
+public final class CheckstyleDaemonClient {
+    /** End of the lines of requests and responses. */
+    private static final char LINE_END = CheckstyleDaemon.LINE_END;
+
+    /** Prevents instantiation. */
+    private CheckstyleDaemonClient() {
+    }
+
+    /**
+     * Asks the daemon listening on a port of the loopback address to audit files,
+     * reading its token from the default directory of tokens.
+     * @param port the port of the daemon
+     * @param configLocation the location of the configuration
+     * @param propertiesLocation the path of the properties file,
+     *     null to use the system properties of the daemon
+     * @param format the output format
+     * @param files the files to audit
+     * @param report the stream to copy the report of the daemon to
+     * @return the number of errors
+     * @throws CheckstyleException if the daemon cannot be reached or fails to audit the files
+     */
+    public static int audit(int port, String configLocation, String propertiesLocation,
+            String format, List<File> files, OutputStream report) throws CheckstyleException {
+        return audit(CheckstyleDaemonToken.getDefaultDirectory(), port, configLocation,
+                propertiesLocation, format, files, report);
+    }
+
+    /**
+     * Asks the daemon listening on a port of the loopback address to audit files.
+     * @param tokenDirectory the directory the daemon wrote its token to
+     * @param port the port of the daemon
+     * @param configLocation the location of the configuration
+     * @param propertiesLocation the path of the properties file,
+     *     null to use the system properties of the daemon
+     * @param format the output format
+     * @param files the files to audit
+     * @param report the stream to copy the report of the daemon to
+     * @return the number of errors
+     * @throws CheckstyleException if the daemon cannot be reached or fails to audit the files
+     */
+    static int audit(File tokenDirectory, int port, String configLocation,
+            String propertiesLocation, String format, List<File> files, OutputStream report)
+            throws CheckstyleException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            final Writer request = new OutputStreamWriter(socket.getOutputStream(),
+                    StandardCharsets.UTF_8);
+            final String token = CheckstyleDaemonToken.read(
+                    CheckstyleDaemonToken.getFile(tokenDirectory, port).toPath());
+            final StringBuilder lines = new StringBuilder()
+                    .append(token).append(LINE_END)
+                    .append(System.getProperty("user.dir")).append(LINE_END)
+                    .append(configLocation).append(LINE_END)
+                    .append(Strings.nullToEmpty(propertiesLocation)).append(LINE_END)
+                    .append(format).append(LINE_END);
+            for (File file : files) {
+                lines.append(file.getAbsolutePath()).append(LINE_END);
+            }
+            request.write(lines.append(LINE_END).toString());
+            request.flush();
+            return readResponse(socket.getInputStream(), report);
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to audit files with the daemon on port "
+                    + port, ex);
+        }
+    }
+
+    /**
+     * Reads the response of the daemon to a request.
+     * @param input the stream of the response
+     * @param report the stream to copy the report to
+     * @return the number of errors
+     * @throws IOException if the response cannot be read
+     * @throws CheckstyleException if the daemon failed to audit the files
+     */
+    private static int readResponse(InputStream input, OutputStream report)
+            throws IOException, CheckstyleException {
+        final InputStream response = new BufferedInputStream(input);
+        final StringBuilder statusLine = new StringBuilder();
+        for (int read = response.read(); read != LINE_END && read != -1; read = response.read()) {
+            statusLine.append((char) read);
+        }
+        final Integer status = Ints.tryParse(statusLine.toString());
+        if (status == null) {
+            throw new CheckstyleException("Unexpected response of the daemon: " + statusLine);
+        }
+        if (status == CheckstyleDaemon.FAILURE_STATUS) {
+            throw new CheckstyleException("The daemon failed to audit the files: "
+                    + new String(ByteStreams.toByteArray(response), StandardCharsets.UTF_8));
+        }
+        ByteStreams.copy(response, report);
+        return status;
+    }
+}
@@ -0,0 +1,108 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Creates and reads the tokens of daemons. A token is a random value a
+ * {@link CheckstyleDaemon} writes to a file only its owner can read, and
+ * which clients send with their requests, so other users of the machine
+ * cannot make the daemon read files with the permissions of its owner.
+ * @author the original author or authors.
+ */
+final class CheckstyleDaemonToken {
+    /** Number of random bytes of a token. */
+    private static final int LENGTH = 32;
+
+    /** Permissions of token files on file systems supporting POSIX permissions. */
+    private static final String PERMISSIONS = "rw-------";
+
+    /** Prevents instantiation. */
+    private CheckstyleDaemonToken() {
+    }
+
+    /**
+     * Gets the directory daemons write their token to by default,
+     * {@code .checkstyle} in the home directory of the user.
+     * @return the directory
+     */
+    static File getDefaultDirectory() {
+        return new File(System.getProperty("user.home"), ".checkstyle");
+    }
+
+    /**
+     * Gets the file holding the token of the daemon listening on a port.
+     * @param directory the directory of tokens
+     * @param port the port of the daemon
+     * @return the file
+     */
+    static File getFile(File directory, int port) {
+        return new File(directory, "daemon-" + port + ".token");
+    }
+
+    /**
+     * Creates a token and writes it to a new file only its owner can read and write.
+     * @param file the file
+     * @return the token
+     * @throws IOException if the file cannot be written
+     */
+    static String create(Path file) throws IOException {
+        final byte[] randomBytes = new byte[LENGTH];
+        new SecureRandom().nextBytes(randomBytes);
+        final String token = BaseEncoding.base16().lowerCase().encode(randomBytes);
+
+        Files.createDirectories(file.getParent());
+        // a file left by a daemon which was killed may have other permissions
+        Files.deleteIfExists(file);
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString(PERMISSIONS)));
+        }
+        else {
+            final File createdFile = Files.createFile(file).toFile();
+            if (!createdFile.setReadable(false, false) || !createdFile.setReadable(true, true)
+                    || !createdFile.setWritable(false, false)
+                    || !createdFile.setWritable(true, true)) {
+                throw new IOException("Unable to restrict the permissions of " + file);
+            }
+        }
+        Files.write(file, token.getBytes(StandardCharsets.UTF_8));
+        return token;
+    }
+
+    /**
+     * Reads the token of a daemon.
+     * @param file the file holding the token
+     * @return the token
+     * @throws IOException if the file cannot be read
+     */
+    static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,307 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+import java.util.Map.Entry;
+
+import antlr.CommonHiddenStreamToken;
+import antlr.Token;
+import antlr.collections.AST;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+/**
+ * Creates the nodes of AST while parsing, and records the nodes that
+ * have comments before them, so comment nodes can be appended to AST
+ * without walking it.
+ * @author the original author or authors.
+ */
+final class CommentTrackingAstFactory extends DetailAstFactory {
+    /** Nodes with hidden comment tokens before them, in creation order. */
+    private final List<DetailAST> commentedNodes = Lists.newArrayList();
+
+    /** The node of the last token. */
+    private DetailAST lastNode;
+
+    @Override
+    public AST create(Token tok) {
+        final DetailAST node = (DetailAST) super.create(tok);
+        if (node != null) {
+            recordComments(node);
+            lastNode = node;
+        }
+        return node;
+    }
+
+    @Override
+    public AST dup(AST ast) {
+        // the parser copies modifiers and types of declarations
+        // with several variables
+        final DetailAST node = (DetailAST) super.dup(ast);
+        if (node != null) {
+            recordComments(node);
+        }
+        return node;
+    }
+
+    /**
+     * Records a node if it has hidden comment tokens before it.
+     * @param node the created node
+     */
+    private void recordComments(DetailAST node) {
+        if (node.getHiddenBefore() != null) {
+            commentedNodes.add(node);
+        }
+    }
+
+    /**
+     * Appends comment nodes to existing AST.
+     * Looks for hidden comment tokens of the nodes that this factory
+     * recorded while parsing, and appends found comment tokens as nodes
+     * in AST.
+     * @param root
+     *        root of AST created by this factory.
+     * @return root of AST with comment nodes.
+     */
+    DetailAST appendHiddenCommentNodes(DetailAST root) {
+        DetailAST result = root;
+        for (DetailAST curNode : commentedNodes) {
+            if (isLinked(curNode, root)) {
+                CommonHiddenStreamToken tokenBefore = curNode.getHiddenBefore();
+                DetailAST currentSibling = curNode;
+                while (tokenBefore != null) {
+                    final DetailAST newCommentNode =
+                             createCommentAstFromToken(tokenBefore);
+
+                    currentSibling.addPreviousSibling(newCommentNode);
+
+                    if (currentSibling == result) {
+                        result = newCommentNode;
+                    }
+
+                    currentSibling = newCommentNode;
+                    tokenBefore = tokenBefore.getHiddenBefore();
+                }
+            }
+        }
+
+        DetailAST lastAstNode = lastNode;
+        if (lastAstNode == null || !isLinked(lastAstNode, root)) {
+            lastAstNode = findLastNode(root);
+        }
+        if (lastAstNode != null) {
+            CommonHiddenStreamToken tokenAfter = lastAstNode.getHiddenAfter();
+            DetailAST currentSibling = lastAstNode;
+            while (tokenAfter != null) {
+                final DetailAST newCommentNode =
+                        createCommentAstFromToken(tokenAfter);
+
+                currentSibling.addNextSibling(newCommentNode);
+
+                currentSibling = newCommentNode;
+                tokenAfter = tokenAfter.getHiddenAfter();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a node created by the parser is linked to the AST,
+     * which is not the case for the nodes the parser discarded.
+     * @param node
+     *        the node to check.
+     * @param root
+     *        root of AST.
+     * @return true if the node is the root, or is the next sibling of its
+     *         previous sibling or the first child of its parent.
+     */
+    private static boolean isLinked(DetailAST node, DetailAST root) {
+        final DetailAST previousSibling = node.getPreviousSibling();
+        final DetailAST parent = node.getParent();
+        final boolean linked;
+        if (previousSibling != null) {
+            linked = previousSibling.getNextSibling() == node;
+        }
+        else if (parent != null) {
+            linked = parent.getFirstChild() == node;
+        }
+        else {
+            linked = node == root;
+        }
+        return linked;
+    }
+
+    /**
+     * Finds the node of AST at the greatest position in source file.
+     * @param root
+     *        root of AST.
+     * @return the last node of AST, null if AST is empty.
+     */
+    private static DetailAST findLastNode(DetailAST root) {
+        DetailAST curNode = root;
+        DetailAST lastNode = root;
+        while (curNode != null) {
+            if (isPositionGreater(curNode, lastNode)) {
+                lastNode = curNode;
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                if (toVisit == null) {
+                    curNode = curNode.getParent();
+                }
+            }
+            curNode = toVisit;
+        }
+        return lastNode;
+    }
+
+    /**
+     * Checks if position of first DetailAST is greater than position of
+     * second DetailAST. Position is line number and column number in source
+     * file.
+     * @param ast1
+     *        first DetailAST node.
+     * @param ast2
+     *        second DetailAST node.
+     * @return true if position of ast1 is greater than position of ast2.
+     */
+    private static boolean isPositionGreater(DetailAST ast1, DetailAST ast2) {
+        if (ast1.getLineNo() == ast2.getLineNo()) {
+            return ast1.getColumnNo() > ast2.getColumnNo();
+        }
+        else {
+            return ast1.getLineNo() > ast2.getLineNo();
+        }
+    }
+
+    /**
+     * Create comment AST from token. Depending on token type
+     * SINGLE_LINE_COMMENT or BLOCK_COMMENT_BEGIN is created.
+     * @param token
+     *        Token object.
+     * @return DetailAST of comment node.
+     */
+    private static DetailAST createCommentAstFromToken(Token token) {
+        if (token.getType() == TokenTypes.SINGLE_LINE_COMMENT) {
+            return createSlCommentNode(token);
+        }
+        else {
+            return createBlockCommentNode(token);
+        }
+    }
+
+    /**
+     * Create single-line comment from token.
+     * @param token
+     *        Token object.
+     * @return DetailAST with SINGLE_LINE_COMMENT type.
+     */
+    private static DetailAST createSlCommentNode(Token token) {
+        final DetailAST slComment = new DetailAST();
+        slComment.setType(TokenTypes.SINGLE_LINE_COMMENT);
+        slComment.setText("//");
+
+        // column counting begins from 0
+        slComment.setColumnNo(token.getColumn() - 1);
+        slComment.setLineNo(token.getLine());
+
+        final DetailAST slCommentContent = new DetailAST();
+        slCommentContent.initialize(token);
+        slCommentContent.setType(TokenTypes.COMMENT_CONTENT);
+
+        // column counting begins from 0
+        // plus length of '//'
+        slCommentContent.setColumnNo(token.getColumn() - 1 + 2);
+        slCommentContent.setLineNo(token.getLine());
+        slCommentContent.setText(token.getText());
+
+        slComment.addChild(slCommentContent);
+        return slComment;
+    }
+
+    /**
+     * Create block comment from token.
+     * @param token
+     *        Token object.
+     * @return DetailAST with BLOCK_COMMENT type.
+     */
+    private static DetailAST createBlockCommentNode(Token token) {
+        final DetailAST blockComment = new DetailAST();
+        blockComment.initialize(TokenTypes.BLOCK_COMMENT_BEGIN, "/*");
+
+        // column counting begins from 0
+        blockComment.setColumnNo(token.getColumn() - 1);
+        blockComment.setLineNo(token.getLine());
+
+        final DetailAST blockCommentContent = new DetailAST();
+        blockCommentContent.initialize(token);
+        blockCommentContent.setType(TokenTypes.COMMENT_CONTENT);
+
+        // column counting begins from 0
+        // plus length of '/*'
+        blockCommentContent.setColumnNo(token.getColumn() - 1 + 2);
+        blockCommentContent.setLineNo(token.getLine());
+        blockCommentContent.setText(token.getText());
+
+        final DetailAST blockCommentClose = new DetailAST();
+        blockCommentClose.initialize(TokenTypes.BLOCK_COMMENT_END, "*/");
+
+        final Entry<Integer, Integer> linesColumns = countLinesColumns(
+                token.getText(), token.getLine(), token.getColumn());
+        blockCommentClose.setLineNo(linesColumns.getKey());
+        blockCommentClose.setColumnNo(linesColumns.getValue());
+
+        blockComment.addChild(blockCommentContent);
+        blockComment.addChild(blockCommentClose);
+        return blockComment;
+    }
+
+    /**
+     * Count lines and columns (in last line) in text.
+     * @param text
+     *        String.
+     * @param initialLinesCnt
+     *        initial value of lines counter.
+     * @param initialColumnsCnt
+     *        initial value of columns counter.
+     * @return entry(pair), first element is lines counter, second - columns
+     *         counter.
+     */
+    private static Entry<Integer, Integer> countLinesColumns(
+            String text, int initialLinesCnt, int initialColumnsCnt) {
+        int lines = initialLinesCnt;
+        int columns = initialColumnsCnt;
+        for (char c : text.toCharArray()) {
+            if (c == '\n') {
+                lines++;
+                columns = 0;
+            }
+            else {
+                columns++;
+            }
+        }
+        return new SimpleEntry<>(lines, columns);
+    }
+}
@@ -0,0 +1,253 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+
+/**
+ * This class maintains a persistent(on file-system) store of the files
+ * that have been checked, a digest of their contents and the messages
+ * logged for them. Unlike {@link PropertyCacheFile} it does not depend on the
+ * timestamps of files, so it keeps working when files are checked out
+ * again with the same contents, as it happens on build servers.
+ *
+ * <p>The cache file is binary: a header with the format version and a
+ * hashcode of the Configuration, followed by the number of files and,
+ * for each file, its name, the digest of its contents and its messages,
+ * written by {@link CachedMessages} and encoded in UTF-8. The cache file
+ * is replaced atomically, so a build that is interrupted while persisting
+ * the cache never leaves a truncated cache file behind.
+ *
+ * @author the original author or authors.
+ */
+final class ContentHashCacheFile implements ResultCache {
+
+    /** Identifies cache files in this format. */
+    private static final int MAGIC = 0x43534348;
+
+    /** The version of the format of the cache file. */
+    private static final int FORMAT_VERSION = 3;
+
+    /** The hash function used to digest the contents of files. */
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /** The length of a digest in bytes. */
+    private static final int DIGEST_LENGTH = HASH_FUNCTION.bits() / Byte.SIZE;
+
+    /** The digests and messages of the files that have been checked, by file name. */
+    private final Map<String, CacheEntry> details = new ConcurrentHashMap<>();
+
+    /** Configuration object. **/
+    private final Configuration config;
+
+    /** File name of cache. **/
+    private final String fileName;
+
+    /** The hashcode of the configuration. */
+    private String configHash;
+
+    /**
+     * Creates a new {@code ContentHashCacheFile} instance.
+     *
+     * @param config the current configuration, not null
+     * @param fileName the cache file
+     */
+    ContentHashCacheFile(Configuration config, String fileName) {
+        if (config == null) {
+            throw new IllegalArgumentException("config can not be null");
+        }
+        if (fileName == null) {
+            throw new IllegalArgumentException("fileName can not be null");
+        }
+        this.config = config;
+        this.fileName = fileName;
+    }
+
+    @Override
+    public void load() throws IOException {
+        configHash = PropertyCacheFile.getConfigAndResourcesHashCode(config);
+        details.clear();
+        if (new File(fileName).exists()) {
+            try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(Paths.get(fileName))))) {
+                // a cache file in another format, or of another configuration, is ignored
+                if (input.readInt() == MAGIC && input.readInt() == FORMAT_VERSION
+                        && configHash.equals(input.readUTF())) {
+                    readDetails(input);
+                }
+            }
+            catch (EOFException ignored) {
+                // a truncated cache file is ignored too
+                details.clear();
+            }
+        }
+    }
+
+    /**
+     * Reads the names, digests and messages of files from the cache file.
+     * @param input the input stream positioned after the header
+     * @throws IOException when there is a problems with file read
+     */
+    private void readDetails(DataInputStream input) throws IOException {
+        final int count = input.readInt();
+        for (int i = 0; i < count; i++) {
+            final String checkedFileName = input.readUTF();
+            final byte[] digest = new byte[DIGEST_LENGTH];
+            input.readFully(digest);
+            final byte[] messages = new byte[input.readInt()];
+            input.readFully(messages);
+            details.put(checkedFileName, new CacheEntry(HashCode.fromBytes(digest), messages));
+        }
+    }
+
+    @Override
+    public void persist() throws IOException {
+        PropertyCacheFile.createCacheDirectory(fileName);
+        final Path target = Paths.get(fileName).toAbsolutePath();
+        final Path temporary = Files.createTempFile(target.getParent(),
+                target.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(getConfigHash());
+                out.writeInt(details.size());
+                for (Map.Entry<String, CacheEntry> entry : details.entrySet()) {
+                    final CacheEntry cacheEntry = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.write(cacheEntry.digest.asBytes());
+                    out.writeInt(cacheEntry.messages.length);
+                    out.write(cacheEntry.messages);
+                }
+            }
+            moveAtomically(temporary, target);
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Replaces a file with another one, atomically if the file system
+     * supports it.
+     * @param source the file to move
+     * @param target the file to replace
+     * @throws IOException when the file cannot be moved
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException ignored) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns a digest of the contents of a file as its key.
+     * @param file the file
+     * @return the digest of the contents of the file
+     * @throws IOException when the file cannot be read
+     */
+    @Override
+    public String getFileKey(File file) throws IOException {
+        return HASH_FUNCTION.hashBytes(Files.readAllBytes(file.toPath())).toString();
+    }
+
+    @Override
+    public boolean isInCache(String uncheckedFileName, String key) {
+        final CacheEntry lastChecked = details.get(uncheckedFileName);
+        return lastChecked != null
+            && lastChecked.digest.toString().equals(key);
+    }
+
+    @Override
+    public SortedSet<LocalizedMessage> getMessages(String uncheckedFileName, String key) {
+        final CacheEntry lastChecked = details.get(uncheckedFileName);
+        SortedSet<LocalizedMessage> messages = null;
+        if (lastChecked != null && lastChecked.digest.toString().equals(key)) {
+            messages = CachedMessages.deserialize(
+                    new String(lastChecked.messages, StandardCharsets.UTF_8));
+        }
+        return messages;
+    }
+
+    @Override
+    public void put(String checkedFileName, String key, SortedSet<LocalizedMessage> messages) {
+        final byte[] serialized =
+                CachedMessages.serialize(messages).getBytes(StandardCharsets.UTF_8);
+        details.put(checkedFileName, new CacheEntry(HashCode.fromString(key), serialized));
+    }
+
+    /**
+     * Returns the hashcode of the configuration, calculating it if the
+     * cache was not loaded.
+     * @return the hashcode of the configuration
+     */
+    private String getConfigHash() {
+        if (configHash == null) {
+            configHash = PropertyCacheFile.getConfigAndResourcesHashCode(config);
+        }
+        return configHash;
+    }
+
+    /**
+     * The digest and serialized messages of a file.
+     */
+    private static final class CacheEntry {
+        /** The digest of the contents of the file. */
+        private final HashCode digest;
+
+        /** The serialized messages logged for the file. */
+        private final byte[] messages;
+
+        /**
+         * Creates a new entry.
+         * @param digest the digest of the contents of the file
+         * @param messages the serialized messages logged for the file
+         */
+        CacheEntry(HashCode digest, byte[] messages) {
+            this.digest = digest;
+            this.messages = messages;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.Map;
+
+import antlr.ASTFactory;
+import antlr.Token;
+import antlr.collections.AST;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Creates the nodes of AST while parsing. Nodes with equal text share
+ * one string, as most tokens of a file repeat the same keywords,
+ * operators and identifiers.
+ * @author the original author or authors.
+ */
+class DetailAstFactory extends ASTFactory {
+    /** Texts of the created nodes. */
+    private final Map<String, String> texts = Maps.newHashMap();
+
+    @Override
+    public AST create(Token tok) {
+        final AST node = super.create(tok);
+        if (node != null) {
+            final String text = node.getText();
+            final String pooledText = texts.get(text);
+            if (pooledText == null) {
+                texts.put(text, text);
+            }
+            else {
+                node.setText(pooledText);
+            }
+        }
+        return node;
+    }
+}
@@ -0,0 +1,209 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.SortedSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+
+/**
+ * Processes single files of an audit with fileset checks and filters their
+ * messages with the filters of a Checker. Used by the calling thread and by
+ * the worker threads, each with fileset checks of its own.
+ * @author the original author or authors.
+ */
+final class FileProcessor {
+    /** Logger for FileProcessor. */
+    private static final Log LOG = LogFactory.getLog(FileProcessor.class);
+
+    /** The Checker whose filters are run on the messages. */
+    private final Checker checker;
+
+    /** Name of the charset of the files. */
+    private final String charset;
+
+    /** Cache of the messages of files, null if there is no cache. */
+    private final ResultCache cache;
+
+    /** Profiler of the audit, null if the audit is not profiled. */
+    private final Profiler profiler;
+
+    /**
+     * Creates a new processor.
+     * @param checker the Checker whose filters are run on the messages
+     * @param charset name of the charset of the files
+     * @param cache cache of the messages of files, null if there is no cache
+     * @param profiler profiler of the audit, null if the audit is not profiled
+     */
+    FileProcessor(Checker checker, String charset, ResultCache cache, Profiler profiler) {
+        this.checker = checker;
+        this.charset = charset;
+        this.cache = cache;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Processes a file with the fileset checks that are not global, or
+     * gets the messages of the file from the cache if it did not change.
+     * Runs the filters on the messages, on the thread that processed the file.
+     * The filtered messages are cached, as filters on comments need the
+     * parsed file; the cache is dropped when the configuration or a local
+     * file it refers to, like a suppressions file, changes. The suppression
+     * holders are cleared first, so when the file is not parsed, for example
+     * because it is in the cache, the messages of the global fileset checks
+     * are not filtered with the comments and annotations of another file.
+     * @param file the file to process
+     * @param localChecks the fileset checks that are not global
+     * @return the outcome of processing the file
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    FileResult processLocally(File file, Collection<FileSetCheck> localChecks)
+            throws CheckstyleException {
+        SuppressionHolders.clear();
+        final String fileName = file.getAbsolutePath();
+        final String fileKey = getFileKey(file);
+        SortedSet<LocalizedMessage> acceptedMessages = null;
+        if (fileKey != null) {
+            acceptedMessages = cache.getMessages(fileName, fileKey);
+        }
+        FileText theText = null;
+        if (acceptedMessages == null) {
+            final SortedSet<LocalizedMessage> fileMessages = Sets.newTreeSet();
+            theText = readFile(file, fileMessages);
+            if (theText != null) {
+                runFileSetChecks(file, theText, localChecks, fileMessages);
+            }
+            acceptedMessages = checker.filterErrors(fileName, fileMessages);
+            if (fileKey != null && theText != null) {
+                cache.put(fileName, fileKey, acceptedMessages);
+            }
+        }
+        return new FileResult(theText, acceptedMessages, SuppressionHolders.capture());
+    }
+
+    /**
+     * Processes a file with the global fileset checks, on the calling thread.
+     * The filters on comments and annotations get the state of the thread
+     * that processed the file with the other fileset checks.
+     * @param file the file to process
+     * @param result the outcome of processing the file with the fileset
+     *     checks that are not global
+     * @param globalChecks the global fileset checks
+     * @return the messages of the global fileset checks that passed the filters
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    SortedSet<LocalizedMessage> processGlobally(File file, FileResult result,
+            Collection<FileSetCheck> globalChecks) throws CheckstyleException {
+        final SortedSet<LocalizedMessage> fileMessages = Sets.newTreeSet();
+        FileText theText = result.getText();
+        if (theText == null) {
+            theText = readFile(file, fileMessages);
+        }
+        if (theText != null) {
+            runFileSetChecks(file, theText, globalChecks, fileMessages);
+        }
+        result.getHolders().restore();
+        return checker.filterErrors(file.getAbsolutePath(), fileMessages);
+    }
+
+    /**
+     * Computes the key identifying the current state of a file in the cache.
+     * @param file the file
+     * @return the key of the file, or null if there is no cache or the file
+     *     cannot be read
+     */
+    private String getFileKey(File file) {
+        String fileKey = null;
+        if (cache != null) {
+            try {
+                fileKey = cache.getFileKey(file);
+            }
+            catch (final IOException ioe) {
+                // the file is reported when it is read for the fileset checks
+                LOG.debug("Unable to compute the cache key of " + file.getPath(), ioe);
+            }
+        }
+        return fileKey;
+    }
+
+    /**
+     * Reads the contents of a file.
+     * @param file the file to read
+     * @param fileMessages the messages of the file, a message is added if
+     *     the file cannot be read
+     * @return the contents of the file, or null if the file cannot be read
+     */
+    private FileText readFile(File file, SortedSet<LocalizedMessage> fileMessages) {
+        FileText theText = null;
+        try {
+            theText = new FileText(file.getAbsoluteFile(), charset);
+        }
+        catch (final IOException ioe) {
+            LOG.debug("IOException occurred.", ioe);
+            fileMessages.add(new LocalizedMessage(0,
+                    Definitions.CHECKSTYLE_BUNDLE, "general.exception",
+                    new String[] {ioe.getMessage()}, null, checker.getClass(),
+                    null));
+        }
+        return theText;
+    }
+
+    /**
+     * Runs fileset checks on a file.
+     * @param file the file to process
+     * @param theText the contents of the file
+     * @param checks the fileset checks to run
+     * @param fileMessages the messages of the file, the messages logged by
+     *     the fileset checks are added to it
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    private void runFileSetChecks(File file, FileText theText,
+            Collection<FileSetCheck> checks, SortedSet<LocalizedMessage> fileMessages)
+            throws CheckstyleException {
+        if (profiler == null) {
+            for (final FileSetCheck fsc : checks) {
+                fileMessages.addAll(fsc.process(file, theText));
+            }
+        }
+        else {
+            final Profiler.Counter fileCounter = new Profiler.Counter();
+            final Profiler.Counter checkCounter = new Profiler.Counter();
+            fileCounter.start();
+            for (final FileSetCheck fsc : checks) {
+                checkCounter.start();
+                fileMessages.addAll(fsc.process(file, theText));
+                checkCounter.stop(1);
+                profiler.addModule(fsc.getClass().getSimpleName(), checkCounter);
+            }
+            fileCounter.stop(checks.size());
+            profiler.addFile(file.getAbsolutePath(), fileCounter);
+        }
+    }
+}
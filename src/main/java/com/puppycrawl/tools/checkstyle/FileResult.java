@@ -0,0 +1,78 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.SortedSet;
+
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+
+/**
+ * The outcome of processing one file with the fileset checks that are not
+ * global, on the calling thread or on a worker thread.
+ * @author the original author or authors.
+ */
+final class FileResult {
+    /** The contents of the file, null if it was not read. */
+    private final FileText text;
+
+    /** The messages of the file that passed the filters. */
+    private final SortedSet<LocalizedMessage> acceptedMessages;
+
+    /** The state of the suppression holders after processing the file. */
+    private final SuppressionHolders holders;
+
+    /**
+     * Creates a new result.
+     * @param text the contents of the file, null if it was not read
+     * @param acceptedMessages the messages of the file that passed the filters
+     * @param holders the state of the suppression holders after processing the file
+     */
+    FileResult(FileText text, SortedSet<LocalizedMessage> acceptedMessages,
+            SuppressionHolders holders) {
+        this.text = text;
+        this.acceptedMessages = acceptedMessages;
+        this.holders = holders;
+    }
+
+    /**
+     * Returns the contents of the file.
+     * @return the contents of the file, null if it was not read
+     */
+    FileText getText() {
+        return text;
+    }
+
+    /**
+     * Returns the messages of the file that passed the filters.
+     * @return the accepted messages
+     */
+    SortedSet<LocalizedMessage> getAcceptedMessages() {
+        return acceptedMessages;
+    }
+
+    /**
+     * Returns the state of the suppression holders after processing the file.
+     * @return the state of the suppression holders
+     */
+    SuppressionHolders getHolders() {
+        return holders;
+    }
+}
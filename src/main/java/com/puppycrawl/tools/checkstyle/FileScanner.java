@@ -0,0 +1,372 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
+
+/**
+ * Finds the files to audit in files and directories, while the files
+ * already found are audited. Every directory is listed by a task of its
+ * own, so directories are listed in parallel, as soon as the listing of
+ * their parent is done. The files are filtered by extension and exclude
+ * globs during the listing, and excluded directories are not listed at
+ * all. Files are returned in a stable order: the files of a directory
+ * sorted by name, then the files of its subdirectories, sorted by name.
+ * Like a {@link java.nio.file.DirectoryStream}, a scanner can be
+ * iterated only once, and it stops listing directories once closed.
+ * @author the original author or authors.
+ */
+public final class FileScanner implements Iterable<File>, Closeable {
+    /** The files and directories to find the files in. */
+    private final List<File> roots;
+
+    /** Lists the directories. */
+    private final ExecutorService executor;
+
+    /** The keys of the directories listed so far, to not follow symbolic link cycles. */
+    private final Set<Object> listedDirectories =
+            Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+
+    /** The file extensions of the files to find, empty to find all files. */
+    private String[] fileExtensions = ArrayUtils.EMPTY_STRING_ARRAY;
+
+    /** The globs of the files and directories to exclude. */
+    private final List<PathMatcher> excludes = Lists.newArrayList();
+
+    /** Whether the iterator has been created. */
+    private boolean iterated;
+
+    /** Whether the scanner is closed. */
+    private volatile boolean closed;
+
+    /**
+     * Creates a scanner of files and directories.
+     * @param roots the files and directories to find the files in
+     * @param threads the number of threads to list directories with
+     */
+    public FileScanner(List<File> roots, int threads) {
+        this.roots = roots;
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "checkstyle-file-scanner");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Sets the file extensions of the files to find.
+     * A missing initial '.' character of an extension is automatically added.
+     * @param extensions the file extensions, none to find all files
+     */
+    public void setFileExtensions(String... extensions) {
+        fileExtensions = extensions.clone();
+    }
+
+    /**
+     * Adds a glob of the files and directories to exclude. The glob is
+     * matched with the name of the files and directories, and with their
+     * path relative to the directory they are found in, so both
+     * {@code target} and {@code src/generated/**} are valid globs.
+     * @param glob the glob, in the syntax of
+     *     {@link java.nio.file.FileSystem#getPathMatcher(String)}
+     */
+    public void addExclude(String glob) {
+        excludes.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+    }
+
+    @Override
+    public Iterator<File> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("The files have already been iterated");
+        }
+        iterated = true;
+        final Deque<Object> pending = new ArrayDeque<>();
+        for (final File root : roots) {
+            final Path path = root.toPath();
+            if (root.isDirectory()) {
+                pending.add(executor.submit(new ListingTask(path, path)));
+            }
+            else if (isIncluded(path, path) && root.isFile() && root.canRead()) {
+                pending.add(root);
+            }
+        }
+        if (pending.isEmpty()) {
+            close();
+        }
+        return new FileIterator(pending);
+    }
+
+    /** Stops listing directories. */
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdownNow();
+    }
+
+    /**
+     * Checks whether a file or directory is neither excluded nor filtered
+     * out by its extension.
+     * @param root the directory the path was found in
+     * @param path the file or directory
+     * @return true if the file or directory is included
+     */
+    private boolean isIncluded(Path root, Path path) {
+        return !isExcluded(root, path)
+                && CommonUtils.matchesFileExtension(path.toFile(), fileExtensions);
+    }
+
+    /**
+     * Checks whether a file or directory is excluded.
+     * @param root the directory the path was found in
+     * @param path the file or directory
+     * @return true if the file or directory is excluded
+     */
+    private boolean isExcluded(Path root, Path path) {
+        final Path fileName = path.getFileName();
+        final Path relativePath = root.relativize(path);
+        boolean excluded = false;
+        for (final PathMatcher exclude : excludes) {
+            if (fileName != null && exclude.matches(fileName)
+                    || exclude.matches(relativePath)) {
+                excluded = true;
+                break;
+            }
+        }
+        return excluded;
+    }
+
+    /** The content of a directory. */
+    private static final class Listing {
+        /** The files of the directory to return, sorted by name. */
+        private final List<File> files = Lists.newArrayList();
+        /** The listings of the subdirectories, sorted by name. */
+        private final List<Future<Listing>> directories = Lists.newArrayList();
+    }
+
+    /** Lists a directory and starts to list its subdirectories. */
+    private final class ListingTask implements Callable<Listing> {
+        /** The directory the scanned directory was found in, to match excludes with. */
+        private final Path root;
+        /** The directory to list. */
+        private final Path directory;
+
+        /**
+         * Creates a task to list a directory.
+         * @param root the directory the directory to list was found in
+         * @param directory the directory to list
+         */
+        ListingTask(Path root, Path directory) {
+            this.root = root;
+            this.directory = directory;
+        }
+
+        @Override
+        public Listing call() throws IOException {
+            final ListingVisitor visitor = new ListingVisitor(root);
+            Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, visitor);
+            return createListing(visitor.files, visitor.directories);
+        }
+
+        /**
+         * Creates the listing of the directory and starts to list its subdirectories.
+         * @param files the files found in the directory
+         * @param directories the subdirectories found in the directory
+         * @return the listing
+         */
+        private Listing createListing(List<Path> files, List<Path> directories) {
+            Collections.sort(files);
+            Collections.sort(directories);
+            final Listing listing = new Listing();
+            for (final Path file : files) {
+                listing.files.add(file.toFile());
+            }
+            for (final Path subdirectory : directories) {
+                listing.directories.add(executor.submit(new ListingTask(root, subdirectory)));
+            }
+            return listing;
+        }
+    }
+
+    /**
+     * Collects the files and subdirectories of a directory, visited with a depth of 1,
+     * so that subdirectories are visited as files.
+     */
+    private final class ListingVisitor extends SimpleFileVisitor<Path> {
+        /** The directory the listed directory was found in, to match excludes with. */
+        private final Path root;
+        /** The included files. */
+        private final List<Path> files = Lists.newArrayList();
+        /** The subdirectories that are not excluded. */
+        private final List<Path> directories = Lists.newArrayList();
+
+        /**
+         * Creates a visitor of a directory.
+         * @param root the directory the listed directory was found in
+         */
+        ListingVisitor(Path root) {
+            this.root = root;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            final Object key = attrs.fileKey();
+            FileVisitResult result = FileVisitResult.CONTINUE;
+            if (key != null && !listedDirectories.add(key)) {
+                // already listed through a symbolic link
+                result = FileVisitResult.SKIP_SUBTREE;
+            }
+            return result;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (attrs.isDirectory()) {
+                if (!isExcluded(root, file)) {
+                    directories.add(file);
+                }
+            }
+            else if (attrs.isRegularFile() && isIncluded(root, file)
+                    && Files.isReadable(file)) {
+                files.add(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            // unreadable files and directories are not audited
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    /**
+     * Returns the files as their directories are listed, depth first.
+     * The pending elements are files to return and listings of directories.
+     */
+    private final class FileIterator implements Iterator<File> {
+        /** The files and listings left, in the order to return them. */
+        private final Deque<Object> pending;
+        /** The next file to return, null if not found yet. */
+        private File next;
+
+        /**
+         * Creates an iterator of files.
+         * @param pending the files and listings of directories to return
+         */
+        FileIterator(Deque<Object> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !pending.isEmpty()) {
+                final Object element = pending.pop();
+                if (element instanceof File) {
+                    next = (File) element;
+                }
+                else {
+                    @SuppressWarnings("unchecked")
+                    final Listing listing = getListing((Future<Listing>) element);
+                    for (final Future<Listing> directory : Lists.reverse(listing.directories)) {
+                        pending.push(directory);
+                    }
+                    for (final File file : Lists.reverse(listing.files)) {
+                        pending.push(file);
+                    }
+                }
+                if (pending.isEmpty()) {
+                    close();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public File next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final File result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        /**
+         * Waits for the listing of a directory.
+         * @param listing the listing
+         * @return the listing
+         */
+        private Listing getListing(Future<Listing> listing) {
+            // the listing may be done, cancelled or rejected, depending on
+            // when the scanner was closed
+            if (closed) {
+                throw new IllegalStateException("The scanner is closed");
+            }
+            try {
+                return listing.get();
+            }
+            catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while listing the files", ex);
+            }
+            catch (final ExecutionException ex) {
+                throw new IllegalStateException("Unable to list the files", ex.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.SortedSet;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.Context;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+
+/**
+ * Runs the fileset checks of a Checker on the files of its audits, on the
+ * calling thread or with several threads, and fires the audit events of
+ * the files through the Checker. Also keeps the cache of the messages of
+ * files that did not change.
+ * @author the original author or authors.
+ */
+final class FileSetCheckRunner {
+    /**
+     * Number of files per thread that may be processed ahead of the file
+     * whose audit events are being fired.
+     */
+    private static final int FILES_AHEAD_PER_THREAD = 4;
+
+    /** The Checker whose fileset checks are run. */
+    private final Checker checker;
+
+    /** Configurations of the fileset checks created by the Checker, in their order. */
+    private final Map<FileSetCheck, Configuration> fileSetCheckConfigs =
+            Maps.newLinkedHashMap();
+
+    /** The factory the fileset checks of the worker threads are created with. */
+    private ModuleFactory moduleFactory;
+
+    /** The context of the fileset checks of the worker threads. */
+    private Context childContext;
+
+    /** Number of threads used to process files. */
+    private int threads = 1;
+
+    /** Cache of the messages of files, null if there is no cache. */
+    private ResultCache cache;
+
+    /** File name of cache, null if there is no cache. */
+    private String cacheFile;
+
+    /** How the cache identifies files that did not change. */
+    private CacheMode cacheMode = CacheMode.TIMESTAMP;
+
+    /**
+     * Creates a new runner.
+     * @param checker the Checker whose fileset checks are run
+     */
+    FileSetCheckRunner(Checker checker) {
+        this.checker = checker;
+    }
+
+    /**
+     * Sets how the fileset checks of the worker threads are created.
+     * @param factory the factory for creating the fileset checks
+     * @param context the context of the fileset checks
+     */
+    void setChildContext(ModuleFactory factory, Context context) {
+        moduleFactory = factory;
+        childContext = context;
+    }
+
+    /**
+     * Records the configuration a fileset check was created from, so that
+     * the worker threads can create instances of their own.
+     * @param fsc the fileset check
+     * @param config the configuration of the fileset check
+     */
+    void addConfiguration(FileSetCheck fsc, Configuration config) {
+        fileSetCheckConfigs.put(fsc, config);
+    }
+
+    /**
+     * Sets the number of threads used to process files.
+     * @param threads the number of threads
+     */
+    void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Sets cache file.
+     * @param fileName the cache file
+     * @param config the configuration of the Checker
+     * @throws IOException if there are some problems with file loading
+     */
+    void setCacheFile(String fileName, Configuration config) throws IOException {
+        cacheFile = fileName;
+        createCache(config);
+    }
+
+    /**
+     * Sets how the cache identifies files that did not change.
+     * @param mode how the cache identifies files that did not change
+     * @param config the configuration of the Checker
+     * @throws IOException if there are some problems with file loading
+     */
+    void setCacheMode(CacheMode mode, Configuration config) throws IOException {
+        cacheMode = mode;
+        createCache(config);
+    }
+
+    /**
+     * Creates and loads the cache, if a cache file is set.
+     * @param config the configuration of the Checker
+     * @throws IOException if there are some problems with file loading
+     */
+    private void createCache(Configuration config) throws IOException {
+        if (cacheFile != null) {
+            cache = cacheMode.createCache(config, cacheFile);
+        }
+    }
+
+    /**
+     * Processes the audited files with the fileset checks, which have begun
+     * processing, and updates the cache file.
+     * @param files the files of the audit
+     * @param fileSetChecks the fileset checks of the Checker
+     * @param charset name of the charset of the files
+     * @param profiler profiler of the audit, null if the audit is not profiled
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    void process(Iterable<File> files, List<FileSetCheck> fileSetChecks, String charset,
+            Profiler profiler) throws CheckstyleException {
+        final FileProcessor processor = new FileProcessor(checker, charset, cache, profiler);
+        final List<FileSetCheck> localChecks = Lists.newArrayList();
+        final List<FileSetCheck> globalChecks = Lists.newArrayList();
+        for (final FileSetCheck fsc : fileSetChecks) {
+            if (isGlobal(fsc)) {
+                globalChecks.add(fsc);
+            }
+            else {
+                localChecks.add(fsc);
+            }
+        }
+
+        if (threads > 1) {
+            processInParallel(files, processor, globalChecks, charset);
+        }
+        else {
+            for (final File file : files) {
+                if (checker.isAudited(file)) {
+                    processFile(file, processor, null, localChecks, globalChecks);
+                }
+            }
+        }
+
+        if (cache != null) {
+            persistCache();
+        }
+    }
+
+    /**
+     * Processes the files with several threads. Every thread uses its own
+     * instances of the fileset checks, created from the same configuration
+     * as the fileset checks of the Checker. Global fileset checks are not
+     * duplicated and run on the calling thread.
+     * Audit events are fired on the calling thread in the order of the files,
+     * so listeners receive the same events as in sequential processing.
+     * @param files the files of the audit
+     * @param processor processes single files
+     * @param globalChecks the global fileset checks
+     * @param charset name of the charset of the files
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    private void processInParallel(Iterable<File> files, FileProcessor processor,
+            Collection<FileSetCheck> globalChecks, String charset)
+            throws CheckstyleException {
+        final WorkerPool pool = new WorkerPool(processor, threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                pool.addWorker(createWorkerFileSetChecks(charset));
+            }
+            final Queue<Entry<File, Future<FileResult>>> pending = new ArrayDeque<>();
+            for (final File file : files) {
+                if (checker.isAudited(file)) {
+                    if (pending.size() == threads * FILES_AHEAD_PER_THREAD) {
+                        final Entry<File, Future<FileResult>> next = pending.remove();
+                        processFile(next.getKey(), processor, next.getValue(), null,
+                                globalChecks);
+                    }
+                    pending.add(new SimpleEntry<>(file, pool.submit(file)));
+                }
+            }
+            while (!pending.isEmpty()) {
+                final Entry<File, Future<FileResult>> next = pending.remove();
+                processFile(next.getKey(), processor, next.getValue(), null, globalChecks);
+            }
+        }
+        finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Checks whether a fileset check is global. Global fileset checks are not
+     * known to be {@link FileIndependent}, so they may keep state across files,
+     * including TreeWalkers with checks that are not known to be file
+     * independent, or were not created from the configuration of the
+     * Checker. They process every file on the calling thread, so they are
+     * not duplicated per thread and their messages are not cached.
+     * @param fsc the fileset check
+     * @return true if the fileset check is global
+     */
+    private boolean isGlobal(FileSetCheck fsc) {
+        return !fileSetCheckConfigs.containsKey(fsc)
+                || !fsc.getClass().isAnnotationPresent(FileIndependent.class)
+                || fsc instanceof TreeWalker && !((TreeWalker) fsc).hasFileIndependentChecks();
+    }
+
+    /**
+     * Creates the fileset checks used by one worker thread.
+     * @param charset name of the charset of the files
+     * @return the fileset checks of a worker thread
+     * @throws CheckstyleException if a fileset check cannot be created
+     */
+    private List<FileSetCheck> createWorkerFileSetChecks(String charset)
+            throws CheckstyleException {
+        final List<FileSetCheck> result = Lists.newArrayList();
+        for (final Entry<FileSetCheck, Configuration> entry : fileSetCheckConfigs.entrySet()) {
+            final FileSetCheck original = entry.getKey();
+            if (!isGlobal(original)) {
+                final Configuration childConf = entry.getValue();
+                final FileSetCheck fsc = (FileSetCheck) moduleFactory.createModule(
+                        childConf.getName());
+                if (fsc instanceof TreeWalker) {
+                    // the cache is loaded and persisted by the original only
+                    ((TreeWalker) fsc).shareCache((TreeWalker) original);
+                }
+                fsc.contextualize(childContext);
+                fsc.configure(childConf);
+                fsc.init();
+                fsc.setMessageDispatcher(checker);
+                fsc.beginProcessing(charset);
+                result.add(fsc);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Processes a file with fileset checks and fires its audit events.
+     * @param file the file to process
+     * @param processor processes single files
+     * @param workerResult the outcome of processing the file with the
+     *     fileset checks that are not global on a worker thread, null if
+     *     the file is processed on the calling thread only
+     * @param localChecks the fileset checks that are not global,
+     *     null if the file is processed on a worker thread
+     * @param globalChecks the global fileset checks
+     * @throws CheckstyleException if error condition within Checkstyle occurs
+     */
+    private void processFile(File file, FileProcessor processor,
+            Future<FileResult> workerResult, Collection<FileSetCheck> localChecks,
+            Collection<FileSetCheck> globalChecks) throws CheckstyleException {
+        try {
+            final String fileName = file.getAbsolutePath();
+            checker.fireFileStarted(fileName);
+            final FileResult result;
+            if (workerResult == null) {
+                result = processor.processLocally(file, localChecks);
+            }
+            else {
+                result = WorkerPool.getResult(workerResult);
+            }
+            final SortedSet<LocalizedMessage> acceptedMessages =
+                    Sets.newTreeSet(result.getAcceptedMessages());
+            if (!globalChecks.isEmpty()) {
+                acceptedMessages.addAll(processor.processGlobally(file, result, globalChecks));
+            }
+            checker.fireFilteredErrors(fileName, acceptedMessages);
+            checker.fireFileFinished(fileName);
+        }
+        catch (Exception ex) {
+            // We need to catch all exception to put a reason failure(file name) in exception
+            throw new CheckstyleException("Exception was thrown while processing "
+                    + file.getPath(), ex);
+        }
+    }
+
+    /**
+     * Updates the cache file.
+     * @throws CheckstyleException if the cache file cannot be updated
+     */
+    private void persistCache() throws CheckstyleException {
+        try {
+            cache.persist();
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to persist cache file " + cacheFile, ex);
+        }
+    }
+}
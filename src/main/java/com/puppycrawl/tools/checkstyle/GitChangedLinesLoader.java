@@ -0,0 +1,137 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jgit.diff.ContentSource;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.filter.NotIgnoredFilter;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Loads the lines of the files of a git working tree that differ from
+ * a revision, with JGit. Only {@link ChangedLinesLoader} uses this class,
+ * so that JGit is not loaded unless the changed lines are needed.
+ * @author the original author or authors.
+ */
+final class GitChangedLinesLoader {
+    /** Index of the working tree in the diffs, after the tree of the revision. */
+    private static final int WORKING_TREE_INDEX = 1;
+
+    /** Prevents instantiation. */
+    private GitChangedLinesLoader() {
+    }
+
+    /**
+     * Loads the lines of the files of a git working tree that differ from
+     * a revision.
+     * @param directory a directory of the working tree
+     * @param revision the revision to compare the working tree with
+     * @return the changed lines
+     * @throws CheckstyleException if the directory is not in a git working tree,
+     *     the revision is not found or the repository cannot be read
+     * @see ChangedLinesLoader#loadChangedLines(File, String)
+     */
+    static ChangedLines loadChangedLines(File directory, String revision)
+            throws CheckstyleException {
+        final FileRepositoryBuilder builder = new FileRepositoryBuilder()
+                .readEnvironment().findGitDir(directory.getAbsoluteFile());
+        if (builder.getGitDir() == null) {
+            throw new CheckstyleException("Not in a git working tree: " + directory);
+        }
+        try (Repository repository = builder.build()) {
+            final ObjectId tree = repository.resolve(revision + "^{tree}");
+            if (tree == null) {
+                throw new CheckstyleException("Unknown git revision " + revision);
+            }
+            return loadChangedLines(repository, tree);
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to compare the git working tree of "
+                    + directory + " with " + revision, ex);
+        }
+    }
+
+    /**
+     * Loads the lines of the files of the working tree of a repository that
+     * differ from a tree.
+     * @param repository the repository
+     * @param tree the tree to compare the working tree with
+     * @return the changed lines
+     * @throws IOException if the repository cannot be read
+     */
+    private static ChangedLines loadChangedLines(Repository repository, ObjectId tree)
+            throws IOException {
+        final ChangedLines changedLines = new ChangedLines();
+        try (ObjectReader reader = repository.newObjectReader();
+             DiffFormatter formatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+            formatter.setRepository(repository);
+            formatter.setPathFilter(new NotIgnoredFilter(WORKING_TREE_INDEX));
+            final FileTreeIterator workingTree = new FileTreeIterator(repository);
+            final List<DiffEntry> entries =
+                    formatter.scan(new CanonicalTreeParser(null, reader, tree), workingTree);
+            for (DiffEntry entry : detectRenames(repository, reader, workingTree, entries)) {
+                if (entry.getChangeType() != DiffEntry.ChangeType.DELETE) {
+                    final File file = new File(repository.getWorkTree(), entry.getNewPath());
+                    for (Edit edit : formatter.toFileHeader(entry).toEditList()) {
+                        if (edit.getEndB() > edit.getBeginB()) {
+                            changedLines.addLines(file, edit.getBeginB() + 1, edit.getEndB());
+                        }
+                    }
+                }
+            }
+        }
+        return changedLines;
+    }
+
+    /**
+     * Pairs the deleted and added files of diffs into renames. The rename
+     * detection of {@link DiffFormatter} reads both sides from the object
+     * database, which does not have the content of the working tree files.
+     * @param repository the repository
+     * @param reader the reader of the object database
+     * @param workingTree the working tree of the diffs
+     * @param entries the diffs between the tree of the revision and the working tree
+     * @return the diffs with renames
+     * @throws IOException if the repository cannot be read
+     */
+    private static List<DiffEntry> detectRenames(Repository repository, ObjectReader reader,
+            FileTreeIterator workingTree, List<DiffEntry> entries) throws IOException {
+        final RenameDetector renameDetector = new RenameDetector(repository);
+        renameDetector.addAll(entries);
+        return renameDetector.compute(new ContentSource.Pair(ContentSource.create(reader),
+                ContentSource.create(workingTree)), NullProgressMonitor.INSTANCE);
+    }
+}
@@ -26,8 +26,10 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -35,7 +37,10 @@ import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.apache.commons.lang3.ArrayUtils;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.io.Closeables;
 import com.puppycrawl.tools.checkstyle.api.AuditListener;
@@ -67,12 +72,46 @@ public final class Main {
     /** Name for the option 'o'. */
     private static final String OPTION_O_NAME = "o";
 
+    /** Name for the option 't'. */
+    private static final String OPTION_T_NAME = "t";
+
+    /** Long name for the option 't'. */
+    private static final String OPTION_THREADS_NAME = "threads";
+
+    /** Name for the option '--profile'. */
+    private static final String OPTION_PROFILE_NAME = "profile";
+
+    /** Name for the option '--daemon'. */
+    private static final String OPTION_DAEMON_NAME = "daemon";
+
+    /** Name for the option '--client'. */
+    private static final String OPTION_CLIENT_NAME = "client";
+
+    /** Name for the option '--changed-since'. */
+    private static final String OPTION_CHANGED_SINCE_NAME = "changed-since";
+
+    /** Name for the option '--exclude'. */
+    private static final String OPTION_EXCLUDE_NAME = "exclude";
+
+    /** Name of the property of Checker with the file extensions of the files to audit. */
+    private static final String FILE_EXTENSIONS_PROPERTY = "fileExtensions";
+
+    /** The greatest port number. */
+    private static final int MAX_PORT = 65535;
+
+    /** End of the messages of options that are not positive integers. */
+    private static final String POSITIVE_INTEGER_EXPECTED =
+            " Found '%s' but expected a positive integer.";
+
     /** Name for 'xml' format. */
     private static final String XML_FORMAT_NAME = "xml";
 
     /** Name for 'plain' format. */
     private static final String PLAIN_FORMAT_NAME = "plain";
 
+    /** Extension of output files that are compressed with gzip. */
+    private static final String GZIP_EXTENSION = ".gz";
+
     /** Don't create instance of this class, use {@link #main(String[])} method instead. */
     private Main() {
     }
@@ -168,8 +207,13 @@ public final class Main {
      */
     private static List<String> validateCli(CommandLine cmdLine) {
         final List<String> result = new ArrayList<>();
+        if (cmdLine.hasOption(OPTION_DAEMON_NAME)) {
+            // the daemon gets the configuration and files from its clients
+            validatePort(cmdLine, OPTION_DAEMON_NAME, result);
+            validateThreads(cmdLine, result);
+        }
         // ensure a configuration file is specified
-        if (cmdLine.hasOption(OPTION_C_NAME)) {
+        else if (cmdLine.hasOption(OPTION_C_NAME)) {
             final String configLocation = cmdLine.getOptionValue(OPTION_C_NAME);
             try {
                 // test location only
@@ -182,7 +226,7 @@ public final class Main {
             // validate optional parameters
             if (cmdLine.hasOption(OPTION_F_NAME)) {
                 final String format = cmdLine.getOptionValue(OPTION_F_NAME);
-                if (!PLAIN_FORMAT_NAME.equals(format) && !XML_FORMAT_NAME.equals(format)) {
+                if (!isValidFormat(format)) {
                     result.add(String.format("Invalid output format."
                             + " Found '%s' but expected '%s' or '%s'.",
                             format, PLAIN_FORMAT_NAME, XML_FORMAT_NAME));
@@ -202,9 +246,21 @@ public final class Main {
                     result.add(String.format("Permission denied : '%s'.", outputLocation));
                 }
             }
-            final List<File> files = getFilesToProcess(cmdLine.getArgs());
-            if (files.isEmpty()) {
-                result.add("Must specify files to process, found 0.");
+            validateThreads(cmdLine, result);
+            validatePort(cmdLine, OPTION_CLIENT_NAME, result);
+            if (cmdLine.hasOption(OPTION_PROFILE_NAME)) {
+                final String limit = cmdLine.getOptionValue(OPTION_PROFILE_NAME);
+                if (!isPositiveInteger(limit)) {
+                    result.add(String.format("Invalid number of profiled modules and files."
+                            + POSITIVE_INTEGER_EXPECTED, limit));
+                }
+            }
+            try (FileScanner scanner = createFileScanner(getFilesToProcess(cmdLine),
+                    getExcludes(cmdLine))) {
+                // only look for the first file, the scan of the audit finds the others
+                if (!scanner.iterator().hasNext()) {
+                    result.add("Must specify files to process, found 0.");
+                }
             }
         }
         else {
@@ -214,6 +270,62 @@ public final class Main {
         return result;
     }
 
+    /**
+     * Validates the number of threads, if it is specified.
+     * @param cmdLine command line object
+     * @param result the list to add the violations to
+     */
+    private static void validateThreads(CommandLine cmdLine, List<String> result) {
+        if (cmdLine.hasOption(OPTION_T_NAME)) {
+            final String threads = cmdLine.getOptionValue(OPTION_T_NAME);
+            if (!isPositiveInteger(threads)) {
+                result.add(String.format("Invalid number of threads."
+                        + POSITIVE_INTEGER_EXPECTED, threads));
+            }
+        }
+    }
+
+    /**
+     * Validates the port of an option, if the option is specified.
+     * @param cmdLine command line object
+     * @param option the name of the option
+     * @param result the list to add the violations to
+     */
+    private static void validatePort(CommandLine cmdLine, String option, List<String> result) {
+        if (cmdLine.hasOption(option)) {
+            final String port = cmdLine.getOptionValue(option);
+            if (!isPositiveInteger(port) || Integer.parseInt(port) > MAX_PORT) {
+                result.add(String.format("Invalid port. Found '%s' but expected"
+                        + " an integer between 1 and %d.", port, MAX_PORT));
+            }
+        }
+    }
+
+    /**
+     * Checks whether a string names an output format.
+     * @param format the string to check
+     * @return true if the string is {@code plain} or {@code xml}
+     */
+    static boolean isValidFormat(String format) {
+        return PLAIN_FORMAT_NAME.equals(format) || XML_FORMAT_NAME.equals(format);
+    }
+
+    /**
+     * Checks whether a string is a positive integer.
+     * @param value the string to check
+     * @return true if the value is a positive integer
+     */
+    private static boolean isPositiveInteger(String value) {
+        boolean result;
+        try {
+            result = Integer.parseInt(value) > 0;
+        }
+        catch (NumberFormatException ignored) {
+            result = false;
+        }
+        return result;
+    }
+
     /**
      * Util method to convert CommandLine type to POJO object.
      * @param cmdLine command line object
@@ -228,7 +340,21 @@ public final class Main {
         conf.outputLocation = cmdLine.getOptionValue(OPTION_O_NAME);
         conf.configLocation = cmdLine.getOptionValue(OPTION_C_NAME);
         conf.propertiesLocation = cmdLine.getOptionValue(OPTION_P_NAME);
-        conf.files = getFilesToProcess(cmdLine.getArgs());
+        if (cmdLine.hasOption(OPTION_T_NAME)) {
+            conf.threads = Integer.parseInt(cmdLine.getOptionValue(OPTION_T_NAME));
+        }
+        if (cmdLine.hasOption(OPTION_PROFILE_NAME)) {
+            conf.profileLimit = Integer.parseInt(cmdLine.getOptionValue(OPTION_PROFILE_NAME));
+        }
+        if (cmdLine.hasOption(OPTION_DAEMON_NAME)) {
+            conf.daemonPort = Integer.parseInt(cmdLine.getOptionValue(OPTION_DAEMON_NAME));
+        }
+        if (cmdLine.hasOption(OPTION_CLIENT_NAME)) {
+            conf.clientPort = Integer.parseInt(cmdLine.getOptionValue(OPTION_CLIENT_NAME));
+        }
+        conf.changedSince = cmdLine.getOptionValue(OPTION_CHANGED_SINCE_NAME);
+        conf.excludes = getExcludes(cmdLine);
+        conf.files = getFilesToProcess(cmdLine);
         return conf;
     }
 
@@ -244,19 +370,91 @@ public final class Main {
      */
     private static int runCheckstyle(CliOptions cliOptions)
             throws CheckstyleException, FileNotFoundException {
-        // setup the properties
-        final Properties props;
+        int errorCounter = 0;
+        if (cliOptions.daemonPort > 0) {
+            runDaemon(cliOptions);
+        }
+        else if (cliOptions.clientPort > 0) {
+            errorCounter = runClient(cliOptions);
+        }
+        else {
+            errorCounter = runChecker(cliOptions);
+        }
+        return errorCounter;
+    }
 
-        if (cliOptions.propertiesLocation == null) {
-            props = System.getProperties();
+    /**
+     * Runs a daemon auditing the files its clients send, until it is killed.
+     * @param cliOptions
+     *        pojo object that contains all options
+     * @throws CheckstyleException
+     *         when the daemon cannot listen to its port
+     */
+    private static void runDaemon(CliOptions cliOptions) throws CheckstyleException {
+        try (CheckstyleDaemon daemon = new CheckstyleDaemon(cliOptions.daemonPort)) {
+            daemon.setThreads(cliOptions.threads);
+            System.out.println(String.format("Checkstyle daemon listening on port %d.",
+                    daemon.getPort()));
+            daemon.run();
+        }
+        catch (final IOException ex) {
+            throw new CheckstyleException(String.format(
+                    "Unable to run the daemon on port %d.", cliOptions.daemonPort), ex);
+        }
+    }
+
+    /**
+     * Asks a daemon to audit the files and writes its report.
+     * @param cliOptions
+     *        pojo object that contains all options
+     * @return number of violations of ERROR level
+     * @throws FileNotFoundException
+     *         when output file could not be found
+     * @throws CheckstyleException
+     *         when the daemon cannot be reached or fails to audit the files
+     */
+    private static int runClient(CliOptions cliOptions)
+            throws CheckstyleException, FileNotFoundException {
+        final List<File> files;
+        try (FileScanner scanner = createFileScanner(cliOptions.files, cliOptions.excludes)) {
+            files = Lists.newArrayList(scanner);
+        }
+
+        final int errorCounter;
+        if (cliOptions.outputLocation == null) {
+            errorCounter = CheckstyleDaemonClient.audit(cliOptions.clientPort,
+                    cliOptions.configLocation, cliOptions.propertiesLocation, cliOptions.format,
+                    files, System.out);
         }
         else {
-            props = loadProperties(new File(cliOptions.propertiesLocation));
+            final OutputStream out = createOutputStream(cliOptions.outputLocation);
+            try {
+                errorCounter = CheckstyleDaemonClient.audit(cliOptions.clientPort,
+                        cliOptions.configLocation, cliOptions.propertiesLocation,
+                        cliOptions.format, files, out);
+            }
+            finally {
+                CommonUtils.close(out);
+            }
         }
+        return errorCounter;
+    }
 
+    /**
+     * Runs the Checker on the files.
+     * @param cliOptions
+     *        pojo object that contains all options
+     * @return number of violations of ERROR level
+     * @throws FileNotFoundException
+     *         when output file could not be found
+     * @throws CheckstyleException
+     *         when properties file could not be loaded
+     */
+    private static int runChecker(CliOptions cliOptions)
+            throws CheckstyleException, FileNotFoundException {
         // create a configuration
-        final Configuration config = ConfigurationLoader.loadConfiguration(
-                cliOptions.configLocation, new PropertiesExpander(props));
+        final Configuration config = loadConfiguration(cliOptions.configLocation,
+                cliOptions.propertiesLocation);
 
         // create a listener for output
         final AuditListener listener = createListener(cliOptions.format, cliOptions.outputLocation);
@@ -269,11 +467,27 @@ public final class Main {
 
             final ClassLoader moduleClassLoader = Checker.class.getClassLoader();
             checker.setModuleClassLoader(moduleClassLoader);
+            checker.setProfile(cliOptions.profileLimit > 0);
             checker.configure(config);
             checker.addListener(listener);
+            if (cliOptions.profileLimit > 0) {
+                checker.addListener(new ProfileLogger(System.out, false,
+                        cliOptions.profileLimit));
+            }
+            if (cliOptions.threads > 0) {
+                checker.setThreads(cliOptions.threads);
+            }
+            if (cliOptions.changedSince != null) {
+                checker.setChangedLines(ChangedLinesLoader.loadChangedLines(
+                        new File("").getAbsoluteFile(), cliOptions.changedSince));
+            }
 
-            // run Checker
-            errorCounter = checker.process(cliOptions.files);
+            // run Checker on the files as they are found
+            try (FileScanner scanner = createFileScanner(cliOptions.files,
+                    cliOptions.excludes)) {
+                scanner.setFileExtensions(getFileExtensions(config));
+                errorCounter = checker.process(scanner);
+            }
 
         }
         finally {
@@ -283,6 +497,32 @@ public final class Main {
         return errorCounter;
     }
 
+    /**
+     * Loads a configuration, expanding its properties.
+     * @param configLocation
+     *        the location of the configuration
+     * @param propertiesLocation
+     *        the location of the properties file, null to use the system properties
+     * @return the configuration
+     * @throws CheckstyleException
+     *         when the configuration or the properties file could not be loaded
+     */
+    static Configuration loadConfiguration(String configLocation, String propertiesLocation)
+            throws CheckstyleException {
+        // setup the properties
+        final Properties props;
+
+        if (propertiesLocation == null) {
+            props = System.getProperties();
+        }
+        else {
+            props = loadProperties(new File(propertiesLocation));
+        }
+
+        return ConfigurationLoader.loadConfiguration(configLocation,
+                new PropertiesExpander(props));
+    }
+
     /**
      * Loads properties from a File.
      * @param file
@@ -318,10 +558,11 @@ public final class Main {
      * @param outputLocation the location of output
      * @return a fresh new {@code AuditListener}
      * @exception FileNotFoundException when provided output location is not found
+     * @exception CheckstyleException when the output cannot be compressed
      */
     private static AuditListener createListener(String format,
                                                 String outputLocation)
-            throws FileNotFoundException {
+            throws FileNotFoundException, CheckstyleException {
 
         // setup the output stream
         OutputStream out;
@@ -331,10 +572,24 @@ public final class Main {
             closeOutputStream = false;
         }
         else {
-            out = new FileOutputStream(outputLocation);
+            out = createOutputStream(outputLocation);
             closeOutputStream = true;
         }
 
+        return createListener(format, out, closeOutputStream);
+    }
+
+    /**
+     * Creates the audit listener writing to a stream.
+     *
+     * @param format format of the audit listener
+     * @param out the stream to write the output to
+     * @param closeOutputStream whether the listener closes the stream
+     *     when the audit finishes
+     * @return a fresh new {@code AuditListener}
+     */
+    static AuditListener createListener(String format, OutputStream out,
+                                        boolean closeOutputStream) {
         // setup a listener
         AuditListener listener;
         if (XML_FORMAT_NAME.equals(format)) {
@@ -358,47 +613,94 @@ public final class Main {
     }
 
     /**
-     * Determines the files to process.
-     * @param filesToProcess
-     *        arguments that were not processed yet but shall be
-     * @return list of files to process
+     * Creates the stream to write the output file to, which compresses
+     * the output with gzip if the name of the file ends with {@code .gz}.
+     * @param outputLocation the location of output
+     * @return the stream to write the output to
+     * @exception FileNotFoundException when provided output location is not found
+     * @exception CheckstyleException when the output cannot be compressed
      */
-    private static List<File> getFilesToProcess(String... filesToProcess) {
-        final List<File> files = Lists.newLinkedList();
-        for (String element : filesToProcess) {
-            files.addAll(listFiles(new File(element)));
+    private static OutputStream createOutputStream(String outputLocation)
+            throws FileNotFoundException, CheckstyleException {
+        final OutputStream fileStream = new FileOutputStream(outputLocation);
+        OutputStream out = fileStream;
+        if (outputLocation.endsWith(GZIP_EXTENSION)) {
+            try {
+                out = new GZIPOutputStream(fileStream);
+            }
+            catch (final IOException ex) {
+                CommonUtils.close(fileStream);
+                throw new CheckstyleException("Unable to compress output to "
+                        + outputLocation, ex);
+            }
         }
+        return out;
+    }
 
+    /**
+     * Determines the files and directories to process.
+     * @param cmdLine
+     *        the command line, with the files and directories as arguments
+     * @return list of files and directories to process
+     */
+    private static List<File> getFilesToProcess(CommandLine cmdLine) {
+        final List<File> files = Lists.newArrayList();
+        for (String element : cmdLine.getArgs()) {
+            files.add(new File(element));
+        }
         return files;
     }
 
     /**
-     * Traverses a specified node looking for files to check. Found files are added to a specified
-     * list. Subdirectories are also traversed.
-     * @param node
-     *        the node to process
-     * @return found files
+     * Gets the globs of the files and directories to exclude.
+     * @param cmdLine
+     *        the command line
+     * @return the globs, empty if none
      */
-    private static List<File> listFiles(File node) {
-        // could be replaced with org.apache.commons.io.FileUtils.list() method
-        // if only we add commons-io library
-        final List<File> result = Lists.newLinkedList();
-
-        if (node.canRead()) {
-            if (node.isDirectory()) {
-                final File[] files = node.listFiles();
-                // listFiles() can return null, so we need to check it
-                if (files != null) {
-                    for (File element : files) {
-                        result.addAll(listFiles(element));
-                    }
-                }
-            }
-            else if (node.isFile()) {
-                result.add(node);
-            }
+    private static List<String> getExcludes(CommandLine cmdLine) {
+        final List<String> excludes = Lists.newArrayList();
+        if (cmdLine.hasOption(OPTION_EXCLUDE_NAME)) {
+            excludes.addAll(Arrays.asList(cmdLine.getOptionValues(OPTION_EXCLUDE_NAME)));
         }
-        return result;
+        return excludes;
+    }
+
+    /**
+     * Creates a scanner of the files to audit, which lists directories
+     * with a thread per processor.
+     * @param files
+     *        the files and directories to scan
+     * @param excludes
+     *        the globs of the files and directories to exclude
+     * @return the scanner
+     */
+    private static FileScanner createFileScanner(List<File> files, List<String> excludes) {
+        final FileScanner scanner = new FileScanner(files,
+                Runtime.getRuntime().availableProcessors());
+        for (String exclude : excludes) {
+            scanner.addExclude(exclude);
+        }
+        return scanner;
+    }
+
+    /**
+     * Gets the file extensions of the files to audit, set in the configuration
+     * of Checker, so that the files of other types are not even listed.
+     * @param config
+     *        the configuration of Checker
+     * @return the file extensions, empty to audit all files
+     * @throws CheckstyleException
+     *         when the file extensions could not be read
+     */
+    private static String[] getFileExtensions(Configuration config)
+            throws CheckstyleException {
+        String[] fileExtensions = ArrayUtils.EMPTY_STRING_ARRAY;
+        if (Arrays.asList(config.getAttributeNames()).contains(FILE_EXTENSIONS_PROPERTY)) {
+            fileExtensions = Iterables.toArray(Splitter.on(',').trimResults()
+                    .omitEmptyStrings().split(config.getAttribute(FILE_EXTENSIONS_PROPERTY)),
+                    String.class);
+        }
+        return fileExtensions;
     }
 
     /** Prints the usage information. **/
@@ -415,12 +717,25 @@ public final class Main {
     private static Options buildOptions() {
         final Options options = new Options();
         options.addOption(OPTION_C_NAME, true, "Sets the check configuration file to use.");
-        options.addOption(OPTION_O_NAME, true, "Sets the output file. Defaults to stdout");
+        options.addOption(OPTION_O_NAME, true, "Sets the output file, compressed with gzip"
+                + " if its name ends with .gz. Defaults to stdout");
         options.addOption(OPTION_P_NAME, true, "Loads the properties file");
         options.addOption(OPTION_F_NAME, true, String.format(
                 "Sets the output format. (%s|%s). Defaults to %s",
                 PLAIN_FORMAT_NAME, XML_FORMAT_NAME, PLAIN_FORMAT_NAME));
+        options.addOption(OPTION_T_NAME, OPTION_THREADS_NAME, true,
+                "Sets the number of threads to process files with");
         options.addOption(OPTION_V_NAME, false, "Print product version and exit");
+        options.addOption(null, OPTION_PROFILE_NAME, true,
+                "Profiles the audit and prints the given number of slowest modules and files");
+        options.addOption(null, OPTION_DAEMON_NAME, true, "Runs a daemon listening to"
+                + " the given local port and auditing the files its clients send");
+        options.addOption(null, OPTION_CLIENT_NAME, true,
+                "Sends the files to audit to the daemon listening to the given local port");
+        options.addOption(null, OPTION_EXCLUDE_NAME, true, "Excludes the files and"
+                + " directories matching the given glob, can be repeated");
+        options.addOption(null, OPTION_CHANGED_SINCE_NAME, true, "Audits only the lines"
+                + " of the git working tree that changed since the given revision");
         return options;
     }
 
@@ -434,7 +749,19 @@ public final class Main {
         private String format;
         /** Output file location. */
         private String outputLocation;
-        /** List of file to validate. */
+        /** Number of threads, 0 if not specified. */
+        private int threads;
+        /** Number of slowest modules and files to print, 0 if not profiled. */
+        private int profileLimit;
+        /** Port to run a daemon on, 0 if not a daemon. */
+        private int daemonPort;
+        /** Port of the daemon to send the files to, 0 if not a client. */
+        private int clientPort;
+        /** Git revision to audit the changed lines since, null to audit all lines. */
+        private String changedSince;
+        /** Globs of the files and directories to exclude. */
+        private List<String> excludes;
+        /** List of files and directories to validate. */
         private List<File> files;
     }
 }
@@ -0,0 +1,189 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+/**
+ * Generates the index of modules during the build. The index maps the
+ * short names of modules to the classes which {@link PackageObjectFactory}
+ * finds for them in the packages of checkstyle_packages.xml, so it does not
+ * need to probe the packages for every module of a configuration.
+ *
+ * @author the original author or authors.
+ */
+public final class ModuleIndexGenerator {
+    /** Suffix that may be omitted from the names of checks. */
+    private static final String CHECK_SUFFIX = "Check";
+
+    /** Extension of class files. */
+    private static final String CLASS_EXTENSION = ".class";
+
+    /** Prevent instantiation. */
+    private ModuleIndexGenerator() {
+    }
+
+    /**
+     * Writes the index of the modules compiled to a directory into
+     * that directory.
+     * @param args the directory of the compiled classes
+     * @throws CheckstyleException if package names cannot be loaded
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String... args) throws CheckstyleException, IOException {
+        final File classesDirectory = new File(args[0]);
+        final ClassLoader loader = ModuleIndexGenerator.class.getClassLoader();
+        final Map<String, String> index = createIndex(classesDirectory,
+                PackageNamesLoader.getPackageNames(loader), loader);
+        writeIndex(new File(classesDirectory, PackageNamesLoader.CHECKSTYLE_MODULES), index);
+    }
+
+    /**
+     * Creates the index of the modules in packages. A name is mapped to
+     * the class found for it by trying the name in all packages, and then
+     * the name with the suffix "Check" in all packages.
+     * @param classesDirectory the directory of the compiled classes
+     * @param packageNames the names of the packages, in the order to try them
+     * @param loader the class loader to load the classes with
+     * @return fully qualified class names of modules by their short names
+     */
+    static Map<String, String> createIndex(File classesDirectory,
+            Set<String> packageNames, ClassLoader loader) {
+        final Map<String, Class<?>> classes = Maps.newLinkedHashMap();
+        for (String packageName : packageNames) {
+            for (Class<?> clazz : getInstantiableClasses(classesDirectory,
+                    packageName, loader)) {
+                final String name = clazz.getSimpleName();
+                if (!classes.containsKey(name)) {
+                    classes.put(name, clazz);
+                }
+            }
+        }
+
+        final Map<String, String> index = Maps.newTreeMap();
+        for (Class<?> clazz : classes.values()) {
+            if (AutomaticBean.class.isAssignableFrom(clazz)) {
+                final String name = clazz.getSimpleName();
+                index.put(name, clazz.getName());
+                if (name.length() > CHECK_SUFFIX.length() && name.endsWith(CHECK_SUFFIX)) {
+                    final String shortName =
+                            name.substring(0, name.length() - CHECK_SUFFIX.length());
+                    if (!classes.containsKey(shortName)) {
+                        index.put(shortName, clazz.getName());
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Loads the top level classes of a package, which have a constructor
+     * without parameters and are not abstract.
+     * @param classesDirectory the directory of the compiled classes
+     * @param packageName the name of the package, ending with a period
+     * @param loader the class loader to load the classes with
+     * @return the classes, ordered by name
+     */
+    private static List<Class<?>> getInstantiableClasses(File classesDirectory,
+            String packageName, ClassLoader loader) {
+        final List<Class<?>> result = Lists.newArrayList();
+        final File packageDirectory = new File(classesDirectory,
+                packageName.replace('.', File.separatorChar));
+        final String[] fileNames = packageDirectory.list();
+        if (fileNames != null) {
+            Arrays.sort(fileNames);
+            for (String fileName : fileNames) {
+                if (fileName.endsWith(CLASS_EXTENSION) && fileName.indexOf('$') == -1) {
+                    final String className = packageName + fileName.substring(0,
+                            fileName.length() - CLASS_EXTENSION.length());
+                    final Class<?> clazz = loadClass(className, loader);
+                    if (clazz != null && isInstantiable(clazz)) {
+                        result.add(clazz);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads a class without initialising it.
+     * @param className the name of the class
+     * @param loader the class loader to load the class with
+     * @return the class, null if it cannot be loaded
+     */
+    private static Class<?> loadClass(String className, ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        }
+        catch (final ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether a class can be instantiated by {@link PackageObjectFactory}.
+     * @param clazz the class to check
+     * @return true if the class is not abstract and has a constructor
+     *         without parameters
+     */
+    private static boolean isInstantiable(Class<?> clazz) {
+        boolean result = false;
+        if (!Modifier.isAbstract(clazz.getModifiers())) {
+            for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+                if (constructor.getParameterTypes().length == 0) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the index of modules as a properties file.
+     * @param file the file to write
+     * @param index fully qualified class names of modules by their short names
+     * @throws IOException if the file cannot be written
+     */
+    static void writeIndex(File file, Map<String, String> index) throws IOException {
+        final List<String> lines = Lists.newArrayList();
+        lines.add("# Index of modules, generated during the build");
+        for (Map.Entry<String, String> entry : index.entrySet()) {
+            lines.add(entry.getKey() + "=" + entry.getValue());
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -27,6 +27,8 @@ import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -35,6 +37,7 @@ import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.io.Closeables;
 import com.puppycrawl.tools.checkstyle.api.AbstractLoader;
@@ -47,6 +50,9 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  */
 public final class PackageNamesLoader
     extends AbstractLoader {
+    /** Name of the index of modules generated during the build. */
+    static final String CHECKSTYLE_MODULES = "checkstyle_modules.properties";
+
     /** The public ID for the configuration dtd. */
     private static final String DTD_PUBLIC_ID =
         "-//Puppy Crawl//DTD Package Names 1.0//EN";
@@ -169,4 +175,42 @@ public final class PackageNamesLoader
 
         return result;
     }
+
+    /**
+     * Returns the fully qualified class names of modules by their short
+     * names, compiled from all checkstyle_modules.properties files found on
+     * the given class loaders classpath. If several files contain a name,
+     * the first one wins.
+     * @param classLoader the class loader for loading the
+     *          checkstyle_modules.properties files.
+     * @return the class names of modules by their short names.
+     * @throws CheckstyleException if an error occurs.
+     */
+    public static Map<String, String> getModuleNames(ClassLoader classLoader)
+            throws CheckstyleException {
+        final Map<String, String> result = Maps.newHashMap();
+        try {
+            final Enumeration<URL> indexFiles = classLoader.getResources(CHECKSTYLE_MODULES);
+
+            while (indexFiles.hasMoreElements()) {
+                final URL indexFile = indexFiles.nextElement();
+                final Properties index = new Properties();
+                try (InputStream stream = new BufferedInputStream(indexFile.openStream())) {
+                    index.load(stream);
+                }
+                catch (IOException ex) {
+                    throw new CheckstyleException("unable to read " + indexFile, ex);
+                }
+                for (String name : index.stringPropertyNames()) {
+                    if (!result.containsKey(name)) {
+                        result.put(name, index.getProperty(name));
+                    }
+                }
+            }
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("unable to get module index resources", ex);
+        }
+        return result;
+    }
 }
@@ -20,7 +20,11 @@
 package com.puppycrawl.tools.checkstyle;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,6 +37,9 @@ import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 
 /**
  * A factory for creating objects from package names and names.
+ * Names found in the index of modules are resolved without probing
+ * the packages. The constructor found for a name is reused for all
+ * objects created for it.
  * @author Rick Giles
  * @author lkuehne
  */
@@ -50,9 +57,15 @@ public class PackageObjectFactory implements ModuleFactory {
     /** A list of package names to prepend to class names. */
     private final Set<String> packages;
 
+    /** Fully qualified class names of modules by their short names. */
+    private final Map<String, String> moduleNames;
+
     /** The class loader used to load Checkstyle core and custom modules. */
     private final ClassLoader moduleClassLoader;
 
+    /** Constructors of the classes created for names. */
+    private final Map<String, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
     /**
      * Creates a new {@code PackageObjectFactory} instance.
      * @param packageNames the list of package names to use
@@ -61,6 +74,19 @@ public class PackageObjectFactory implements ModuleFactory {
      */
     public PackageObjectFactory(Set<String> packageNames,
             ClassLoader moduleClassLoader) {
+        this(packageNames, Collections.<String, String>emptyMap(), moduleClassLoader);
+    }
+
+    /**
+     * Creates a new {@code PackageObjectFactory} instance.
+     * @param packageNames the list of package names to use
+     * @param moduleNames fully qualified class names of modules by their
+     *          short names, which are used before the package names
+     * @param moduleClassLoader class loader used to load Checkstyle
+     *          core and custom modules
+     */
+    public PackageObjectFactory(Set<String> packageNames,
+            Map<String, String> moduleNames, ClassLoader moduleClassLoader) {
         if (moduleClassLoader == null) {
             throw new IllegalArgumentException(
                     "moduleClassLoader must not be null");
@@ -68,6 +94,7 @@ public class PackageObjectFactory implements ModuleFactory {
 
         //create a copy of the given set, but retain ordering
         packages = Sets.newLinkedHashSet(packageNames);
+        this.moduleNames = moduleNames;
         this.moduleClassLoader = moduleClassLoader;
     }
 
@@ -81,19 +108,19 @@ public class PackageObjectFactory implements ModuleFactory {
     }
 
     /**
-     * Creates a new instance of a class from a given name. If the name is
-     * a class name, creates an instance of the named class. Otherwise, creates
-     * an instance of a class name obtained by concatenating the given
+     * Finds the constructor of a class from a given name. If the name is
+     * a class name, finds the constructor of the named class. Otherwise, finds
+     * the constructor of a class name obtained by concatenating the given
      * to a package name from a given list of package names.
      * @param name the name of a class.
-     * @return the {@code Object}
+     * @return the constructor of the class
      * @throws CheckstyleException if an error occurs.
      */
-    private Object doMakeObject(String name)
+    private Constructor<?> doFindConstructor(String name)
         throws CheckstyleException {
         //try name first
         try {
-            return createObject(name);
+            return findConstructor(name);
         }
         catch (final CheckstyleException ex) {
             LOG.debug(IGNORING_EXCEPTION_MESSAGE, ex);
@@ -104,7 +131,7 @@ public class PackageObjectFactory implements ModuleFactory {
 
             final String className = packageName + name;
             try {
-                return createObject(className);
+                return findConstructor(className);
             }
             catch (final CheckstyleException ex) {
                 LOG.debug(IGNORING_EXCEPTION_MESSAGE, ex);
@@ -118,24 +145,45 @@ public class PackageObjectFactory implements ModuleFactory {
     }
 
     /**
-     * Creates a new instance of a named class.
+     * Finds the constructor without parameters of a named class.
      * @param className the name of the class to instantiate.
-     * @return the {@code Object} created by loader.
-     * @throws CheckstyleException if an error occurs.
+     * @return the constructor of the class.
+     * @throws CheckstyleException if the class cannot be instantiated.
      */
-    private Object createObject(String className)
+    private Constructor<?> findConstructor(String className)
         throws CheckstyleException {
         try {
             final Class<?> clazz = Class.forName(className, true, moduleClassLoader);
+            if (Modifier.isAbstract(clazz.getModifiers())) {
+                throw new CheckstyleException("Unable to instantiate abstract class "
+                    + className);
+            }
             final Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
             declaredConstructor.setAccessible(true);
-            return declaredConstructor.newInstance();
+            return declaredConstructor;
         }
         catch (final ReflectiveOperationException | NoClassDefFoundError exception) {
             throw new CheckstyleException("Unable to find class for " + className, exception);
         }
     }
 
+    /**
+     * Creates a new instance with a constructor.
+     * @param constructor the constructor of the class to instantiate.
+     * @return the {@code Object} created by the constructor.
+     * @throws CheckstyleException if an error occurs.
+     */
+    private static Object createObject(Constructor<?> constructor)
+        throws CheckstyleException {
+        try {
+            return constructor.newInstance();
+        }
+        catch (final ReflectiveOperationException exception) {
+            throw new CheckstyleException("Unable to instantiate "
+                + constructor.getDeclaringClass().getName(), exception);
+        }
+    }
+
     /**
      * Creates a new instance of a class from a given name, or that name
      * concatenated with &quot;Check&quot;. If the name is
@@ -148,14 +196,38 @@ public class PackageObjectFactory implements ModuleFactory {
      */
     @Override
     public Object createModule(String name)
+        throws CheckstyleException {
+        Constructor<?> constructor = constructors.get(name);
+        if (constructor == null) {
+            final String className = moduleNames.get(name);
+            if (className == null) {
+                constructor = findModuleConstructor(name);
+            }
+            else {
+                constructor = findConstructor(className);
+            }
+            constructors.put(name, constructor);
+        }
+        return createObject(constructor);
+    }
+
+    /**
+     * Finds the constructor of a class from a given name, or that name
+     * concatenated with &quot;Check&quot;, by trying the name and
+     * the package names.
+     * @param name the name of a class.
+     * @return the constructor of the class.
+     * @throws CheckstyleException if no class is found.
+     */
+    private Constructor<?> findModuleConstructor(String name)
         throws CheckstyleException {
         try {
-            return doMakeObject(name);
+            return doFindConstructor(name);
         }
         catch (final CheckstyleException ignored) {
             //try again with suffix "Check"
             try {
-                return doMakeObject(name + "Check");
+                return doFindConstructor(name + "Check");
             }
             catch (final CheckstyleException ex) {
                 final LocalizedMessage exceptionMessage = new LocalizedMessage(0,
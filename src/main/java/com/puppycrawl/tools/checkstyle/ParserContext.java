@@ -0,0 +1,130 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import antlr.ASTFactory;
+import antlr.CharBuffer;
+import antlr.LexerSharedInputState;
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import antlr.TokenStreamHiddenTokenFilter;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.grammars.GeneratedJavaLexer;
+import com.puppycrawl.tools.checkstyle.grammars.GeneratedJavaRecognizer;
+
+/**
+ * The lexer of a thread and its input, which are reset for each file.
+ * The parser is created for each file, as it is cheap to create and
+ * its state cannot be reset.
+ * @author the original author or authors.
+ */
+final class ParserContext {
+    /**
+     * Lexer of each thread, reused for all files the thread parses, as
+     * creating a lexer builds its table of keywords.
+     */
+    private static final ThreadLocal<ParserContext> CONTEXT =
+        new ThreadLocal<ParserContext>() {
+            @Override
+            protected ParserContext initialValue() {
+                return new ParserContext();
+            }
+        };
+
+    /** The reader of the text of the current file. */
+    private final CharSequenceReader reader = new CharSequenceReader();
+
+    /** The input buffer of the lexer. */
+    private final CharBuffer input = new CharBuffer(reader);
+
+    /** The lexer. */
+    private final GeneratedJavaLexer lexer = new GeneratedJavaLexer(input);
+
+    /** Creates the lexer. */
+    private ParserContext() {
+        lexer.setTreatAssertAsKeyword(true);
+        lexer.setTreatEnumAsKeyword(true);
+        lexer.setTokenObjectClass("antlr.CommonHiddenStreamToken");
+    }
+
+    /**
+     * Parses a Java source file with the lexer of the calling thread,
+     * creating the nodes of the AST with the given factory.
+     *
+     * @param contents
+     *                contains the contents of the file
+     * @param astFactory
+     *                the factory of the nodes of the AST
+     * @return the root of the AST
+     * @throws TokenStreamException
+     *                 if lexing failed
+     * @throws RecognitionException
+     *                 if parsing failed
+     */
+    static DetailAST parse(FileContents contents, ASTFactory astFactory)
+        throws RecognitionException, TokenStreamException {
+        final ParserContext context = CONTEXT.get();
+        try {
+            final GeneratedJavaLexer lexer = context.startFile(contents);
+
+            final TokenStreamHiddenTokenFilter filter =
+                    new TokenStreamHiddenTokenFilter(lexer);
+            filter.hide(TokenTypes.SINGLE_LINE_COMMENT);
+            filter.hide(TokenTypes.BLOCK_COMMENT_BEGIN);
+
+            final GeneratedJavaRecognizer parser =
+                new GeneratedJavaRecognizer(filter);
+            parser.setFilename(contents.getFileName());
+            parser.setASTFactory(astFactory);
+            parser.setASTNodeClass(DetailAST.class.getName());
+            parser.compilationUnit();
+
+            return (DetailAST) parser.getAST();
+        }
+        finally {
+            context.finishFile();
+        }
+    }
+
+    /**
+     * Resets the lexer to the start of a file.
+     * @param contents the contents of the file
+     * @return the lexer
+     */
+    private GeneratedJavaLexer startFile(FileContents contents) {
+        reader.setText(contents.getText().getFullText());
+        input.reset();
+        lexer.setInputState(new LexerSharedInputState(input));
+        lexer.setFilename(contents.getFileName());
+        lexer.setCommentListener(contents);
+        return lexer;
+    }
+
+    /**
+     * Releases the file, so the context of the thread does not keep it.
+     */
+    private void finishFile() {
+        reader.setText("");
+        lexer.setCommentListener(null);
+    }
+}
@@ -0,0 +1,165 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+import com.puppycrawl.tools.checkstyle.api.ProfileListener;
+
+/**
+ * Logger that reports the slowest modules and files of a profiled audit
+ * in plain text. Times are reported in milliseconds and allocations in
+ * kilobytes, or as {@code -} if the JVM does not measure them.
+ * @author the original author or authors.
+ * @see Checker#setProfile(boolean)
+ */
+public class ProfileLogger extends AutomaticBean implements ProfileListener {
+    /** Nanoseconds per millisecond. */
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /** Bytes per kilobyte. */
+    private static final long BYTES_PER_KILO = 1024;
+
+    /** Format of the header and the lines of a table of entries. */
+    private static final String LINE_FORMAT = "%10s %10s %10s %10s  %s%n";
+
+    /** Where to write the report. */
+    private final PrintWriter writer;
+
+    /** Whether to close the output stream after the audit. */
+    private final boolean closeStream;
+
+    /** The maximum number of modules and files reported. */
+    private final int limit;
+
+    /**
+     * Creates a new {@code ProfileLogger} instance.
+     * @param outputStream where to write the report
+     * @param closeStreamAfterUse whether to close the stream in auditFinished()
+     * @param limit the maximum number of modules and files reported
+     */
+    public ProfileLogger(OutputStream outputStream, boolean closeStreamAfterUse, int limit) {
+        writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        closeStream = closeStreamAfterUse;
+        this.limit = limit;
+    }
+
+    @Override
+    public void addProfile(AuditEvent event, Profile profile) {
+        final ProfileEntry parsing = profile.getParsing();
+        writer.printf(Locale.ROOT, "Parsed %d files in %s ms, %s ms of CPU time,"
+                + " %s KB allocated.%n", parsing.getCount(), toMillis(parsing.getWallTime()),
+                toMillis(parsing.getCpuTime()), toKilobytes(parsing.getAllocatedBytes()));
+        printEntries("Slowest modules:", "Calls", profile.getModules());
+        printEntries("Slowest files:", "Checks", profile.getFiles());
+        writer.flush();
+    }
+
+    @Override
+    public void auditStarted(AuditEvent event) {
+        // No need to implement this method in this class
+    }
+
+    @Override
+    public void auditFinished(AuditEvent event) {
+        writer.flush();
+        if (closeStream) {
+            writer.close();
+        }
+    }
+
+    @Override
+    public void fileStarted(AuditEvent event) {
+        // No need to implement this method in this class
+    }
+
+    @Override
+    public void fileFinished(AuditEvent event) {
+        // No need to implement this method in this class
+    }
+
+    @Override
+    public void addError(AuditEvent event) {
+        // No need to implement this method in this class
+    }
+
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        // No need to implement this method in this class
+    }
+
+    /**
+     * Prints a table of the slowest entries.
+     * @param title the title of the table
+     * @param countHeader the header of the number of calls
+     * @param entries the entries, slowest first
+     */
+    private void printEntries(String title, String countHeader, List<ProfileEntry> entries) {
+        writer.println(title);
+        writer.printf(Locale.ROOT, LINE_FORMAT, "Wall ms", "CPU ms", "Alloc KB",
+                countHeader, "Name");
+        for (ProfileEntry entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            writer.printf(Locale.ROOT, LINE_FORMAT, toMillis(entry.getWallTime()),
+                    toMillis(entry.getCpuTime()), toKilobytes(entry.getAllocatedBytes()),
+                    entry.getCount(), entry.getName());
+        }
+    }
+
+    /**
+     * Converts nanoseconds to milliseconds for the report.
+     * @param nanos the time in nanoseconds, -1 if it is not measured
+     * @return the time in milliseconds, or {@code -} if it is not measured
+     */
+    private static String toMillis(long nanos) {
+        return format(nanos, NANOS_PER_MILLI);
+    }
+
+    /**
+     * Converts bytes to kilobytes for the report.
+     * @param bytes the number of bytes, -1 if they are not measured
+     * @return the number of kilobytes, or {@code -} if they are not measured
+     */
+    private static String toKilobytes(long bytes) {
+        return format(bytes, BYTES_PER_KILO);
+    }
+
+    /**
+     * Formats a measured value in a larger unit.
+     * @param value the value, negative if it is not measured
+     * @param unit the size of the unit
+     * @return the value in the unit, or {@code -} if it is not measured
+     */
+    private static String format(long value, long unit) {
+        String result = "-";
+        if (value >= 0) {
+            result = String.valueOf(value / unit);
+        }
+        return result;
+    }
+}
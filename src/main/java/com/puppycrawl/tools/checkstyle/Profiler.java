@@ -0,0 +1,255 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+
+/**
+ * Collects the cost of the modules and files of an audit, when the Checker
+ * profiles audits. Modules measure themselves with counters confined to
+ * the thread that runs them and add the counters to the profiler when
+ * a file is done, so measuring does not need any synchronization.
+ * CPU time and allocated bytes are measured per thread, if the JVM
+ * supports it.
+ * @author the original author or authors.
+ */
+public final class Profiler {
+    /** The JVM threads. */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /** Whether the CPU time of the current thread can be measured. */
+    private static final boolean CPU_TIME_SUPPORTED =
+            THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    /** The JVM threads if their allocated bytes can be measured, null otherwise. */
+    private static final com.sun.management.ThreadMXBean ALLOCATING_THREADS =
+            getAllocatingThreads();
+
+    /** The cost of the modules by name. */
+    private final Map<String, Counter> modules = Maps.newHashMap();
+
+    /** The cost of the files by name. */
+    private final Map<String, Counter> files = Maps.newHashMap();
+
+    /** The cost of parsing. */
+    private final Counter parsing = new Counter();
+
+    /**
+     * Adds the cost measured by a counter to the cost of a module,
+     * and resets the counter.
+     * @param name the name of the module
+     * @param counter the counter of the module
+     */
+    synchronized void addModule(String name, Counter counter) {
+        add(modules, name, counter);
+    }
+
+    /**
+     * Adds the cost measured by a counter to the cost of a file,
+     * and resets the counter.
+     * @param fileName the name of the file
+     * @param counter the counter of the file
+     */
+    synchronized void addFile(String fileName, Counter counter) {
+        add(files, fileName, counter);
+    }
+
+    /**
+     * Adds the cost measured by a counter to the cost of parsing,
+     * and resets the counter.
+     * @param counter the counter of parsing
+     */
+    synchronized void addParsing(Counter counter) {
+        parsing.add(counter);
+    }
+
+    /**
+     * Returns the cost collected so far and starts collecting anew.
+     * @return the profile of the audit
+     */
+    synchronized Profile collectProfile() {
+        final Profile profile = new Profile(toEntries(modules), toEntries(files),
+                parsing.toEntry("Parsing"));
+        modules.clear();
+        files.clear();
+        parsing.reset();
+        return profile;
+    }
+
+    /**
+     * Adds the cost measured by a counter to the cost of a name,
+     * and resets the counter.
+     * @param counters the costs by name
+     * @param name the name
+     * @param counter the counter
+     */
+    private static void add(Map<String, Counter> counters, String name, Counter counter) {
+        Counter total = counters.get(name);
+        if (total == null) {
+            total = new Counter();
+            counters.put(name, total);
+        }
+        total.add(counter);
+    }
+
+    /**
+     * Converts counters to profile entries.
+     * @param counters the costs by name
+     * @return the entries
+     */
+    private static List<ProfileEntry> toEntries(Map<String, Counter> counters) {
+        final List<ProfileEntry> entries = Lists.newArrayList();
+        for (Map.Entry<String, Counter> counter : counters.entrySet()) {
+            entries.add(counter.getValue().toEntry(counter.getKey()));
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the JVM threads if they measure the bytes they allocate.
+     * @return the threads, or null if allocations are not measured
+     */
+    private static com.sun.management.ThreadMXBean getAllocatingThreads() {
+        com.sun.management.ThreadMXBean result = null;
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported()
+                    && threads.isThreadAllocatedMemoryEnabled()) {
+                result = threads;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the CPU time of the current thread.
+     * @return the CPU time in nanoseconds, 0 if it is not supported
+     */
+    private static long getCpuTime() {
+        long result = 0;
+        if (CPU_TIME_SUPPORTED) {
+            result = THREADS.getCurrentThreadCpuTime();
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread.
+     * @return the allocated bytes, 0 if they are not measured
+     */
+    private static long getAllocatedBytes() {
+        long result = 0;
+        if (ALLOCATING_THREADS != null) {
+            result = ALLOCATING_THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Measures the cost of calls made by one thread.
+     * A counter must be used by one thread at a time.
+     */
+    static final class Counter {
+        /** The number of calls. */
+        private long count;
+
+        /** The elapsed wall clock time in nanoseconds. */
+        private long wallTime;
+
+        /** The CPU time in nanoseconds. */
+        private long cpuTime;
+
+        /** The allocated bytes. */
+        private long allocatedBytes;
+
+        /** The wall clock time when the current call started. */
+        private long startWallTime;
+
+        /** The CPU time when the current call started. */
+        private long startCpuTime;
+
+        /** The allocated bytes when the current call started. */
+        private long startAllocatedBytes;
+
+        /** Starts measuring a call. */
+        void start() {
+            startWallTime = System.nanoTime();
+            startCpuTime = getCpuTime();
+            startAllocatedBytes = getAllocatedBytes();
+        }
+
+        /**
+         * Stops measuring a call and adds its cost.
+         * @param calls the number of calls to count
+         */
+        void stop(int calls) {
+            allocatedBytes += getAllocatedBytes() - startAllocatedBytes;
+            cpuTime += getCpuTime() - startCpuTime;
+            wallTime += System.nanoTime() - startWallTime;
+            count += calls;
+        }
+
+        /**
+         * Adds the cost measured by another counter and resets the other counter.
+         * @param other the other counter
+         */
+        private void add(Counter other) {
+            count += other.count;
+            wallTime += other.wallTime;
+            cpuTime += other.cpuTime;
+            allocatedBytes += other.allocatedBytes;
+            other.reset();
+        }
+
+        /** Clears the measured cost. */
+        private void reset() {
+            count = 0;
+            wallTime = 0;
+            cpuTime = 0;
+            allocatedBytes = 0;
+        }
+
+        /**
+         * Creates a profile entry with the measured cost.
+         * @param name the name of the entry
+         * @return the entry
+         */
+        private ProfileEntry toEntry(String name) {
+            long cpu = -1;
+            if (CPU_TIME_SUPPORTED) {
+                cpu = cpuTime;
+            }
+            long allocated = -1;
+            if (ALLOCATING_THREADS != null) {
+                allocated = allocatedBytes;
+            }
+            return new ProfileEntry(name, count, wallTime, cpu, allocated);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
@@ -35,24 +36,29 @@ import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.SortedSet;
 
+import com.google.common.collect.Sets;
 import com.google.common.io.Closeables;
 import com.google.common.io.Flushables;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 
 /**
  * This class maintains a persistent(on file-system) store of the files
- * that have checked ok(no validation events) and their associated
- * timestamp. It is used to optimize Checkstyle between few launches.
+ * that have been checked, their associated timestamp and the messages
+ * logged for them. It is used to optimize Checkstyle between few launches.
  * It is mostly useful for plugin and extensions of Checkstyle.
  * It uses a property file
- * for storage.  A hashcode of the Configuration is stored in the
- * cache file to ensure the cache is invalidated when the
- * configuration has changed.
+ * for storage.  A hashcode of the Configuration and of the local files
+ * it refers to is stored in the cache file to ensure the cache is
+ * invalidated when the configuration has changed.
  *
  * @author Oliver Burn
  */
-final class PropertyCacheFile {
+final class PropertyCacheFile implements ResultCache {
 
     /**
      * The property key to use for storing the hashcode of the
@@ -62,6 +68,21 @@ final class PropertyCacheFile {
      */
     private static final String CONFIG_HASH_KEY = "configuration*?";
 
+    /**
+     * The suffix of the property keys to use for storing the messages
+     * logged for files, chosen in the same way as {@link #CONFIG_HASH_KEY}.
+     */
+    private static final String MESSAGES_KEY_SUFFIX = "*messages?";
+
+    /** The property of modules with the cache file, which is not hashed with the resources. */
+    private static final String CACHE_FILE_PROPERTY = "cacheFile";
+
+    /** The algorithm of the hashcodes. */
+    private static final String HASH_ALGORITHM = "SHA-1";
+
+    /** The message of the exception thrown when a hashcode cannot be calculated. */
+    private static final String HASH_FAILURE = "Unable to calculate hashcode.";
+
     /** Hex digits. */
     private static final char[] HEX_CHARS = {
         '0', '1', '2', '3', '4', '5', '6', '7',
@@ -100,14 +121,11 @@ final class PropertyCacheFile {
         this.fileName = fileName;
     }
 
-    /**
-     * Load cached values from file.
-     * @throws IOException when there is a problems with file read
-     */
-    void load() throws IOException {
+    @Override
+    public void load() throws IOException {
         // get the current config so if the file isn't found
         // the first time the hash will be added to output file
-        final String currentConfigHash = getConfigHashCode(config);
+        final String currentConfigHash = getConfigAndResourcesHashCode(config);
         if (new File(fileName).exists()) {
             FileInputStream inStream = null;
             try {
@@ -130,13 +148,27 @@ final class PropertyCacheFile {
         }
     }
 
+    @Override
+    public void persist() throws IOException {
+        createCacheDirectory(fileName);
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(fileName);
+            details.store(out, null);
+        }
+        finally {
+            flushAndCloseOutStream(out);
+        }
+    }
+
     /**
-     * Cleans up the object and updates the cache file.
-     * @throws IOException  when there is a problems with file save
+     * Creates the directory of a cache file, if it does not exist.
+     * @param cacheFileName the cache file
+     * @throws IOException when there is a problems with directory creation
      */
-    void persist() throws IOException {
+    static void createCacheDirectory(String cacheFileName) throws IOException {
         try {
-            final Path directory = Paths.get(fileName).getParent();
+            final Path directory = Paths.get(cacheFileName).getParent();
             if (directory != null) {
                 Files.createDirectories(directory);
             }
@@ -144,14 +176,6 @@ final class PropertyCacheFile {
         catch (InvalidPathException | AccessDeniedException ex) {
             throw new IllegalStateException(ex.getMessage(), ex);
         }
-        FileOutputStream out = null;
-        try {
-            out = new FileOutputStream(fileName);
-            details.store(out, null);
-        }
-        finally {
-            flushAndCloseOutStream(out);
-        }
     }
 
     /**
@@ -159,23 +183,48 @@ final class PropertyCacheFile {
      * @param stream the output stream
      * @throws IOException  when there is a problems with file flush and close
      */
-    private static void flushAndCloseOutStream(OutputStream stream) throws IOException {
+    static void flushAndCloseOutStream(OutputStream stream) throws IOException {
         if (stream != null) {
             Flushables.flush(stream, false);
         }
         Closeables.close(stream, false);
     }
 
+    /**
+     * Returns the timestamp of a file as its key.
+     * @param file the file
+     * @return the timestamp of the file
+     */
+    @Override
+    public String getFileKey(File file) {
+        return Long.toString(file.lastModified());
+    }
+
     /**
      * Checks that file is in cache.
      * @param uncheckedFileName the file to check
      * @param timestamp the timestamp of the file to check
-     * @return whether the specified file has already been checked ok
+     * @return whether the specified file has already been checked
      */
     boolean isInCache(String uncheckedFileName, long timestamp) {
+        return isInCache(uncheckedFileName, Long.toString(timestamp));
+    }
+
+    @Override
+    public boolean isInCache(String uncheckedFileName, String key) {
         final String lastChecked = details.getProperty(uncheckedFileName);
         return lastChecked != null
-            && lastChecked.equals(Long.toString(timestamp));
+            && lastChecked.equals(key);
+    }
+
+    @Override
+    public SortedSet<LocalizedMessage> getMessages(String uncheckedFileName, String key) {
+        SortedSet<LocalizedMessage> messages = null;
+        if (isInCache(uncheckedFileName, key)) {
+            messages = CachedMessages.deserialize(
+                    details.getProperty(uncheckedFileName + MESSAGES_KEY_SUFFIX, ""));
+        }
+        return messages;
     }
 
     /**
@@ -184,7 +233,22 @@ final class PropertyCacheFile {
      * @param timestamp the timestamp of the file
      */
     void put(String checkedFileName, long timestamp) {
-        details.setProperty(checkedFileName, Long.toString(timestamp));
+        final SortedSet<LocalizedMessage> noMessages = Sets.newTreeSet();
+        put(checkedFileName, Long.toString(timestamp), noMessages);
+    }
+
+    @Override
+    public void put(String checkedFileName, String key, SortedSet<LocalizedMessage> messages) {
+        final String serialized = CachedMessages.serialize(messages);
+        synchronized (details) {
+            details.setProperty(checkedFileName, key);
+            if (serialized.isEmpty()) {
+                details.remove(checkedFileName + MESSAGES_KEY_SUFFIX);
+            }
+            else {
+                details.setProperty(checkedFileName + MESSAGES_KEY_SUFFIX, serialized);
+            }
+        }
     }
 
     /**
@@ -193,7 +257,7 @@ final class PropertyCacheFile {
      * @param object the GlobalProperties
      * @return the hashcode for {@code object}
      */
-    private static String getConfigHashCode(Serializable object) {
+    static String getConfigHashCode(Serializable object) {
         try {
             // im-memory serialization of Configuration
 
@@ -211,14 +275,72 @@ final class PropertyCacheFile {
             // use a message digest here to keep the length of the
             // hashcode reasonable
 
-            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            final MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
             digest.update(outputStream.toByteArray());
 
             return hexEncode(digest.digest());
         }
         catch (final IOException | NoSuchAlgorithmException ex) {
             // rethrow as unchecked exception
-            throw new IllegalStateException("Unable to calculate hashcode.", ex);
+            throw new IllegalStateException(HASH_FAILURE, ex);
+        }
+    }
+
+    /**
+     * Calculates the hashcode of a configuration and of the contents of the
+     * local files its properties refer to, like the file of a suppression
+     * filter or of a header, so that cached results are dropped when one
+     * of these files changes too. Resources loaded from URLs or from the
+     * classpath are not taken into account.
+     * @param config the configuration
+     * @return the hashcode, which is the hashcode of the configuration
+     *     if it refers to no local file
+     */
+    static String getConfigAndResourcesHashCode(Configuration config) {
+        final String configHash = getConfigHashCode(config);
+        final Set<File> resources = Sets.newLinkedHashSet();
+        collectLocalResources(config, resources);
+        String hash = configHash;
+        if (!resources.isEmpty()) {
+            try {
+                final MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+                digest.update(configHash.getBytes(StandardCharsets.UTF_8));
+                for (final File resource : resources) {
+                    digest.update(resource.getPath().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(resource.toPath()));
+                }
+                hash = hexEncode(digest.digest());
+            }
+            catch (final IOException | NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(HASH_FAILURE, ex);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Collects the local files that the properties of a configuration and
+     * of its children refer to, except the cache file.
+     * @param config the configuration
+     * @param resources the files found so far
+     */
+    private static void collectLocalResources(Configuration config, Set<File> resources) {
+        for (final String name : config.getAttributeNames()) {
+            if (!CACHE_FILE_PROPERTY.equals(name)) {
+                final File file;
+                try {
+                    file = new File(config.getAttribute(name));
+                }
+                catch (final CheckstyleException ex) {
+                    throw new IllegalStateException(ex.getMessage(), ex);
+                }
+                if (file.isFile()) {
+                    resources.add(file.getAbsoluteFile());
+                }
+            }
+        }
+        for (final Configuration child : config.getChildren()) {
+            collectLocalResources(child, resources);
         }
     }
 
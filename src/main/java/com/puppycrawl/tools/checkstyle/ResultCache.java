@@ -0,0 +1,82 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SortedSet;
+
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+
+/**
+ * A persistent(on file-system) store of the files that have been checked,
+ * the messages logged for them and a key identifying the state of each
+ * file when it was checked. A file whose key did not change since it was
+ * checked does not need to be checked again, its messages are reported
+ * instead. Implementations are used by several threads at once when files
+ * are processed in parallel.
+ *
+ * @author the original author or authors.
+ */
+interface ResultCache {
+    /**
+     * Load cached values from file.
+     * @throws IOException when there is a problems with file read
+     */
+    void load() throws IOException;
+
+    /**
+     * Updates the cache file.
+     * @throws IOException when there is a problems with file save
+     */
+    void persist() throws IOException;
+
+    /**
+     * Computes the key identifying the current state of a file.
+     * @param file the file
+     * @return the key of the file
+     * @throws IOException when the file cannot be read
+     */
+    String getFileKey(File file) throws IOException;
+
+    /**
+     * Checks that file is in cache.
+     * @param uncheckedFileName the file to check
+     * @param key the key of the file to check
+     * @return whether the specified file has already been checked
+     */
+    boolean isInCache(String uncheckedFileName, String key);
+
+    /**
+     * Gets the messages logged for a file when it was checked.
+     * @param uncheckedFileName the file to check
+     * @param key the key of the file to check
+     * @return the messages of the file, or null if the file is not in cache
+     */
+    SortedSet<LocalizedMessage> getMessages(String uncheckedFileName, String key);
+
+    /**
+     * Records that a file was checked.
+     * @param checkedFileName name of the file that was checked
+     * @param key the key of the file
+     * @param messages the messages logged for the file
+     */
+    void put(String checkedFileName, String key, SortedSet<LocalizedMessage> messages);
+}
@@ -0,0 +1,77 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
+
+/**
+ * The state of {@link FileContentsHolder} and {@link SuppressWarningsHolder}
+ * for the current file of a thread, which filters on comments and annotations
+ * read. A TreeWalker fills the holders on the thread that processes a file,
+ * so the state is moved to the thread that filters the messages of the
+ * fileset checks that are not duplicated per thread.
+ * @author the original author or authors.
+ */
+final class SuppressionHolders {
+    /** The contents of the file, null if there are none. */
+    private final FileContents contents;
+
+    /** The suppressions of the file, null if there are none. */
+    private final SuppressWarningsHolder.Suppressions suppressions;
+
+    /**
+     * Creates the state of the holders.
+     * @param contents the contents of the file, null if there are none
+     * @param suppressions the suppressions of the file, null if there are none
+     */
+    private SuppressionHolders(FileContents contents,
+            SuppressWarningsHolder.Suppressions suppressions) {
+        this.contents = contents;
+        this.suppressions = suppressions;
+    }
+
+    /**
+     * Captures the state of the holders of the calling thread.
+     * @return the state of the holders
+     */
+    static SuppressionHolders capture() {
+        return new SuppressionHolders(FileContentsHolder.getContents(),
+                SuppressWarningsHolder.getSuppressions());
+    }
+
+    /**
+     * Removes the state of the holders of the calling thread, so that they
+     * do not refer to a file processed before.
+     */
+    static void clear() {
+        FileContentsHolder.setContents(null);
+        SuppressWarningsHolder.setSuppressions(null);
+    }
+
+    /**
+     * Sets this state to the holders of the calling thread.
+     */
+    void restore() {
+        FileContentsHolder.setContents(contents);
+        SuppressWarningsHolder.setSuppressions(suppressions);
+    }
+}
@@ -21,25 +21,21 @@ package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
-import java.io.StringReader;
-import java.util.AbstractMap.SimpleEntry;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedSet;
 
-import antlr.CommonHiddenStreamToken;
+import antlr.ASTFactory;
 import antlr.RecognitionException;
-import antlr.Token;
 import antlr.TokenStreamException;
-import antlr.TokenStreamHiddenTokenFilter;
 import antlr.TokenStreamRecognitionException;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
 import com.puppycrawl.tools.checkstyle.api.Check;
@@ -48,10 +44,12 @@ import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.FileText;
-import com.puppycrawl.tools.checkstyle.api.TokenTypes;
-import com.puppycrawl.tools.checkstyle.grammars.GeneratedJavaLexer;
-import com.puppycrawl.tools.checkstyle.grammars.GeneratedJavaRecognizer;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.checks.ClassResolver;
+import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
@@ -61,19 +59,21 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
  *
  * @author Oliver Burn
  */
+@FileIndependent
 public final class TreeWalker
     extends AbstractFileSetCheck {
 
     /** Default distance between tab stops. */
     private static final int DEFAULT_TAB_WIDTH = 8;
 
-    /** Maps from token name to ordinary checks. */
-    private final Multimap<String, Check> tokenToOrdinaryChecks =
-        HashMultimap.create();
+    /** Empty array of checks, used for tokens without registered checks. */
+    private static final Check[] NO_CHECKS = new Check[0];
 
-    /** Maps from token name to comment checks. */
-    private final Multimap<String, Check> tokenToCommentChecks =
-            HashMultimap.create();
+    /** Ordinary checks indexed by the type of token they visit. */
+    private Check[][] tokenToOrdinaryChecks = new Check[0][];
+
+    /** Comment checks indexed by the type of token they visit. */
+    private Check[][] tokenToCommentChecks = new Check[0][];
 
     /** Registered ordinary checks, that don't use comment nodes. */
     private final Set<Check> ordinaryChecks = Sets.newHashSet();
@@ -85,7 +85,29 @@ public final class TreeWalker
     private int tabWidth = DEFAULT_TAB_WIDTH;
 
     /** Cache file. **/
-    private PropertyCacheFile cache;
+    private ResultCache cache;
+
+    /** File name of cache, null if there is no cache. */
+    private String cacheFile;
+
+    /** How the cache identifies files that did not change. */
+    private CacheMode cacheMode = CacheMode.TIMESTAMP;
+
+    /**
+     * Whether this instance loads and persists its cache, which is not the
+     * case if it records its results in the cache of another instance.
+     */
+    private boolean cacheOwner = true;
+
+    /**
+     * Whether files with messages are cached. Not the case if checks
+     * keep the state of the current file for filters, as the filters
+     * need that state for cached messages too.
+     */
+    private boolean cacheMessages = true;
+
+    /** Whether token types of branches are computed for each AST after parsing. */
+    private boolean precomputeBranchTokenTypes;
 
     /** Class loader to resolve classes with. **/
     private ClassLoader classLoader;
@@ -96,6 +118,15 @@ public final class TreeWalker
     /** A factory for creating submodules (i.e. the Checks) */
     private ModuleFactory moduleFactory;
 
+    /** Profiler of the audit, null if the audit is not profiled. */
+    private Profiler profiler;
+
+    /** Counters of the checks for the file being processed, if the audit is profiled. */
+    private final Map<Check, Profiler.Counter> checkCounters = new IdentityHashMap<>();
+
+    /** Counter of parsing the file being processed, if the audit is profiled. */
+    private final Profiler.Counter parseCounter = new Profiler.Counter();
+
     /**
      * Creates a new {@code TreeWalker} instance.
      */
@@ -111,16 +142,73 @@ public final class TreeWalker
         this.tabWidth = tabWidth;
     }
 
+    /**
+     * Sets whether the token types of all branches of an AST are computed
+     * in one pass after parsing, instead of lazily by
+     * {@link DetailAST#branchContains(int)}.
+     * @param precomputeBranchTokenTypes whether to compute them after parsing
+     */
+    public void setPrecomputeBranchTokenTypes(boolean precomputeBranchTokenTypes) {
+        this.precomputeBranchTokenTypes = precomputeBranchTokenTypes;
+    }
+
     /**
      * Sets cache file.
      * @param fileName the cache file
      * @throws IOException if there are some problems with file loading
      */
     public void setCacheFile(String fileName) throws IOException {
-        final Configuration configuration = getConfiguration();
-        cache = new PropertyCacheFile(configuration, fileName);
+        cacheFile = fileName;
+        createCache();
+    }
+
+    /**
+     * Sets how the cache identifies files that did not change.
+     * @param cacheMode {@code timestamp} to compare the timestamps of files,
+     *     {@code content} to compare digests of their contents
+     * @throws IOException if there are some problems with file loading
+     */
+    public void setCacheMode(String cacheMode) throws IOException {
+        this.cacheMode = CacheMode.getInstance(cacheMode);
+        createCache();
+    }
+
+    /**
+     * Creates and loads the cache, if a cache file is set.
+     * @throws IOException if there are some problems with file loading
+     */
+    private void createCache() throws IOException {
+        if (cacheFile != null && cacheOwner) {
+            cache = cacheMode.createCache(getConfiguration(), cacheFile);
+        }
+    }
 
-        cache.load();
+    /**
+     * Makes this instance record its results in the cache of another
+     * TreeWalker. Used for the instances that process files in parallel,
+     * so all of them update a single cache file, which only the other
+     * TreeWalker loads and persists. Must be called before this instance
+     * is configured.
+     * @param other the TreeWalker whose cache is shared
+     */
+    void shareCache(TreeWalker other) {
+        cacheOwner = false;
+        cache = other.cache;
+    }
+
+    /**
+     * Checks whether all checks of this TreeWalker are {@link FileIndependent}.
+     * Only then may an instance of its own process the files of each thread,
+     * as other checks may keep state across files in their fields.
+     * @return true if all checks are file independent
+     */
+    boolean hasFileIndependentChecks() {
+        for (Check check : Iterables.concat(ordinaryChecks, commentChecks)) {
+            if (!check.getClass().isAnnotationPresent(FileIndependent.class)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -138,6 +226,14 @@ public final class TreeWalker
         this.moduleFactory = moduleFactory;
     }
 
+    /**
+     * Sets the profiler that collects the cost of the checks and of parsing.
+     * @param profiler the profiler of the audit
+     */
+    public void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
     @Override
     public void finishLocalSetup() {
         final DefaultContext checkContext = new DefaultContext();
@@ -164,17 +260,27 @@ public final class TreeWalker
         check.init();
 
         registerCheck(check);
+        checkCounters.put(check, new Profiler.Counter());
     }
 
     @Override
     protected void processFiltered(File file, List<String> lines) throws CheckstyleException {
-        // check if already checked and passed the file
+        // check if already checked the file, and report its messages again
         final String fileName = file.getPath();
-        final long timestamp = file.lastModified();
-        if (cache != null
-                && (cache.isInCache(fileName, timestamp)
-                    || !CommonUtils.matchesFileExtension(file, getFileExtensions()))) {
-            return;
+        String fileKey = null;
+        if (cache != null) {
+            if (!CommonUtils.matchesFileExtension(file, getFileExtensions())) {
+                return;
+            }
+            fileKey = getFileKey(file);
+            final SortedSet<LocalizedMessage> cachedMessages =
+                    cache.getMessages(fileName, fileKey);
+            if (cachedMessages != null) {
+                for (LocalizedMessage message : cachedMessages) {
+                    getMessageCollector().add(message);
+                }
+                return;
+            }
         }
 
         final String msg = "%s occurred during the analysis of file %s.";
@@ -182,15 +288,14 @@ public final class TreeWalker
         try {
             final FileText text = FileText.fromLines(file, lines);
             final FileContents contents = new FileContents(text);
-            final DetailAST rootAST = parse(contents);
+            final CommentTrackingAstFactory astFactory = new CommentTrackingAstFactory();
+            final DetailAST rootAST = parseProfiled(contents, astFactory);
 
             getMessageCollector().reset();
 
             walk(rootAST, contents, AstState.ORDINARY);
 
-            final DetailAST astWithComments = appendHiddenCommentNodes(rootAST);
-
-            walk(astWithComments, contents, AstState.WITH_COMMENTS);
+            walkWithComments(rootAST, astFactory, contents);
         }
         catch (final TokenStreamRecognitionException tre) {
             final String exceptionMsg = String.format(Locale.ROOT, msg,
@@ -202,9 +307,27 @@ public final class TreeWalker
                     ex.getClass().getSimpleName(), fileName);
             throw new CheckstyleException(exceptionMsg, ex);
         }
+        finally {
+            addCountersToProfiler();
+        }
+
+        if (cache != null && (cacheMessages || getMessageCollector().size() == 0)) {
+            cache.put(fileName, fileKey, getMessageCollector().getMessages());
+        }
+    }
 
-        if (cache != null && getMessageCollector().size() == 0) {
-            cache.put(fileName, timestamp);
+    /**
+     * Computes the key identifying the current state of a file in the cache.
+     * @param file the file
+     * @return the key of the file
+     * @throws CheckstyleException if the file cannot be read
+     */
+    private String getFileKey(File file) throws CheckstyleException {
+        try {
+            return cache.getFileKey(file);
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to read file " + file.getPath(), ex);
         }
     }
 
@@ -230,7 +353,7 @@ public final class TreeWalker
             for (String token : checkTokens) {
                 final int tokenId = TokenUtils.getTokenId(token);
                 if (Arrays.binarySearch(acceptableTokens, tokenId) >= 0) {
-                    registerCheck(token, check);
+                    registerCheck(tokenId, check);
                 }
                 else {
                     final String message = String.format(Locale.ROOT, "Token \"%s\" was "
@@ -243,6 +366,9 @@ public final class TreeWalker
         for (int element : tokens) {
             registerCheck(element, check);
         }
+        if (check instanceof FileContentsHolder || check instanceof SuppressWarningsHolder) {
+            cacheMessages = false;
+        }
         if (check.isCommentNodesRequired()) {
             commentChecks.add(check);
         }
@@ -258,28 +384,44 @@ public final class TreeWalker
      * @throws CheckstyleException if Check is misconfigured
      */
     private void registerCheck(int tokenId, Check check) throws CheckstyleException {
-        registerCheck(TokenUtils.getTokenName(tokenId), check);
-    }
-
-    /**
-     * Register a check for a specified token name.
-     * @param token the name of the token
-     * @param check the check to register
-     * @throws CheckstyleException if Check is misconfigured
-     */
-    private void registerCheck(String token, Check check) throws CheckstyleException {
         if (check.isCommentNodesRequired()) {
-            tokenToCommentChecks.put(token, check);
+            tokenToCommentChecks = addCheck(tokenToCommentChecks, tokenId, check);
         }
-        else if (TokenUtils.isCommentType(token)) {
+        else if (TokenUtils.isCommentType(tokenId)) {
             final String message = String.format(Locale.ROOT, "Check '%s' waits for comment type "
                     + "token ('%s') and should override 'isCommentNodesRequired()' "
-                    + "method to return 'true'", check.getClass().getName(), token);
+                    + "method to return 'true'", check.getClass().getName(),
+                    TokenUtils.getTokenName(tokenId));
             throw new CheckstyleException(message);
         }
         else {
-            tokenToOrdinaryChecks.put(token, check);
+            tokenToOrdinaryChecks = addCheck(tokenToOrdinaryChecks, tokenId, check);
+        }
+    }
+
+    /**
+     * Adds a check to the checks of a token type, unless it is already
+     * registered for that token type.
+     * @param table the checks indexed by token type
+     * @param tokenId the id of the token
+     * @param check the check to add
+     * @return the table with the check added, the same table if it was large enough
+     */
+    private static Check[][] addCheck(Check[][] table, int tokenId, Check check) {
+        Check[][] result = table;
+        if (tokenId >= result.length) {
+            result = Arrays.copyOf(result, tokenId + 1);
+        }
+        final Check[] checks = result[tokenId];
+        if (checks == null) {
+            result[tokenId] = new Check[] {check};
         }
+        else if (!Arrays.asList(checks).contains(check)) {
+            final Check[] newChecks = Arrays.copyOf(checks, checks.length + 1);
+            newChecks[checks.length] = check;
+            result[tokenId] = newChecks;
+        }
+        return result;
     }
 
     /**
@@ -310,6 +452,9 @@ public final class TreeWalker
      */
     private void walk(DetailAST ast, FileContents contents,
             AstState astState) {
+        if (precomputeBranchTokenTypes) {
+            DetailAST.computeBranchTokenTypes(ast);
+        }
         notifyBegin(ast, contents, astState);
 
         // empty files are not flagged by javac, will yield ast == null
@@ -319,6 +464,23 @@ public final class TreeWalker
         notifyEnd(ast, astState);
     }
 
+    /**
+     * Appends comment nodes to an AST and walks it for comment checks.
+     * Does nothing if there are no comment checks.
+     * @param rootAST the root AST without comment nodes
+     * @param astFactory the factory which created the nodes of the AST
+     * @param contents the contents of the file the AST was generated from.
+     */
+    private void walkWithComments(DetailAST rootAST,
+            CommentTrackingAstFactory astFactory, FileContents contents) {
+        if (!commentChecks.isEmpty()) {
+            final DetailAST astWithComments =
+                    astFactory.appendHiddenCommentNodes(rootAST);
+
+            walk(astWithComments, contents, AstState.WITH_COMMENTS);
+        }
+    }
+
     /**
      * Notify checks that we are about to begin walking a tree.
      * @param rootAST the root of the tree.
@@ -338,7 +500,15 @@ public final class TreeWalker
 
         for (Check check : checks) {
             check.setFileContents(contents);
-            check.beginTree(rootAST);
+            if (profiler == null) {
+                check.beginTree(rootAST);
+            }
+            else {
+                final Profiler.Counter counter = checkCounters.get(check);
+                counter.start();
+                check.beginTree(rootAST);
+                counter.stop(0);
+            }
         }
     }
 
@@ -358,7 +528,15 @@ public final class TreeWalker
         }
 
         for (Check check : checks) {
-            check.finishTree(rootAST);
+            if (profiler == null) {
+                check.finishTree(rootAST);
+            }
+            else {
+                final Profiler.Counter counter = checkCounters.get(check);
+                counter.start();
+                check.finishTree(rootAST);
+                counter.stop(0);
+            }
         }
     }
 
@@ -368,11 +546,18 @@ public final class TreeWalker
      * @param astState state of AST.
      */
     private void notifyVisit(DetailAST ast, AstState astState) {
-        final Collection<Check> visitors = getListOfChecks(ast, astState);
-
-        if (visitors != null) {
+        final Check[] visitors = getListOfChecks(ast, astState);
+        if (profiler == null) {
+            for (Check check : visitors) {
+                check.visitToken(ast);
+            }
+        }
+        else {
             for (Check check : visitors) {
+                final Profiler.Counter counter = checkCounters.get(check);
+                counter.start();
                 check.visitToken(ast);
+                counter.stop(1);
             }
         }
     }
@@ -384,12 +569,38 @@ public final class TreeWalker
      * @param astState state of AST.
      */
     private void notifyLeave(DetailAST ast, AstState astState) {
-        final Collection<Check> visitors = getListOfChecks(ast, astState);
-
-        if (visitors != null) {
+        final Check[] visitors = getListOfChecks(ast, astState);
+        if (profiler == null) {
+            for (Check check : visitors) {
+                check.leaveToken(ast);
+            }
+        }
+        else {
             for (Check check : visitors) {
+                final Profiler.Counter counter = checkCounters.get(check);
+                counter.start();
                 check.leaveToken(ast);
+                counter.stop(1);
+            }
+        }
+    }
+
+    /**
+     * Adds the cost of the checks and of parsing the processed file to
+     * the profiler, if the audit is profiled. Checks are named by their id,
+     * or by their class name if they have no id.
+     */
+    private void addCountersToProfiler() {
+        if (profiler != null) {
+            for (Entry<Check, Profiler.Counter> entry : checkCounters.entrySet()) {
+                final Check check = entry.getKey();
+                String name = check.getId();
+                if (name == null) {
+                    name = check.getClass().getSimpleName();
+                }
+                profiler.addModule(name, entry.getValue());
             }
+            profiler.addParsing(parseCounter);
         }
     }
 
@@ -400,21 +611,20 @@ public final class TreeWalker
      *            the node to notify for
      * @param astState
      *            state of AST.
-     * @return list of visitors
+     * @return list of visitors, empty if no check visits the node
      */
-    private Collection<Check> getListOfChecks(DetailAST ast, AstState astState) {
-        Collection<Check> visitors = null;
-        final String tokenType = TokenUtils.getTokenName(ast.getType());
-
+    private Check[] getListOfChecks(DetailAST ast, AstState astState) {
+        final Check[][] table;
         if (astState == AstState.WITH_COMMENTS) {
-            if (tokenToCommentChecks.containsKey(tokenType)) {
-                visitors = tokenToCommentChecks.get(tokenType);
-            }
+            table = tokenToCommentChecks;
         }
         else {
-            if (tokenToOrdinaryChecks.containsKey(tokenType)) {
-                visitors = tokenToOrdinaryChecks.get(tokenType);
-            }
+            table = tokenToOrdinaryChecks;
+        }
+        final int tokenType = ast.getType();
+        Check[] visitors = NO_CHECKS;
+        if (tokenType < table.length && table[tokenType] != null) {
+            visitors = table[tokenType];
         }
         return visitors;
     }
@@ -432,27 +642,61 @@ public final class TreeWalker
      */
     public static DetailAST parse(FileContents contents)
         throws RecognitionException, TokenStreamException {
-        final String fullText = contents.getText().getFullText().toString();
-        final Reader reader = new StringReader(fullText);
-        final GeneratedJavaLexer lexer = new GeneratedJavaLexer(reader);
-        lexer.setFilename(contents.getFileName());
-        lexer.setCommentListener(contents);
-        lexer.setTreatAssertAsKeyword(true);
-        lexer.setTreatEnumAsKeyword(true);
-        lexer.setTokenObjectClass("antlr.CommonHiddenStreamToken");
+        return ParserContext.parse(contents, new DetailAstFactory());
+    }
 
-        final TokenStreamHiddenTokenFilter filter =
-                new TokenStreamHiddenTokenFilter(lexer);
-        filter.hide(TokenTypes.SINGLE_LINE_COMMENT);
-        filter.hide(TokenTypes.BLOCK_COMMENT_BEGIN);
+    /**
+     * Parses a Java source file, creating the nodes of the AST with
+     * the given factory, and measures the cost of parsing if the audit
+     * is profiled.
+     *
+     * @param contents
+     *                contains the contents of the file
+     * @param astFactory
+     *                the factory of the nodes of the AST
+     * @return the root of the AST
+     * @throws TokenStreamException
+     *                 if lexing failed
+     * @throws RecognitionException
+     *                 if parsing failed
+     */
+    private DetailAST parseProfiled(FileContents contents, ASTFactory astFactory)
+        throws RecognitionException, TokenStreamException {
+        final DetailAST rootAST;
+        if (profiler == null) {
+            rootAST = ParserContext.parse(contents, astFactory);
+        }
+        else {
+            parseCounter.start();
+            rootAST = ParserContext.parse(contents, astFactory);
+            parseCounter.stop(1);
+        }
+        return rootAST;
+    }
 
-        final GeneratedJavaRecognizer parser =
-            new GeneratedJavaRecognizer(filter);
-        parser.setFilename(contents.getFileName());
-        parser.setASTNodeClass(DetailAST.class.getName());
-        parser.compilationUnit();
+    /**
+     * Parses a Java source file and appends the comment nodes to the AST,
+     * as done for comment checks.
+     *
+     * @param contents
+     *                contains the contents of the file
+     * @return the root of the AST with comment nodes
+     * @throws TokenStreamException
+     *                 if lexing failed
+     * @throws RecognitionException
+     *                 if parsing failed
+     */
+    static DetailAST parseWithComments(FileContents contents)
+        throws RecognitionException, TokenStreamException {
+        final CommentTrackingAstFactory astFactory = new CommentTrackingAstFactory();
+        return astFactory.appendHiddenCommentNodes(ParserContext.parse(contents, astFactory));
+    }
 
-        return (DetailAST) parser.getAST();
+    @Override
+    public void beginProcessing(String charset) {
+        super.beginProcessing(charset);
+        // classes may have changed since the previous audit
+        ClassResolver.clearCache();
     }
 
     @Override
@@ -463,7 +707,7 @@ public final class TreeWalker
         for (Check check : commentChecks) {
             check.destroy();
         }
-        if (cache != null) {
+        if (cache != null && cacheOwner) {
             try {
                 cache.persist();
             }
@@ -496,193 +740,6 @@ public final class TreeWalker
         }
     }
 
-    /**
-     * Appends comment nodes to existing AST.
-     * It traverses each node in AST, looks for hidden comment tokens
-     * and appends found comment tokens as nodes in AST.
-     * @param root
-     *        root of AST.
-     * @return root of AST with comment nodes.
-     */
-    private static DetailAST appendHiddenCommentNodes(DetailAST root) {
-        DetailAST result = root;
-        DetailAST curNode = root;
-        DetailAST lastNode = root;
-
-        while (curNode != null) {
-            if (isPositionGreater(curNode, lastNode)) {
-                lastNode = curNode;
-            }
-
-            CommonHiddenStreamToken tokenBefore = curNode.getHiddenBefore();
-            DetailAST currentSibling = curNode;
-            while (tokenBefore != null) {
-                final DetailAST newCommentNode =
-                         createCommentAstFromToken(tokenBefore);
-
-                currentSibling.addPreviousSibling(newCommentNode);
-
-                if (currentSibling == result) {
-                    result = newCommentNode;
-                }
-
-                currentSibling = newCommentNode;
-                tokenBefore = tokenBefore.getHiddenBefore();
-            }
-
-            DetailAST toVisit = curNode.getFirstChild();
-            while (curNode != null && toVisit == null) {
-                toVisit = curNode.getNextSibling();
-                if (toVisit == null) {
-                    curNode = curNode.getParent();
-                }
-            }
-            curNode = toVisit;
-        }
-        if (lastNode != null) {
-            CommonHiddenStreamToken tokenAfter = lastNode.getHiddenAfter();
-            DetailAST currentSibling = lastNode;
-            while (tokenAfter != null) {
-                final DetailAST newCommentNode =
-                        createCommentAstFromToken(tokenAfter);
-
-                currentSibling.addNextSibling(newCommentNode);
-
-                currentSibling = newCommentNode;
-                tokenAfter = tokenAfter.getHiddenAfter();
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Checks if position of first DetailAST is greater than position of
-     * second DetailAST. Position is line number and column number in source
-     * file.
-     * @param ast1
-     *        first DetailAST node.
-     * @param ast2
-     *        second DetailAST node.
-     * @return true if position of ast1 is greater than position of ast2.
-     */
-    private static boolean isPositionGreater(DetailAST ast1, DetailAST ast2) {
-        if (ast1.getLineNo() == ast2.getLineNo()) {
-            return ast1.getColumnNo() > ast2.getColumnNo();
-        }
-        else {
-            return ast1.getLineNo() > ast2.getLineNo();
-        }
-    }
-
-    /**
-     * Create comment AST from token. Depending on token type
-     * SINGLE_LINE_COMMENT or BLOCK_COMMENT_BEGIN is created.
-     * @param token
-     *        Token object.
-     * @return DetailAST of comment node.
-     */
-    private static DetailAST createCommentAstFromToken(Token token) {
-        if (token.getType() == TokenTypes.SINGLE_LINE_COMMENT) {
-            return createSlCommentNode(token);
-        }
-        else {
-            return createBlockCommentNode(token);
-        }
-    }
-
-    /**
-     * Create single-line comment from token.
-     * @param token
-     *        Token object.
-     * @return DetailAST with SINGLE_LINE_COMMENT type.
-     */
-    private static DetailAST createSlCommentNode(Token token) {
-        final DetailAST slComment = new DetailAST();
-        slComment.setType(TokenTypes.SINGLE_LINE_COMMENT);
-        slComment.setText("//");
-
-        // column counting begins from 0
-        slComment.setColumnNo(token.getColumn() - 1);
-        slComment.setLineNo(token.getLine());
-
-        final DetailAST slCommentContent = new DetailAST();
-        slCommentContent.initialize(token);
-        slCommentContent.setType(TokenTypes.COMMENT_CONTENT);
-
-        // column counting begins from 0
-        // plus length of '//'
-        slCommentContent.setColumnNo(token.getColumn() - 1 + 2);
-        slCommentContent.setLineNo(token.getLine());
-        slCommentContent.setText(token.getText());
-
-        slComment.addChild(slCommentContent);
-        return slComment;
-    }
-
-    /**
-     * Create block comment from token.
-     * @param token
-     *        Token object.
-     * @return DetailAST with BLOCK_COMMENT type.
-     */
-    private static DetailAST createBlockCommentNode(Token token) {
-        final DetailAST blockComment = new DetailAST();
-        blockComment.initialize(TokenTypes.BLOCK_COMMENT_BEGIN, "/*");
-
-        // column counting begins from 0
-        blockComment.setColumnNo(token.getColumn() - 1);
-        blockComment.setLineNo(token.getLine());
-
-        final DetailAST blockCommentContent = new DetailAST();
-        blockCommentContent.initialize(token);
-        blockCommentContent.setType(TokenTypes.COMMENT_CONTENT);
-
-        // column counting begins from 0
-        // plus length of '/*'
-        blockCommentContent.setColumnNo(token.getColumn() - 1 + 2);
-        blockCommentContent.setLineNo(token.getLine());
-        blockCommentContent.setText(token.getText());
-
-        final DetailAST blockCommentClose = new DetailAST();
-        blockCommentClose.initialize(TokenTypes.BLOCK_COMMENT_END, "*/");
-
-        final Entry<Integer, Integer> linesColumns = countLinesColumns(
-                token.getText(), token.getLine(), token.getColumn());
-        blockCommentClose.setLineNo(linesColumns.getKey());
-        blockCommentClose.setColumnNo(linesColumns.getValue());
-
-        blockComment.addChild(blockCommentContent);
-        blockComment.addChild(blockCommentClose);
-        return blockComment;
-    }
-
-    /**
-     * Count lines and columns (in last line) in text.
-     * @param text
-     *        String.
-     * @param initialLinesCnt
-     *        initial value of lines counter.
-     * @param initialColumnsCnt
-     *        initial value of columns counter.
-     * @return entry(pair), first element is lines counter, second - columns
-     *         counter.
-     */
-    private static Entry<Integer, Integer> countLinesColumns(
-            String text, int initialLinesCnt, int initialColumnsCnt) {
-        int lines = initialLinesCnt;
-        int columns = initialColumnsCnt;
-        for (char c : text.toCharArray()) {
-            if (c == '\n') {
-                lines++;
-                columns = 0;
-            }
-            else {
-                columns++;
-            }
-        }
-        return new SimpleEntry<>(lines, columns);
-    }
-
     /**
      * State of AST.
      * Indicates whether tree contains certain nodes.
@@ -698,4 +755,5 @@ public final class TreeWalker
          */
         WITH_COMMENTS
     }
+
 }
@@ -0,0 +1,162 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+
+/**
+ * Worker threads processing files with the fileset checks that are not
+ * global. Every worker has instances of these fileset checks of its own,
+ * which a thread takes for the time it processes one file.
+ * @author the original author or authors.
+ */
+final class WorkerPool {
+    /** Processes the files on the worker threads. */
+    private final FileProcessor processor;
+
+    /** The threads processing the files. */
+    private final ExecutorService executor;
+
+    /** The fileset checks of all workers. */
+    private final List<List<FileSetCheck>> workerChecks = Lists.newArrayList();
+
+    /** The fileset checks of the workers that are not in use. */
+    private final BlockingQueue<List<FileSetCheck>> idleWorkerChecks;
+
+    /**
+     * Creates a new pool without workers.
+     * @param processor processes the files on the worker threads
+     * @param threads the number of threads
+     */
+    WorkerPool(FileProcessor processor, int threads) {
+        this.processor = processor;
+        executor = Executors.newFixedThreadPool(threads);
+        idleWorkerChecks = new ArrayBlockingQueue<>(threads);
+    }
+
+    /**
+     * Adds a worker.
+     * @param checks the fileset checks of the worker
+     */
+    void addWorker(List<FileSetCheck> checks) {
+        workerChecks.add(checks);
+        idleWorkerChecks.add(checks);
+    }
+
+    /**
+     * Starts processing a file on a worker thread.
+     * @param file the file to process
+     * @return the pending outcome of processing the file
+     */
+    Future<FileResult> submit(File file) {
+        return executor.submit(new FileTask(file));
+    }
+
+    /**
+     * Stops the worker threads, waits until they are done and tears down
+     * the fileset checks of the workers.
+     */
+    void close() {
+        executor.shutdownNow();
+        // running tasks still use the worker fileset checks
+        awaitTermination();
+        for (final List<FileSetCheck> checks : workerChecks) {
+            for (final FileSetCheck fsc : checks) {
+                fsc.finishProcessing();
+                fsc.destroy();
+            }
+        }
+    }
+
+    /**
+     * Waits until the tasks of the executor, which was shut down, have ended.
+     * @throws IllegalStateException if the calling thread was interrupted while waiting
+     */
+    private void awaitTermination() {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+        catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the worker threads",
+                    ex);
+        }
+    }
+
+    /**
+     * Waits for the outcome of processing a file on a worker thread.
+     * @param workerResult the pending outcome
+     * @return the outcome of processing the file
+     * @throws Exception the exception thrown on the worker thread
+     */
+    static FileResult getResult(Future<FileResult> workerResult) throws Exception {
+        try {
+            return workerResult.get();
+        }
+        catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        }
+    }
+
+    /**
+     * Processes one file on a worker thread with the fileset checks
+     * of an idle worker.
+     */
+    private final class FileTask implements Callable<FileResult> {
+        /** The file to process. */
+        private final File file;
+
+        /**
+         * Creates a new task.
+         * @param file the file to process
+         */
+        FileTask(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public FileResult call() throws CheckstyleException, InterruptedException {
+            final List<FileSetCheck> checks = idleWorkerChecks.take();
+            try {
+                return processor.processLocally(file, checks);
+            }
+            finally {
+                idleWorkerChecks.put(checks);
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle;
 
+import java.io.BufferedWriter;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -37,6 +38,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  * It outputs everything in UTF-8 (default XML encoding is UTF-8) in case
  * we want to localize error messages or simply that file names are
  * localized and takes care about escaping as well.
+ * The output is buffered and only flushed when the audit finishes.
 
  * @author <a href="mailto:stephane.bailliez@wanadoo.fr">Stephane Bailliez</a>
  */
@@ -53,6 +55,26 @@ public class XMLLogger
     private static final String[] ENTITIES = {"gt", "amp", "lt", "apos",
                                               "quot", };
 
+    /** Size of the output buffer, large enough for many violations. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Number of characters reserved for entities when escaping a value. */
+    private static final int ESCAPE_RESERVE = 16;
+
+    /** Entities of the characters to escape, indexed by the character. */
+    private static final String[] ESCAPES = new String['>' + 1];
+
+    /** Double quote ending an attribute. */
+    private static final String QUOTE = "\"";
+
+    static {
+        ESCAPES['<'] = "&lt;";
+        ESCAPES['>'] = "&gt;";
+        ESCAPES['\''] = "&apos;";
+        ESCAPES['\"'] = "&quot;";
+        ESCAPES['&'] = "&amp;";
+    }
+
     /** Close output stream in auditFinished. */
     private final boolean closeStream;
 
@@ -76,7 +98,7 @@ public class XMLLogger
      **/
     private void setOutputStream(OutputStream outputStream) {
         final OutputStreamWriter osw = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
-        writer = new PrintWriter(osw);
+        writer = new PrintWriter(new BufferedWriter(osw, BUFFER_SIZE));
     }
 
     @Override
@@ -115,19 +137,21 @@ public class XMLLogger
     @Override
     public void addError(AuditEvent event) {
         if (event.getSeverityLevel() != SeverityLevel.IGNORE) {
-            writer.print("<error" + " line=\"" + event.getLine() + "\"");
+            writer.print("<error line=\"");
+            writer.print(event.getLine());
+            writer.print(QUOTE);
             if (event.getColumn() > 0) {
-                writer.print(" column=\"" + event.getColumn() + "\"");
+                writer.print(" column=\"");
+                writer.print(event.getColumn());
+                writer.print(QUOTE);
             }
-            writer.print(" severity=\""
-                + event.getSeverityLevel().getName()
-                + "\"");
-            writer.print(" message=\""
-                + encode(event.getMessage())
-                + "\"");
-            writer.println(" source=\""
-                + encode(event.getSourceName())
-                + "\"/>");
+            writer.print(" severity=\"");
+            writer.print(event.getSeverityLevel().getName());
+            writer.print("\" message=\"");
+            writer.print(encode(event.getMessage()));
+            writer.print("\" source=\"");
+            writer.print(encode(event.getSourceName()));
+            writer.println("\"/>");
         }
     }
 
@@ -147,34 +171,43 @@ public class XMLLogger
     /**
      * Escape &lt;, &gt; &amp; &#39; and &quot; as their entities.
      * @param value the value to escape.
-     * @return the escaped value if necessary.
+     * @return the escaped value if necessary, the value itself otherwise.
      */
     public static String encode(String value) {
-        final StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < value.length(); i++) {
-            final char chr = value.charAt(i);
-            switch (chr) {
-                case '<':
-                    sb.append("&lt;");
-                    break;
-                case '>':
-                    sb.append("&gt;");
-                    break;
-                case '\'':
-                    sb.append("&apos;");
-                    break;
-                case '\"':
-                    sb.append("&quot;");
-                    break;
-                case '&':
+        final int length = value.length();
+        int index = 0;
+        while (index < length && !isEscaped(value.charAt(index))) {
+            index++;
+        }
+
+        String result = value;
+        if (index < length) {
+            final StringBuilder sb = new StringBuilder(length + ESCAPE_RESERVE);
+            sb.append(value, 0, index);
+            for (int i = index; i < length; i++) {
+                final char chr = value.charAt(i);
+                if (chr == '&') {
                     sb.append(encodeAmpersand(value, i));
-                    break;
-                default:
+                }
+                else if (isEscaped(chr)) {
+                    sb.append(ESCAPES[chr]);
+                }
+                else {
                     sb.append(chr);
-                    break;
+                }
             }
+            result = sb.toString();
         }
-        return sb.toString();
+        return result;
+    }
+
+    /**
+     * Checks whether a character is escaped as an entity.
+     * @param chr the character to check
+     * @return true if the character is escaped
+     */
+    private static boolean isEscaped(char chr) {
+        return chr < ESCAPES.length && ESCAPES[chr] != null;
     }
 
     /**
@@ -30,6 +30,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.tools.ant.AntClassLoader;
 import org.apache.tools.ant.BuildException;
@@ -44,6 +45,8 @@ import org.apache.tools.ant.types.Reference;
 
 import com.google.common.collect.Lists;
 import com.google.common.io.Closeables;
+import com.puppycrawl.tools.checkstyle.ChangedLines;
+import com.puppycrawl.tools.checkstyle.ChangedLinesLoader;
 import com.puppycrawl.tools.checkstyle.Checker;
 import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
 import com.puppycrawl.tools.checkstyle.DefaultContext;
@@ -110,6 +113,9 @@ public class CheckstyleAntTask extends Task {
      */
     private boolean omitIgnoredModules = true;
 
+    /** Git revision to audit the changed lines since, null to audit all lines. */
+    private String changedSince;
+
     ////////////////////////////////////////////////////////////////////////////
     // Setters for ANT specific attributes
     ////////////////////////////////////////////////////////////////////////////
@@ -259,6 +265,16 @@ public class CheckstyleAntTask extends Task {
         omitIgnoredModules = omit;
     }
 
+    /**
+     * Sets the git revision to audit the changed lines since. Only the
+     * lines of the git working tree of the project base directory that
+     * differ from this revision are audited.
+     * @param revision the git revision, like {@code HEAD} or {@code origin/master}
+     */
+    public void setChangedSince(String revision) {
+        changedSince = revision;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Setters for Checker configuration attributes
     ////////////////////////////////////////////////////////////////////////////
@@ -318,6 +334,9 @@ public class CheckstyleAntTask extends Task {
         Checker checker = null;
         try {
             checker = createChecker();
+            if (changedSince != null) {
+                checker.setChangedLines(loadChangedLines());
+            }
 
             // setup the listeners
             final AuditListener[] listeners = getListeners();
@@ -419,6 +438,22 @@ public class CheckstyleAntTask extends Task {
         return checker;
     }
 
+    /**
+     * Loads the lines of the project that changed since {@link #changedSince}.
+     * @return the changed lines
+     * @throws BuildException if the changed lines cannot be loaded
+     */
+    private ChangedLines loadChangedLines() {
+        try {
+            return ChangedLinesLoader.loadChangedLines(getProject().getBaseDir(),
+                    changedSince);
+        }
+        catch (final CheckstyleException ex) {
+            throw new BuildException("Unable to find the lines changed since " + changedSince,
+                    ex);
+        }
+    }
+
     /**
      * Create the Properties object based on the arguments specified
      * to the ANT task.
@@ -602,7 +637,7 @@ public class CheckstyleAntTask extends Task {
                     new LogOutputStream(task, Project.MSG_DEBUG),
                     true, new LogOutputStream(task, Project.MSG_ERR), true);
             }
-            final FileOutputStream infoStream = new FileOutputStream(toFile);
+            final OutputStream infoStream = createOutputStream();
             return new DefaultLogger(infoStream, true, infoStream, false);
         }
 
@@ -617,7 +652,21 @@ public class CheckstyleAntTask extends Task {
                 return new XMLLogger(new LogOutputStream(task,
                         Project.MSG_INFO), true);
             }
-            return new XMLLogger(new FileOutputStream(toFile), true);
+            return new XMLLogger(createOutputStream(), true);
+        }
+
+        /**
+         * Creates the stream to write to the output file, which compresses
+         * the output with gzip if the name of the file ends with {@code .gz}.
+         * @return the stream to write to
+         * @throws IOException if an error occurs
+         */
+        private OutputStream createOutputStream() throws IOException {
+            OutputStream out = new FileOutputStream(toFile);
+            if (toFile.getName().endsWith(".gz")) {
+                out = new GZIPOutputStream(out);
+            }
+            return out;
         }
     }
 
@@ -19,12 +19,16 @@
 
 package com.puppycrawl.tools.checkstyle.api;
 
+import java.util.ArrayDeque;
 import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
 
 import antlr.CommonASTWithHiddenTokens;
 import antlr.Token;
 import antlr.collections.AST;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
 /**
@@ -43,6 +47,9 @@ public final class DetailAST extends CommonASTWithHiddenTokens {
     /** Constant to indicate if not calculated the child count. */
     private static final int NOT_INITIALIZED = Integer.MIN_VALUE;
 
+    /** Number of words of the precomputed token type mask of a branch. */
+    private static final int BRANCH_TOKEN_WORDS = getMaxTokenType() / Long.SIZE + 1;
+
     /** The line number. **/
     private int lineNo = NOT_INITIALIZED;
     /** The column number. **/
@@ -62,6 +69,15 @@ public final class DetailAST extends CommonASTWithHiddenTokens {
      */
     private BitSet branchTokenTypes;
 
+    /**
+     * Token type masks of the branches of a whole tree, precomputed by
+     * {@link #computeBranchTokenTypes(DetailAST)}, or null if they were not.
+     */
+    private long[] branchTokenMasks;
+
+    /** Index of the first word of the mask of this branch in branchTokenMasks. */
+    private int branchTokenMaskIndex;
+
     @Override
     public void initialize(Token tok) {
         super.initialize(tok);
@@ -358,7 +374,99 @@ public final class DetailAST extends CommonASTWithHiddenTokens {
      *     contains a token of type {@code type}.
      */
     public boolean branchContains(int type) {
-        return getBranchTokenTypes().get(type);
+        final boolean result;
+        if (branchTokenMasks != null && type >= 0 && type < BRANCH_TOKEN_WORDS * Long.SIZE) {
+            final long word = branchTokenMasks[branchTokenMaskIndex + type / Long.SIZE];
+            result = (word & 1L << type % Long.SIZE) != 0;
+        }
+        else {
+            result = getBranchTokenTypes().get(type);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the token types of the branches of a node and its next siblings,
+     * i.e. of a whole file if the node is the root of its AST, bottom-up in
+     * one traversal. The types are stored as masks in one array shared by
+     * all the nodes, so {@link #branchContains(int)} needs no allocation.
+     * Like the token types computed lazily, the masks are not updated
+     * if the tree is modified afterwards.
+     * @param firstNode the first node of the tree, may be null
+     */
+    public static void computeBranchTokenTypes(DetailAST firstNode) {
+        final List<DetailAST> nodes = getNodesInPreOrder(firstNode);
+        if (nodes != null) {
+            final long[] masks = new long[nodes.size() * BRANCH_TOKEN_WORDS];
+            // children are after their parents in pre-order
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                final DetailAST node = nodes.get(i);
+                final int index = i * BRANCH_TOKEN_WORDS;
+                final int type = node.getType();
+                masks[index + type / Long.SIZE] |= 1L << type % Long.SIZE;
+
+                DetailAST child = node.getFirstChild();
+                while (child != null) {
+                    orMasks(masks, index, child.branchTokenMaskIndex);
+                    child = child.getNextSibling();
+                }
+                node.branchTokenMasks = masks;
+                node.branchTokenMaskIndex = index;
+                node.branchTokenTypes = null;
+            }
+        }
+    }
+
+    /**
+     * Lists a node, its next siblings and all their descendants in pre-order.
+     * @param firstNode the first node to list
+     * @return the nodes, or null if the type of some node cannot be stored
+     *     in a mask
+     */
+    private static List<DetailAST> getNodesInPreOrder(DetailAST firstNode) {
+        List<DetailAST> nodes = Lists.newArrayList();
+        final Deque<DetailAST> nextSiblings = new ArrayDeque<>();
+        DetailAST node = firstNode;
+        while (node != null) {
+            final int type = node.getType();
+            if (type < 0 || type >= BRANCH_TOKEN_WORDS * Long.SIZE) {
+                nodes = null;
+                break;
+            }
+            nodes.add(node);
+            if (node.getNextSibling() != null) {
+                nextSiblings.push(node.getNextSibling());
+            }
+            node = node.getFirstChild();
+            if (node == null) {
+                node = nextSiblings.poll();
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Adds the token types of the mask of a child branch to the mask of its parent.
+     * @param masks the masks of all branches
+     * @param index the index of the mask of the parent
+     * @param childIndex the index of the mask of the child
+     */
+    private static void orMasks(long[] masks, int index, int childIndex) {
+        for (int word = 0; word < BRANCH_TOKEN_WORDS; word++) {
+            masks[index + word] |= masks[childIndex + word];
+        }
+    }
+
+    /**
+     * Finds the greatest token type.
+     * @return the greatest value of the token types
+     */
+    private static int getMaxTokenType() {
+        int maxType = 0;
+        for (int type : TokenUtils.getAllTokenIds()) {
+            maxType = Math.max(maxType, type);
+        }
+        return maxType;
     }
 
     /**
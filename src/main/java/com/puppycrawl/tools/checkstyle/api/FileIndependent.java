@@ -0,0 +1,48 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link FileSetCheck} or a {@link Check} whose messages for a file
+ * depend on that file only, so it keeps no state across the files of an audit.
+ *
+ * <p>When the Checker processes files with several threads, every thread gets
+ * its own instances of the FileSetChecks with this annotation. Other
+ * FileSetChecks, which may for example report a problem once per directory or
+ * compare files with each other in {@link FileSetCheck#finishProcessing()},
+ * are never duplicated; their single instance sees all files in their
+ * original order. A TreeWalker is only duplicated when all its Checks have
+ * this annotation, as a Check may also keep state across files in its fields.
+ * The annotation is not inherited, as a subclass may add such state.
+ * </p>
+ *
+ * @author the original author or authors.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FileIndependent {
+}
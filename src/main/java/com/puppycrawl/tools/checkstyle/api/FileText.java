@@ -19,28 +19,18 @@
 
 package com.puppycrawl.tools.checkstyle.api;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
 import java.util.AbstractList;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.ArrayUtils;
-
-import com.google.common.io.Closeables;
 
 /**
  * Represents the text contents of a file of arbitrary plain text type.
@@ -57,19 +47,9 @@ import com.google.common.io.Closeables;
 public final class FileText extends AbstractList<String> {
 
     /**
-     * The number of characters to read in one go.
+     * The initial capacity of the array of line break positions.
      */
-    private static final int READ_BUFFER_SIZE = 1024;
-
-    /**
-     * Regular expression pattern matching all line terminators.
-     */
-    private static final Pattern LINE_TERMINATOR = Pattern.compile("\\n|\\r\\n?");
-
-    // For now, we always keep both full text and lines array.
-    // In the long run, however, the one passed at initialization might be
-    // enough, while the other could be lazily created when requested.
-    // This would save memory but cost CPU cycles.
+    private static final int INITIAL_LINE_CAPACITY = 64;
 
     /**
      * The name of the file.
@@ -89,14 +69,16 @@ public final class FileText extends AbstractList<String> {
     private final String fullText;
 
     /**
-     * The lines of the file, without terminators.
+     * The lines of the file, without terminators. A line is created
+     * from the full text when it is requested for the first time.
      */
     private final String[] lines;
 
     /**
-     * The first position of each line within the full text.
+     * The first position of each line within the full text, followed
+     * by the length of the full text.
      */
-    private int[] lineBreaks;
+    private final int[] lineBreaks;
 
     /**
      * Creates a new file text representation.
@@ -128,21 +110,8 @@ public final class FileText extends AbstractList<String> {
         }
 
         fullText = readFile(file, decoder);
-
-        // Use the BufferedReader to break down the lines as this
-        // is about 30% faster than using the
-        // LINE_TERMINATOR.split(fullText, -1) method
-        final ArrayList<String> textLines = new ArrayList<>();
-        final BufferedReader reader =
-            new BufferedReader(new StringReader(fullText));
-        while (true) {
-            final String line = reader.readLine();
-            if (line == null) {
-                break;
-            }
-            textLines.add(line);
-        }
-        lines = textLines.toArray(new String[textLines.size()]);
+        lineBreaks = findLineBreaks(fullText);
+        lines = new String[lineBreaks.length - 1];
     }
 
     /**
@@ -154,7 +123,7 @@ public final class FileText extends AbstractList<String> {
         charset = fileText.charset;
         fullText = fileText.fullText;
         lines = fileText.lines.clone();
-        lineBreaks = ArrayUtils.clone(fileText.lineBreaks);
+        lineBreaks = fileText.lineBreaks.clone();
     }
 
     /**
@@ -170,8 +139,12 @@ public final class FileText extends AbstractList<String> {
      */
     private FileText(File file, List<String> lines) {
         final StringBuilder buf = new StringBuilder();
+        final int[] lineBreakPositions = new int[lines.size() + 1];
+        int lineNo = 0;
         for (final String line : lines) {
             buf.append(line).append('\n');
+            lineNo++;
+            lineBreakPositions[lineNo] = buf.length();
         }
         buf.trimToSize();
 
@@ -179,10 +152,12 @@ public final class FileText extends AbstractList<String> {
         charset = null;
         fullText = buf.toString();
         this.lines = lines.toArray(new String[lines.size()]);
+        lineBreaks = lineBreakPositions;
     }
 
     /**
      * Reads file using specific decoder and returns all its content as a String.
+     * The bytes of the file are read at once and decoded in a single buffer.
      * @param inputFile File to read
      * @param decoder Charset decoder
      * @return File's text
@@ -193,23 +168,47 @@ public final class FileText extends AbstractList<String> {
         if (!inputFile.exists()) {
             throw new FileNotFoundException(inputFile.getPath() + " (No such file or directory)");
         }
-        final StringBuilder buf = new StringBuilder();
-        final FileInputStream stream = new FileInputStream(inputFile);
-        final Reader reader = new InputStreamReader(stream, decoder);
-        try {
-            final char[] chars = new char[READ_BUFFER_SIZE];
-            while (true) {
-                final int len = reader.read(chars);
-                if (len < 0) {
-                    break;
+        final byte[] bytes = Files.readAllBytes(inputFile.toPath());
+        return decoder.decode(ByteBuffer.wrap(bytes)).toString();
+    }
+
+    /**
+     * Find positions of line breaks in the full text, in a single scan.
+     * Lines are terminated the same way as by {@link java.io.BufferedReader#readLine()}:
+     * by a line feed, a carriage return, or a carriage return followed
+     * immediately by a line feed.
+     * @param text the full text
+     * @return an array giving the first positions of each line,
+     *     followed by the length of the text
+     */
+    private static int[] findLineBreaks(String text) {
+        int[] lineBreakPositions = new int[INITIAL_LINE_CAPACITY];
+        int lineNo = 1;
+        final int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            final char character = text.charAt(pos);
+            pos++;
+            if (character == '\n' || character == '\r') {
+                if (character == '\r' && pos < length && text.charAt(pos) == '\n') {
+                    pos++;
+                }
+                if (lineNo == lineBreakPositions.length) {
+                    lineBreakPositions = Arrays.copyOf(lineBreakPositions, lineNo * 2);
                 }
-                buf.append(chars, 0, len);
+                lineBreakPositions[lineNo] = pos;
+                lineNo++;
             }
         }
-        finally {
-            Closeables.closeQuietly(reader);
+        // the last line has no terminator
+        if (lineBreakPositions[lineNo - 1] < length) {
+            if (lineNo == lineBreakPositions.length) {
+                lineBreakPositions = Arrays.copyOf(lineBreakPositions, lineNo + 1);
+            }
+            lineBreakPositions[lineNo] = length;
+            lineNo++;
         }
-        return buf.toString();
+        return Arrays.copyOf(lineBreakPositions, lineNo);
     }
 
     /**
@@ -266,29 +265,11 @@ public final class FileText extends AbstractList<String> {
      * @return an array of all lines of the text
      */
     public String[] toLinesArray() {
-        return lines.clone();
-    }
-
-    /**
-     * Find positions of line breaks in the full text.
-     * @return an array giving the first positions of each line.
-     */
-    private int[] findLineBreaks() {
-        if (lineBreaks == null) {
-            final int[] lineBreakPositions = new int[size() + 1];
-            lineBreakPositions[0] = 0;
-            int lineNo = 1;
-            final Matcher matcher = LINE_TERMINATOR.matcher(fullText);
-            while (matcher.find()) {
-                lineBreakPositions[lineNo] = matcher.end();
-                lineNo++;
-            }
-            if (lineNo < lineBreakPositions.length) {
-                lineBreakPositions[lineNo] = fullText.length();
-            }
-            lineBreaks = lineBreakPositions;
+        final String[] result = new String[lines.length];
+        for (int lineNo = 0; lineNo < result.length; lineNo++) {
+            result[lineNo] = get(lineNo);
         }
-        return lineBreaks;
+        return result;
     }
 
     /**
@@ -297,7 +278,7 @@ public final class FileText extends AbstractList<String> {
      * @return the line and column numbers of this character
      */
     public LineColumn lineColumn(int pos) {
-        final int[] lineBreakPositions = findLineBreaks();
+        final int[] lineBreakPositions = lineBreaks;
         int lineNo = Arrays.binarySearch(lineBreakPositions, pos);
         if (lineNo < 0) {
             // we have: lineNo = -(insertion point) - 1
@@ -318,7 +299,19 @@ public final class FileText extends AbstractList<String> {
      */
     @Override
     public String get(final int lineNo) {
-        return lines[lineNo];
+        String line = lines[lineNo];
+        if (line == null) {
+            int end = lineBreaks[lineNo + 1];
+            if (end > lineBreaks[lineNo] && fullText.charAt(end - 1) == '\n') {
+                end--;
+            }
+            if (end > lineBreaks[lineNo] && fullText.charAt(end - 1) == '\r') {
+                end--;
+            }
+            line = fullText.substring(lineBreaks[lineNo], end);
+            lines[lineNo] = line;
+        }
+        return line;
     }
 
     /**
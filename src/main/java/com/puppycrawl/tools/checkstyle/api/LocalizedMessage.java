@@ -27,16 +27,17 @@ import java.io.Serializable;
 import java.net.URL;
 import java.net.URLConnection;
 import java.text.MessageFormat;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Map.Entry;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a message that can be localised. The translations come from
@@ -51,11 +52,19 @@ public final class LocalizedMessage
     private static final long serialVersionUID = 5675176836184862150L;
 
     /**
-     * A cache that maps bundle names to ResourceBundles.
+     * A cache that maps bundle names and locales to ResourceBundles.
      * Avoids repetitive calls to ResourceBundle.getBundle().
      */
-    private static final Map<String, ResourceBundle> BUNDLE_CACHE =
-        Collections.synchronizedMap(new HashMap<String, ResourceBundle>());
+    private static final ConcurrentMap<String, ResourceBundle> BUNDLE_CACHE =
+        new ConcurrentHashMap<>();
+
+    /**
+     * A cache that maps bundle names, locales and keys, or custom messages,
+     * to compiled formats. The formats are not thread-safe, so they are
+     * cloned before use.
+     */
+    private static final ConcurrentMap<String, MessageFormat> FORMAT_CACHE =
+        new ConcurrentHashMap<>();
 
     /** The default severity level if one is not specified. */
     private static final SeverityLevel DEFAULT_SEVERITY = SeverityLevel.ERROR;
@@ -89,6 +98,9 @@ public final class LocalizedMessage
     /** A custom message overriding the default message from the bundle. */
     private final String customMessage;
 
+    /** The translated message and the locale it was translated to, null until needed. */
+    private transient volatile Entry<Locale, String> translation;
+
     /**
      * Creates a new {@code LocalizedMessage} instance.
      *
@@ -235,52 +247,75 @@ public final class LocalizedMessage
 
     /** Clears the cache. */
     public static void clearCache() {
-        synchronized (BUNDLE_CACHE) {
-            BUNDLE_CACHE.clear();
-        }
+        BUNDLE_CACHE.clear();
+        FORMAT_CACHE.clear();
     }
 
     /**
-     * Gets the translated message.
+     * Gets the translated message. The message is formatted only once
+     * for each locale.
      * @return the translated message
      */
     public String getMessage() {
-        String message = getCustomMessage();
+        final Locale locale = sLocale;
+        Entry<Locale, String> result = translation;
+        if (result == null || !result.getKey().equals(locale)) {
+            result = new SimpleImmutableEntry<>(locale, getFormat(locale).format(args));
+            translation = result;
+        }
+        return result.getValue();
+    }
+
+    /**
+     * Gets a format of the message for a locale.
+     * @param locale the locale to translate to
+     * @return a format the caller may use exclusively
+     */
+    private MessageFormat getFormat(Locale locale) {
+        final String cacheKey;
+        if (customMessage == null) {
+            cacheKey = bundle + '#' + locale + '#' + key;
+        }
+        else {
+            cacheKey = customMessage;
+        }
 
-        if (message == null) {
+        MessageFormat format = FORMAT_CACHE.get(cacheKey);
+        if (format == null) {
+            format = new MessageFormat(getPattern(locale), Locale.ROOT);
+            final MessageFormat cachedFormat = FORMAT_CACHE.putIfAbsent(cacheKey, format);
+            if (cachedFormat != null) {
+                format = cachedFormat;
+            }
+        }
+        return (MessageFormat) format.clone();
+    }
+
+    /**
+     * Gets the pattern of the message for a locale.
+     * @param locale the locale to translate to
+     * @return the custom message, the pattern from the bundle or the key itself
+     */
+    private String getPattern(Locale locale) {
+        String pattern = customMessage;
+
+        if (pattern == null) {
             try {
                 // Important to use the default class loader, and not the one in
                 // the GlobalProperties object. This is because the class loader in
                 // the GlobalProperties is specified by the user for resolving
                 // custom classes.
-                final ResourceBundle resourceBundle = getBundle(bundle);
-                final String pattern = resourceBundle.getString(key);
-                final MessageFormat formatter = new MessageFormat(pattern, Locale.ROOT);
-                message = formatter.format(args);
+                final ResourceBundle resourceBundle = getBundle(bundle, locale);
+                pattern = resourceBundle.getString(key);
             }
             catch (final MissingResourceException ignored) {
                 // If the Check author didn't provide i18n resource bundles
                 // and logs error messages directly, this will return
                 // the author's original message
-                final MessageFormat formatter = new MessageFormat(key, Locale.ROOT);
-                message = formatter.format(args);
+                pattern = key;
             }
         }
-        return message;
-    }
-
-    /**
-     * Returns the formatted custom message if one is configured.
-     * @return the formatted custom message or {@code null}
-     *          if there is no custom message
-     */
-    private String getCustomMessage() {
-
-        if (customMessage == null) {
-            return null;
-        }
-        final MessageFormat formatter = new MessageFormat(customMessage, Locale.ROOT);
-        return formatter.format(args);
+        return pattern;
     }
 
     /**
@@ -288,19 +323,18 @@ public final class LocalizedMessage
      * of the class emitting this message, to be sure to get the correct
      * bundle.
      * @param bundleName the bundle name
+     * @param locale the locale of the bundle
      * @return a ResourceBundle
      */
-    private ResourceBundle getBundle(String bundleName) {
-        synchronized (BUNDLE_CACHE) {
-            ResourceBundle resourceBundle = BUNDLE_CACHE
-                    .get(bundleName);
-            if (resourceBundle == null) {
-                resourceBundle = ResourceBundle.getBundle(bundleName, sLocale,
-                        sourceClass.getClassLoader(), new Utf8Control());
-                BUNDLE_CACHE.put(bundleName, resourceBundle);
-            }
-            return resourceBundle;
+    private ResourceBundle getBundle(String bundleName, Locale locale) {
+        final String cacheKey = bundleName + '#' + locale;
+        ResourceBundle resourceBundle = BUNDLE_CACHE.get(cacheKey);
+        if (resourceBundle == null) {
+            resourceBundle = ResourceBundle.getBundle(bundleName, locale,
+                    sourceClass.getClassLoader(), new Utf8Control());
+            BUNDLE_CACHE.putIfAbsent(cacheKey, resourceBundle);
         }
+        return resourceBundle;
     }
 
     /**
@@ -352,6 +386,34 @@ public final class LocalizedMessage
         return sourceClass.getName();
     }
 
+    /**
+     * Gets the name of the resource bundle that contains the translation.
+     * @return the name of the resource bundle
+     */
+    public String getBundleName() {
+        return bundle;
+    }
+
+    /**
+     * Gets the arguments for the translation.
+     * @return a copy of the arguments, null if there are none
+     */
+    public Object[] getArgs() {
+        Object[] result = null;
+        if (args != null) {
+            result = Arrays.copyOf(args, args.length);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the custom message overriding the translation.
+     * @return the custom message, null if the translation is not overridden
+     */
+    public String getCustomMessage() {
+        return customMessage;
+    }
+
     /**
      * Sets a locale to use for localization.
      * @param locale the locale to use for localization
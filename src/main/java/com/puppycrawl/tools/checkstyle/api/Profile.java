@@ -0,0 +1,103 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.api;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The cost of the modules and files of a profiled audit.
+ * Entries are sorted by decreasing wall clock time.
+ * @author the original author or authors.
+ */
+public final class Profile {
+    /** The cost of the checks and fileset checks. */
+    private final List<ProfileEntry> modules;
+
+    /** The cost of processing each file with the fileset checks. */
+    private final List<ProfileEntry> files;
+
+    /** The cost of parsing the files into ASTs. */
+    private final ProfileEntry parsing;
+
+    /**
+     * Creates a new {@code Profile} instance.
+     * @param modules the cost of the checks and fileset checks
+     * @param files the cost of processing each file
+     * @param parsing the cost of parsing the files
+     */
+    public Profile(List<ProfileEntry> modules, List<ProfileEntry> files,
+            ProfileEntry parsing) {
+        this.modules = sortByWallTime(modules);
+        this.files = sortByWallTime(files);
+        this.parsing = parsing;
+    }
+
+    /**
+     * Returns the cost of the checks and fileset checks. The time of
+     * TreeWalker includes parsing and the time of its checks.
+     * @return the entries of the modules, slowest first
+     */
+    public List<ProfileEntry> getModules() {
+        return modules;
+    }
+
+    /**
+     * Returns the cost of processing each file with the fileset checks.
+     * @return the entries of the files, slowest first
+     */
+    public List<ProfileEntry> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns the cost of parsing the files into ASTs.
+     * @return the entry of parsing
+     */
+    public ProfileEntry getParsing() {
+        return parsing;
+    }
+
+    /**
+     * Copies entries sorted by decreasing wall clock time.
+     * @param entries the entries to sort
+     * @return an unmodifiable sorted copy
+     */
+    private static List<ProfileEntry> sortByWallTime(List<ProfileEntry> entries) {
+        final List<ProfileEntry> sorted = Lists.newArrayList(entries);
+        Collections.sort(sorted, new WallTimeComparator());
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /** Orders entries by decreasing wall clock time, then by name. */
+    private static final class WallTimeComparator implements Comparator<ProfileEntry> {
+        @Override
+        public int compare(ProfileEntry first, ProfileEntry second) {
+            int result = Long.compare(second.getWallTime(), first.getWallTime());
+            if (result == 0) {
+                result = first.getName().compareTo(second.getName());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.api;
+
+/**
+ * Cumulative cost of a module, of a file or of parsing, measured while
+ * the Checker profiles an audit. Times are in nanoseconds.
+ * @author the original author or authors.
+ */
+public final class ProfileEntry {
+    /** The name of the module or file. */
+    private final String name;
+
+    /** The number of measured calls. */
+    private final long count;
+
+    /** The elapsed wall clock time. */
+    private final long wallTime;
+
+    /** The CPU time, -1 if it is not supported by the JVM. */
+    private final long cpuTime;
+
+    /** The allocated bytes, -1 if allocations are not measured by the JVM. */
+    private final long allocatedBytes;
+
+    /**
+     * Creates a new {@code ProfileEntry} instance.
+     * @param name the name of the module or file
+     * @param count the number of measured calls
+     * @param wallTime the elapsed wall clock time in nanoseconds
+     * @param cpuTime the CPU time in nanoseconds, -1 if it is not supported
+     * @param allocatedBytes the allocated bytes, -1 if they are not measured
+     */
+    public ProfileEntry(String name, long count, long wallTime, long cpuTime,
+            long allocatedBytes) {
+        this.name = name;
+        this.count = count;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Returns the name of the module or file. Checks are named by their id,
+     * or by their class name if they have no id.
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of measured calls: the number of
+     * {@code visitToken} and {@code leaveToken} calls of a check,
+     * the number of files processed by a fileset check or parsed by
+     * TreeWalker, or the number of fileset checks that processed a file.
+     * @return the number of calls
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the elapsed wall clock time.
+     * @return the time in nanoseconds
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Returns the CPU time of the threads that did the work.
+     * @return the time in nanoseconds, -1 if it is not supported by the JVM
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Returns the number of bytes allocated on the heap by the threads
+     * that did the work.
+     * @return the allocated bytes, -1 if allocations are not measured by the JVM
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}
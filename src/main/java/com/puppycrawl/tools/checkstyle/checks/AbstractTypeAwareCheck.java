@@ -229,12 +229,7 @@ public abstract class AbstractTypeAwareCheck extends Check {
      */
     protected final Class<?> resolveClass(String resolvableClassName,
             String className) {
-        try {
-            return getClassResolver().resolve(resolvableClassName, className);
-        }
-        catch (final ClassNotFoundException ignored) {
-            return null;
-        }
+        return getClassResolver().tryResolve(resolvableClassName, className);
     }
 
     /**
@@ -21,6 +21,7 @@ package com.puppycrawl.tools.checkstyle.checks;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -31,6 +32,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * <p>By default the Check enforces Java style.
  * @author lkuehne
  */
+@FileIndependent
 public class ArrayTypeStyleCheck extends Check {
     /**
      * A key is pointing to the warning message text in "messages.properties"
@@ -24,6 +24,7 @@ import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -104,6 +105,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author maxvetrenko
  *
  */
+@FileIndependent
 public class AvoidEscapedUnicodeCharactersCheck
     extends Check {
     /**
@@ -22,10 +22,19 @@ package com.puppycrawl.tools.checkstyle.checks;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 /**
  * Utility class to resolve a class name to an actual class. Note that loaded
  * classes are not initialized.
  * <p>Limitations: this does not handle inner classes very well.</p>
+ * <p>The results of loading classes by name are cached for each class
+ * loader, and shared by all instances, so names that are not found are
+ * not looked up again for every file. The cache is cleared by
+ * {@link #clearCache()} when an audit starts.</p>
  *
  * @author Oliver Burn
  */
@@ -36,12 +45,38 @@ public class ClassResolver {
     /** Dollar sign literal. */
     private static final String DOLLAR_SIGN = "$";
 
+    /** Maximum number of class names cached for a class loader. */
+    private static final int MAX_CACHED_NAMES = 10000;
+
+    /** Value cached for the names of classes that were not found. */
+    private static final Object NOT_FOUND = new Object();
+
+    /** Key of the cache for the bootstrap class loader. */
+    private static final Object BOOTSTRAP_LOADER = new Object();
+
+    /**
+     * Classes and {@link #NOT_FOUND} by name, for each class loader.
+     * Class loaders and classes are weakly referenced, so the cache does
+     * not keep them from being unloaded.
+     */
+    private static final LoadingCache<Object, Cache<String, Object>> CLASSES =
+        CacheBuilder.newBuilder().weakKeys().build(
+            new CacheLoader<Object, Cache<String, Object>>() {
+                @Override
+                public Cache<String, Object> load(Object key) {
+                    return CacheBuilder.newBuilder().weakValues()
+                        .maximumSize(MAX_CACHED_NAMES).build();
+                }
+            });
+
     /** Name of the package to check if the class belongs to. **/
     private final String pkg;
     /** Set of imports to check against. **/
     private final Set<String> imports;
     /** Use to load classes. **/
     private final ClassLoader loader;
+    /** Classes loaded by {@link #loader}, shared with other instances. **/
+    private final Cache<String, Object> loadedClasses;
 
     /**
      * Creates a new {@code ClassResolver} instance.
@@ -52,11 +87,28 @@ public class ClassResolver {
      */
     public ClassResolver(ClassLoader loader, String pkg, Set<String> imports) {
         this.loader = loader;
+        if (loader == null) {
+            loadedClasses = CLASSES.getUnchecked(BOOTSTRAP_LOADER);
+        }
+        else {
+            loadedClasses = CLASSES.getUnchecked(loader);
+        }
         this.pkg = pkg;
         this.imports = new HashSet<>(imports);
         this.imports.add("java.lang.*");
     }
 
+    /**
+     * Clears the classes and names of missing classes cached for all class
+     * loaders, as classes may be added or removed between audits, for
+     * example in a long running daemon.
+     */
+    public static void clearCache() {
+        for (Cache<String, Object> loadedClasses : CLASSES.asMap().values()) {
+            loadedClasses.invalidateAll();
+        }
+    }
+
     /**
      * Attempts to resolve the Class for a specified name. The algorithm is
      * to check:
@@ -71,6 +123,22 @@ public class ClassResolver {
      */
     public Class<?> resolve(String name, String currentClass)
         throws ClassNotFoundException {
+        final Class<?> clazz = tryResolve(name, currentClass);
+        if (clazz == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return clazz;
+    }
+
+    /**
+     * Attempts to resolve the Class for a specified name like
+     * {@link #resolve(String, String)}, without the cost of an exception
+     * for the names which are not resolved.
+     * @param name name of the class to resolve
+     * @param currentClass name of current class (for inner classes).
+     * @return the resolved class, or null if unable to resolve the class
+     */
+    public Class<?> tryResolve(String name, String currentClass) {
         // See if the class is full qualified
         Class<?> clazz = resolveQualifiedName(name);
         if (clazz != null) {
@@ -111,9 +179,8 @@ public class ClassResolver {
             return classFromStarImport;
         }
 
-        // Giving up, the type is unknown, so load the class to generate an
-        // exception
-        return safeLoad(name);
+        // Giving up, the type is unknown
+        return load(name);
     }
 
     /**
@@ -121,10 +188,8 @@ public class ClassResolver {
      * @param name name of the search Class to search
      * @param currentClass class where search in
      * @return class if found , or null if not resolved
-     * @throws ClassNotFoundException  if an error occurs
      */
-    private Class<?> resolveInnerClass(String name, String currentClass)
-            throws ClassNotFoundException {
+    private Class<?> resolveInnerClass(String name, String currentClass) {
         Class<?> clazz = null;
         if (!currentClass.isEmpty()) {
             String innerClass = currentClass + DOLLAR_SIGN + name;
@@ -133,9 +198,7 @@ public class ClassResolver {
                 innerClass = pkg + PERIOD + innerClass;
             }
 
-            if (isLoadable(innerClass)) {
-                clazz = safeLoad(innerClass);
-            }
+            clazz = load(innerClass);
         }
         return clazz;
     }
@@ -165,13 +228,7 @@ public class ClassResolver {
      * @return whether a specified class is loadable with safeLoad().
      */
     public boolean isLoadable(String name) {
-        try {
-            safeLoad(name);
-            return true;
-        }
-        catch (final ClassNotFoundException ignored) {
-            return false;
-        }
+        return load(name) != null;
     }
 
     /**
@@ -182,10 +239,47 @@ public class ClassResolver {
      * @throws ClassNotFoundException if an error occurs
      */
     public Class<?> safeLoad(String name) throws ClassNotFoundException {
-        // The next line will load the class using the specified class
-        // loader. The magic is having the "false" parameter. This means the
-        // class will not be initialised. Very, very important.
-        return Class.forName(name, false, loader);
+        final Class<?> clazz = load(name);
+        if (clazz == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return clazz;
+    }
+
+    /**
+     * Loads a specified class without initialising it, or takes it from
+     * the cache of the class loader.
+     * @param name name of the class to load
+     * @return the {@code Class} for the specified class, or
+     *         null if the class loader cannot find it
+     */
+    private Class<?> load(String name) {
+        Object clazz = loadedClasses.getIfPresent(name);
+        if (clazz == null) {
+            // most names are not classes, like the names tried in every
+            // package of star imports, and finding that there is no class
+            // file is much cheaper than the exception of Class.forName
+            if (loader != null
+                    && loader.getResource(name.replace('.', '/') + ".class") == null) {
+                clazz = NOT_FOUND;
+            }
+            else {
+                try {
+                    // The next line will load the class using the specified class
+                    // loader. The magic is having the "false" parameter. This means the
+                    // class will not be initialised. Very, very important.
+                    clazz = Class.forName(name, false, loader);
+                }
+                catch (final ClassNotFoundException ignored) {
+                    clazz = NOT_FOUND;
+                }
+            }
+            loadedClasses.put(name, clazz);
+        }
+        if (clazz == NOT_FOUND) {
+            clazz = null;
+        }
+        return (Class<?>) clazz;
     }
 
     /**
@@ -28,6 +28,7 @@ import antlr.collections.AST;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
 /**
@@ -167,6 +168,7 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
  * @author Tim Tyler &lt;tim@tt1.org&gt;
  * @author Rick Giles
  */
+@FileIndependent
 public class DescendantTokenCheck extends Check {
 
     /**
@@ -24,6 +24,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Holds the current file contents for global access when configured
@@ -32,6 +33,7 @@ import com.puppycrawl.tools.checkstyle.api.FileContents;
  * @author Mike McMahon
  * @author Rick Giles
  */
+@FileIndependent
 public class FileContentsHolder
     extends Check {
     /** The current file contents. */
@@ -44,6 +46,20 @@ public class FileContentsHolder
         return FILE_CONTENTS.get();
     }
 
+    /**
+     * Sets the current file contents of this thread. The Checker uses it to
+     * filter messages of a file on another thread than the one that parsed it.
+     * @param contents the file contents, null to remove them
+     */
+    public static void setContents(FileContents contents) {
+        if (contents == null) {
+            FILE_CONTENTS.remove();
+        }
+        else {
+            FILE_CONTENTS.set(contents);
+        }
+    }
+
     @Override
     public int[] getDefaultTokens() {
         return getAcceptableTokens();
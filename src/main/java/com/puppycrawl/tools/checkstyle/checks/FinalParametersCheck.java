@@ -26,6 +26,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import com.google.common.collect.ImmutableSet;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CheckUtils;
 
@@ -53,6 +54,7 @@ import com.puppycrawl.tools.checkstyle.utils.CheckUtils;
  * @author Michael Studman
  * @author <a href="mailto:nesterenko-aleksey@list.ru">Aleksey Nesterenko</a>
  */
+@FileIndependent
 public class FinalParametersCheck extends Check {
 
     /**
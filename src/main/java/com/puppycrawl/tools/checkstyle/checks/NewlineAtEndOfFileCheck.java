@@ -29,6 +29,7 @@ import org.apache.commons.beanutils.ConversionException;
 
 import com.google.common.io.Closeables;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * <p>
@@ -58,6 +59,7 @@ import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
  * @author Christopher Lenz
  * @author lkuehne
  */
+@FileIndependent
 public class NewlineAtEndOfFileCheck
     extends AbstractFileSetCheck {
 
@@ -32,6 +32,7 @@ import com.google.common.collect.Lists;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -40,6 +41,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author Trevor Robinson
  * @author St&eacute;phane Galland
  */
+@FileIndependent
 public class SuppressWarningsHolder
     extends Check {
 
@@ -148,7 +150,11 @@ public class SuppressWarningsHolder
      *         source location
      */
     public static boolean isSuppressed(AuditEvent event) {
-        final List<Entry> entries = ENTRIES.get();
+        List<Entry> entries = ENTRIES.get();
+        if (entries == null) {
+            // no file was processed on this thread
+            entries = ImmutableList.of();
+        }
         final String sourceName = event.getSourceName();
         final String checkAlias = getAlias(sourceName);
         final int line = event.getLine();
@@ -175,6 +181,33 @@ public class SuppressWarningsHolder
         return suppressed;
     }
 
+    /**
+     * Gets the suppressions of the last file processed on this thread. The
+     * Checker uses it to filter messages of that file on another thread.
+     * @return the suppressions, null if no file was processed on this thread
+     */
+    public static Suppressions getSuppressions() {
+        final List<Entry> entries = ENTRIES.get();
+        Suppressions suppressions = null;
+        if (entries != null) {
+            suppressions = new Suppressions(entries);
+        }
+        return suppressions;
+    }
+
+    /**
+     * Sets the suppressions of the current file of this thread.
+     * @param suppressions the suppressions, null to remove them
+     */
+    public static void setSuppressions(Suppressions suppressions) {
+        if (suppressions == null) {
+            ENTRIES.remove();
+        }
+        else {
+            ENTRIES.set(suppressions.entries);
+        }
+    }
+
     @Override
     public int[] getDefaultTokens() {
         return getAcceptableTokens();
@@ -532,4 +565,20 @@ public class SuppressWarningsHolder
             return lastColumn;
         }
     }
+
+    /**
+     * The suppressions of a file, which only this class reads.
+     */
+    public static final class Suppressions {
+        /** The suppression entries of the file. */
+        private final List<Entry> entries;
+
+        /**
+         * Creates the suppressions of a file.
+         * @param entries the suppression entries of the file
+         */
+        private Suppressions(List<Entry> entries) {
+            this.entries = entries;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.util.regex.Pattern;
 import com.google.common.base.Optional;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.FullIdent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
@@ -40,6 +41,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  * @author Michael Yui
  * @author o_sukhodolsky
  */
+@FileIndependent
 public class UncommentedMainCheck
     extends Check {
 
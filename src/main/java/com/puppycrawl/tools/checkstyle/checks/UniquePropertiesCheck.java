@@ -20,25 +20,26 @@
 package com.puppycrawl.tools.checkstyle.checks;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.List;
-import java.util.Properties;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 import com.google.common.collect.HashMultiset;
-import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multiset.Entry;
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Checks the uniqueness of property keys (left from equal sign) in the
  * properties file.
+ * The keys are read from the lines of the file in one pass, with the
+ * syntax of {@link java.util.Properties#load(java.io.Reader)}, and every
+ * duplicated key is reported at the line of its first occurrence.
  *
  * @author Pavel Baranchikov
  */
+@FileIndependent
 public class UniquePropertiesCheck extends AbstractFileSetCheck {
 
     /**
@@ -47,13 +48,17 @@ public class UniquePropertiesCheck extends AbstractFileSetCheck {
     public static final String MSG_KEY = "properties.duplicate.property";
     /**
      * Localization key for IO exception occurred on file open.
+     * @deprecated the check reads the lines given by the checker and no longer
+     *     opens the file itself, so this key is not logged anymore.
      */
+    @Deprecated
     public static final String MSG_IO_EXCEPTION_KEY = "unable.open.cause";
 
-    /**
-     * Pattern matching single space.
-     */
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
+    /** Number of hexadecimal digits of a Unicode escape. */
+    private static final int UNICODE_ESCAPE_LENGTH = 4;
+
+    /** Radix of the digits of a Unicode escape. */
+    private static final int UNICODE_ESCAPE_RADIX = 16;
 
     /**
      * Construct the check with default values.
@@ -64,93 +69,186 @@ public class UniquePropertiesCheck extends AbstractFileSetCheck {
 
     @Override
     protected void processFiltered(File file, List<String> lines) {
-        final UniqueProperties properties = new UniqueProperties();
+        final Multiset<String> keys = HashMultiset.create();
+        final Map<String, Integer> keyLineNumbers = Maps.newHashMap();
+        final StringBuilder logicalLine = new StringBuilder();
+        int index = 0;
+        while (index < lines.size()) {
+            final int lineNumber = index + 1;
+            logicalLine.setLength(0);
+            index = readLogicalLine(lines, index, logicalLine);
+            if (logicalLine.length() > 0) {
+                final String key = getKey(logicalLine);
+                keys.add(key);
+                if (!keyLineNumbers.containsKey(key)) {
+                    keyLineNumbers.put(key, lineNumber);
+                }
+            }
+        }
 
-        try {
-            final FileInputStream fileInputStream = new FileInputStream(file);
-            try {
-                // As file is already read, there should not be any exceptions.
-                properties.load(fileInputStream);
+        for (Entry<String> key : keys.entrySet()) {
+            if (key.getCount() > 1) {
+                final String keyName = key.getElement();
+                log(keyLineNumbers.get(keyName), MSG_KEY, keyName, key.getCount());
             }
-            finally {
-                fileInputStream.close();
+        }
+    }
+
+    /**
+     * Reads a logical line, that is a line with the lines it is continued on.
+     * Leading whitespace of each line and the backslashes continuing lines
+     * are removed. Comment lines and blank lines give an empty logical line.
+     * @param lines the lines of the file
+     * @param index the index of the first line of the logical line
+     * @param logicalLine the builder to append the logical line to
+     * @return the index of the line after the logical line
+     */
+    private static int readLogicalLine(List<String> lines, int index,
+            StringBuilder logicalLine) {
+        String line = stripLeadingWhitespace(lines.get(index));
+        int next = index + 1;
+        if (!line.isEmpty() && line.charAt(0) != '#' && line.charAt(0) != '!') {
+            while (isContinued(line)) {
+                logicalLine.append(line, 0, line.length() - 1);
+                if (next == lines.size()) {
+                    line = "";
+                }
+                else {
+                    line = stripLeadingWhitespace(lines.get(next));
+                    next++;
+                }
             }
+            logicalLine.append(line);
         }
-        catch (IOException ex) {
-            log(0, MSG_IO_EXCEPTION_KEY, file.getPath(),
-                    ex.getLocalizedMessage());
+        return next;
+    }
+
+    /**
+     * Checks whether a line is continued on the next line, i.e. whether
+     * it ends with an odd number of backslashes.
+     * @param line the line to check
+     * @return true if the line is continued
+     */
+    private static boolean isContinued(String line) {
+        int backslashes = 0;
+        int index = line.length() - 1;
+        while (index >= 0 && line.charAt(index) == '\\') {
+            backslashes++;
+            index--;
         }
+        return backslashes % 2 == 1;
+    }
 
-        for (Entry<String> duplication : properties
-                .getDuplicatedKeys().entrySet()) {
-            final String keyName = duplication.getElement();
-            final int lineNumber = getLineNumber(lines, keyName);
-            // Number of occurrences is number of duplications + 1
-            log(lineNumber, MSG_KEY, keyName, duplication.getCount() + 1);
+    /**
+     * Removes the whitespace at the start of a line.
+     * @param line the line
+     * @return the line without leading whitespace
+     */
+    private static String stripLeadingWhitespace(String line) {
+        int index = 0;
+        while (index < line.length() && isWhitespace(line.charAt(index))) {
+            index++;
         }
+        return line.substring(index);
     }
 
     /**
-     * Method returns line number the key is detected in the checked properties
-     * files first.
-     *
-     * @param lines
-     *            properties file lines list
-     * @param keyName
-     *            key name to look for
-     * @return line number of first occurrence. If no key found in properties
-     *         file, 0 is returned
+     * Checks whether a character is whitespace separating keys and values.
+     * @param chr the character to check
+     * @return true if the character is whitespace
      */
-    protected static int getLineNumber(List<String> lines, String keyName) {
-        final String keyPatternString = "^" + SPACE_PATTERN.matcher(keyName)
-                        .replaceAll(Matcher.quoteReplacement("\\\\ ")) + "[\\s:=].*$";
-        final Pattern keyPattern = Pattern.compile(keyPatternString);
-        int lineNumber = 1;
-        final Matcher matcher = keyPattern.matcher("");
-        for (String line : lines) {
-            matcher.reset(line);
-            if (matcher.matches()) {
+    private static boolean isWhitespace(char chr) {
+        return chr == ' ' || chr == '\t' || chr == '\f';
+    }
+
+    /**
+     * Gets the key of a property, which ends at the first unescaped
+     * separator or whitespace, with its escapes replaced.
+     * @param logicalLine the logical line of the property
+     * @return the key
+     */
+    private static String getKey(CharSequence logicalLine) {
+        final StringBuilder key = new StringBuilder();
+        int index = 0;
+        while (index < logicalLine.length()) {
+            final char chr = logicalLine.charAt(index);
+            if (chr == '\\' && index + 1 < logicalLine.length()) {
+                index = appendEscaped(logicalLine, index + 1, key);
+            }
+            else if (chr == '=' || chr == ':' || isWhitespace(chr)) {
                 break;
             }
-            ++lineNumber;
+            else {
+                key.append(chr);
+                index++;
+            }
         }
-        if (lineNumber > lines.size()) {
-            lineNumber = 0;
+        return key.toString();
+    }
+
+    /**
+     * Appends the character of an escape to a key.
+     * @param logicalLine the logical line of the property
+     * @param index the index of the character after the backslash
+     * @param key the builder of the key
+     * @return the index of the character after the escape
+     */
+    private static int appendEscaped(CharSequence logicalLine, int index, StringBuilder key) {
+        final char chr = logicalLine.charAt(index);
+        int next = index + 1;
+        switch (chr) {
+            case 't':
+                key.append('\t');
+                break;
+            case 'r':
+                key.append('\r');
+                break;
+            case 'n':
+                key.append('\n');
+                break;
+            case 'f':
+                key.append('\f');
+                break;
+            case 'u':
+                next = appendUnicodeEscape(logicalLine, next, key);
+                break;
+            default:
+                key.append(chr);
+                break;
         }
-        return lineNumber;
+        return next;
     }
 
     /**
-     * Properties subclass to store duplicated property keys in a separate map.
-     *
-     * @author Pavel Baranchikov
+     * Appends the character of a Unicode escape to a key. A malformed escape
+     * is appended as it is written.
+     * @param logicalLine the logical line of the property
+     * @param index the index of the first hexadecimal digit
+     * @param key the builder of the key
+     * @return the index of the character after the escape
      */
-    private static class UniqueProperties extends Properties {
-        private static final long serialVersionUID = 1L;
-        /**
-         * Multiset, holding duplicated keys. Keys are added here only if they
-         * already exist in Properties' inner map.
-         */
-        private final Multiset<String> duplicatedKeys = HashMultiset
-                .create();
-
-        @Override
-        public Object put(Object key, Object value) {
-            final Object oldValue = super.put(key, value);
-            if (oldValue != null && key instanceof String) {
-                final String keyString = (String) key;
-                duplicatedKeys.add(keyString);
+    private static int appendUnicodeEscape(CharSequence logicalLine, int index,
+            StringBuilder key) {
+        int value = 0;
+        int digits = 0;
+        while (digits < UNICODE_ESCAPE_LENGTH && index + digits < logicalLine.length()) {
+            final int digit = Character.digit(logicalLine.charAt(index + digits),
+                    UNICODE_ESCAPE_RADIX);
+            if (digit < 0) {
+                break;
             }
-            return oldValue;
+            value = value * UNICODE_ESCAPE_RADIX + digit;
+            digits++;
         }
 
-        /**
-         * Retrieves a collections of duplicated properties keys.
-         *
-         * @return A collection of duplicated keys.
-         */
-        public Multiset<String> getDuplicatedKeys() {
-            return ImmutableMultiset.copyOf(duplicatedKeys);
+        int next = index;
+        if (digits == UNICODE_ESCAPE_LENGTH) {
+            key.append((char) value);
+            next += digits;
+        }
+        else {
+            key.append('u');
         }
+        return next;
     }
 }
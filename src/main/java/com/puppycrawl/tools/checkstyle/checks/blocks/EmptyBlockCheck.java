@@ -27,6 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -65,6 +66,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  *
  * @author Lars Kühne
  */
+@FileIndependent
 public class EmptyBlockCheck
     extends Check {
     /**
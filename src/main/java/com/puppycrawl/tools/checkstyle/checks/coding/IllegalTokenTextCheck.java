@@ -25,6 +25,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
@@ -53,6 +54,7 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
  * </pre>
  * @author Rick Giles
  */
+@FileIndependent
 public class IllegalTokenTextCheck
     extends Check {
 
@@ -24,6 +24,7 @@ import java.util.Deque;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -67,6 +68,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author Oliver Burn
  * @author Andrei Selkin
  */
+@FileIndependent
 public final class OneStatementPerLineCheck extends Check {
 
     /**
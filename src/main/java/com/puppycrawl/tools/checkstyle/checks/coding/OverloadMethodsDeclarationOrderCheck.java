@@ -24,6 +24,7 @@ import java.util.Map;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -47,6 +48,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * </pre>
  * @author maxvetrenko
  */
+@FileIndependent
 public class OverloadMethodsDeclarationOrderCheck extends Check {
 
     /**
@@ -30,6 +30,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.ScopeUtils;
 
@@ -77,6 +78,7 @@ import com.puppycrawl.tools.checkstyle.utils.ScopeUtils;
  * @author Stephen Bloch
  * @author o_sukhodolsky
  */
+@FileIndependent
 public class RequireThisCheck extends Check {
 
     /**
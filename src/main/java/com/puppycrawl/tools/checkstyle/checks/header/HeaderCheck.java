@@ -23,6 +23,8 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
+
 /**
  * Checks the header of the source against a fixed header file.
  * In default configuration,if header is not specified,
@@ -31,6 +33,7 @@ import java.util.List;
  *
  * @author Lars Kühne
  */
+@FileIndependent
 public class HeaderCheck extends AbstractHeaderCheck {
 
     /**
@@ -29,6 +29,7 @@ import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
 
 /**
@@ -41,6 +42,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  * @author Lars Kühne
  * @author o_sukhodolsky
  */
+@FileIndependent
 public class RegexpHeaderCheck extends AbstractHeaderCheck {
 
     /**
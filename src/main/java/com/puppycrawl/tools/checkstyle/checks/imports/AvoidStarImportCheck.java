@@ -24,6 +24,7 @@ import java.util.List;
 import com.google.common.collect.Lists;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.FullIdent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
@@ -62,6 +63,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author <a href="bschneider@vecna.com">Bill Schneider</a>
  * @author Travis Schneeberger
  */
+@FileIndependent
 public class AvoidStarImportCheck
     extends Check {
 
@@ -24,6 +24,7 @@ import java.util.Deque;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Checks correct indentation of Java Code.
@@ -79,6 +80,7 @@ import com.puppycrawl.tools.checkstyle.api.DetailAST;
  * @author Maikel Steneker
  * @author maxvetrenko
  */
+@FileIndependent
 public class IndentationCheck extends Check {
     /**
      * A key is pointing to the warning message text in "messages.properties"
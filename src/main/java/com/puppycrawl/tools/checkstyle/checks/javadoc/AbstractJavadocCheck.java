@@ -19,8 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -30,9 +29,12 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import com.google.common.base.CaseFormat;
 import com.google.common.primitives.Ints;
@@ -79,22 +81,27 @@ public abstract class AbstractJavadocCheck extends Check {
      */
     public static final String MSG_JAVADOC_PARSE_RULE_ERROR = "javadoc.parse.rule.error";
 
+    /** Logger for the Javadoc parse times of files. */
+    private static final Log LOG = LogFactory.getLog(AbstractJavadocCheck.class);
+
     /**
-     * Key is "line:column". Value is {@link DetailNode} tree. Map is stored in {@link ThreadLocal}
-     * to guarantee basic thread safety and avoid shared, mutable state when not necessary.
+     * Error listener that stops parsing at the first error, used while
+     * parsing with the faster prediction mode that may report false errors.
      */
-    private static final ThreadLocal<Map<String, ParseStatus>> TREE_CACHE =
-        new ThreadLocal<Map<String, ParseStatus>>() {
-            @Override
-            protected Map<String, ParseStatus> initialValue() {
-                return new HashMap<>();
-            }
-        };
+    private static final BaseErrorListener BAIL_ERROR_LISTENER = new BailErrorListener();
 
     /**
-     * Custom error listener.
+     * Time spent parsing the Javadoc comments of the current file. It is
+     * stored in {@link ThreadLocal}, as a file is processed on one thread
+     * and all checks of the file share the parsed comments.
      */
-    private DescriptiveErrorListener errorListener;
+    private static final ThreadLocal<ParseTime> PARSE_TIME =
+        new ThreadLocal<ParseTime>() {
+            @Override
+            protected ParseTime initialValue() {
+                return new ParseTime();
+            }
+        };
 
     /**
      * DetailAST node of considered Javadoc comment that is just a block comment
@@ -161,14 +168,43 @@ public abstract class AbstractJavadocCheck extends Check {
         return true;
     }
 
+    /**
+     * Parses Javadoc comments to fill the prediction cache of the Javadoc
+     * parser before files are processed. The cache is static, so it is
+     * shared by all threads and all checks of the JVM and kept between
+     * runs of a long running process, and filling it once up front saves
+     * the first files from the slow path of the parser.
+     * @param comments contents of Javadoc comments, without the opening
+     *     and closing characters of the comment.
+     */
+    public static void warmUpParser(String... comments) {
+        for (String comment : comments) {
+            try {
+                parseJavadocAsParseTree(comment, BAIL_ERROR_LISTENER);
+            }
+            catch (ParseCancellationException ignored) {
+                // the prediction cache is filled even if the comment has errors
+            }
+        }
+    }
+
     @Override
     public final void beginTree(DetailAST rootAST) {
-        TREE_CACHE.get().clear();
+        PARSE_TIME.get().reset();
     }
 
     @Override
     public final void finishTree(DetailAST rootAST) {
-        TREE_CACHE.get().clear();
+        final ParseTime parseTime = PARSE_TIME.get();
+        // the first check to finish the file reports its parse time
+        if (parseTime.getComments() > 0) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Parsed " + parseTime.getComments() + " Javadoc comments of "
+                    + getFileContents().getFileName() + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(parseTime.getNanos()) + " ms");
+            }
+            parseTime.reset();
+        }
     }
 
     @Override
@@ -177,18 +213,8 @@ public abstract class AbstractJavadocCheck extends Check {
             // store as field, to share with child Checks
             blockCommentAst = blockCommentNode;
 
-            final String treeCacheKey = blockCommentNode.getLineNo() + ":"
-                    + blockCommentNode.getColumnNo();
-
-            ParseStatus result;
-
-            if (TREE_CACHE.get().containsKey(treeCacheKey)) {
-                result = TREE_CACHE.get().get(treeCacheKey);
-            }
-            else {
-                result = parseJavadocAsDetailNode(blockCommentNode);
-                TREE_CACHE.get().put(treeCacheKey, result);
-            }
+            final ParseStatus result = FileJavadocModel.getModel(getFileContents())
+                    .getParseStatus(blockCommentNode);
 
             if (result.getParseErrorMessage() == null) {
                 processTree(result.getTree());
@@ -217,13 +243,13 @@ public abstract class AbstractJavadocCheck extends Check {
      *        DetailAST of Javadoc comment
      * @return DetailNode tree of Javadoc comment
      */
-    private ParseStatus parseJavadocAsDetailNode(DetailAST javadocCommentAst) {
+    static ParseStatus parseJavadocAsDetailNode(DetailAST javadocCommentAst) {
         final String javadocComment = JavadocUtils.getJavadocCommentContent(javadocCommentAst);
 
         // Use a new error listener each time to be able to use
         // one check instance for multiple files to be checked
         // without getting side effects.
-        errorListener = new DescriptiveErrorListener();
+        final DescriptiveErrorListener errorListener = new DescriptiveErrorListener();
 
         // Log messages should have line number in scope of file,
         // not in scope of Javadoc comment.
@@ -231,11 +257,13 @@ public abstract class AbstractJavadocCheck extends Check {
         errorListener.setOffset(javadocCommentAst.getLineNo() - 1);
 
         final ParseStatus result = new ParseStatus();
+        final long start = System.nanoTime();
 
         try {
-            final ParseTree parseTree = parseJavadocAsParseTree(javadocComment);
+            final ParseTree parseTree = parseJavadocAsParseTree(javadocComment, errorListener);
 
-            final DetailNode tree = convertParseTreeToDetailNode(parseTree);
+            final DetailNode tree = convertParseTreeToDetailNode(parseTree,
+                    javadocCommentAst.getLineNo());
             result.setTree(tree);
         }
         catch (ParseCancellationException ex) {
@@ -253,6 +281,7 @@ public abstract class AbstractJavadocCheck extends Check {
 
             result.setParseErrorMessage(parseErrorMessage);
         }
+        PARSE_TIME.get().add(System.nanoTime() - start);
 
         return result;
     }
@@ -261,10 +290,12 @@ public abstract class AbstractJavadocCheck extends Check {
      * Converts ParseTree (that is generated by ANTLRv4) to DetailNode tree.
      *
      * @param parseTreeNode root node of ParseTree
+     * @param lineOffset line number of the beginning of the Javadoc comment
      * @return root of DetailNode tree
      */
-    private DetailNode convertParseTreeToDetailNode(ParseTree parseTreeNode) {
-        final JavadocNodeImpl rootJavadocNode = createRootJavadocNode(parseTreeNode);
+    private static DetailNode convertParseTreeToDetailNode(ParseTree parseTreeNode,
+            int lineOffset) {
+        final JavadocNodeImpl rootJavadocNode = createRootJavadocNode(parseTreeNode, lineOffset);
 
         JavadocNodeImpl currentJavadocParent = rootJavadocNode;
         ParseTree parseTreeParent = parseTreeNode;
@@ -273,7 +304,7 @@ public abstract class AbstractJavadocCheck extends Check {
             final JavadocNodeImpl[] children =
                     (JavadocNodeImpl[]) currentJavadocParent.getChildren();
 
-            insertChildrenNodes(children, parseTreeParent);
+            insertChildrenNodes(children, parseTreeParent, lineOffset);
 
             if (children.length > 0) {
                 currentJavadocParent = children[0];
@@ -314,13 +345,16 @@ public abstract class AbstractJavadocCheck extends Check {
      * Creates child nodes for each node from 'nodes' array.
      * @param parseTreeParent original ParseTree parent node
      * @param nodes array of JavadocNodeImpl nodes
+     * @param lineOffset line number of the beginning of the Javadoc comment
      */
-    private void insertChildrenNodes(final JavadocNodeImpl[] nodes, ParseTree parseTreeParent) {
+    private static void insertChildrenNodes(final JavadocNodeImpl[] nodes,
+            ParseTree parseTreeParent, int lineOffset) {
         for (int i = 0; i < nodes.length; i++) {
             final JavadocNodeImpl currentJavadocNode = nodes[i];
             final ParseTree currentParseTreeNodeChild = parseTreeParent.getChild(i);
             final JavadocNodeImpl[] subChildren =
-                    createChildrenNodes(currentJavadocNode, currentParseTreeNodeChild);
+                    createChildrenNodes(currentJavadocNode, currentParseTreeNodeChild,
+                            lineOffset);
             currentJavadocNode.setChildren(subChildren);
         }
     }
@@ -329,16 +363,18 @@ public abstract class AbstractJavadocCheck extends Check {
      * Creates children Javadoc nodes base on ParseTree node's children.
      * @param parentJavadocNode node that will be parent for created children
      * @param parseTreeNode original ParseTree node
+     * @param lineOffset line number of the beginning of the Javadoc comment
      * @return array of Javadoc nodes
      */
-    private JavadocNodeImpl[]
-            createChildrenNodes(JavadocNodeImpl parentJavadocNode, ParseTree parseTreeNode) {
+    private static JavadocNodeImpl[] createChildrenNodes(JavadocNodeImpl parentJavadocNode,
+            ParseTree parseTreeNode, int lineOffset) {
         final JavadocNodeImpl[] children =
                 new JavadocNodeImpl[parseTreeNode.getChildCount()];
 
         for (int j = 0; j < children.length; j++) {
             final JavadocNodeImpl child =
-                    createJavadocNode(parseTreeNode.getChild(j), parentJavadocNode, j);
+                    createJavadocNode(parseTreeNode.getChild(j), parentJavadocNode, j,
+                            lineOffset);
 
             children[j] = child;
         }
@@ -348,17 +384,20 @@ public abstract class AbstractJavadocCheck extends Check {
     /**
      * Creates root JavadocNodeImpl node base on ParseTree root node.
      * @param parseTreeNode ParseTree root node
+     * @param lineOffset line number of the beginning of the Javadoc comment
      * @return root Javadoc node
      */
-    private JavadocNodeImpl createRootJavadocNode(ParseTree parseTreeNode) {
-        final JavadocNodeImpl rootJavadocNode = createJavadocNode(parseTreeNode, null, -1);
+    private static JavadocNodeImpl createRootJavadocNode(ParseTree parseTreeNode,
+            int lineOffset) {
+        final JavadocNodeImpl rootJavadocNode =
+                createJavadocNode(parseTreeNode, null, -1, lineOffset);
 
         final int childCount = parseTreeNode.getChildCount();
         final JavadocNodeImpl[] children = new JavadocNodeImpl[childCount];
 
         for (int i = 0; i < childCount; i++) {
             final JavadocNodeImpl child = createJavadocNode(parseTreeNode.getChild(i),
-                    rootJavadocNode, i);
+                    rootJavadocNode, i, lineOffset);
             children[i] = child;
         }
         rootJavadocNode.setChildren(children);
@@ -371,13 +410,15 @@ public abstract class AbstractJavadocCheck extends Check {
      * @param parseTree ParseTree node
      * @param parent DetailNode that will be parent of new node
      * @param index child index that has new node
+     * @param lineOffset line number of the beginning of the Javadoc comment
      * @return JavadocNodeImpl node on base of ParseTree node.
      */
-    private JavadocNodeImpl createJavadocNode(ParseTree parseTree, DetailNode parent, int index) {
+    private static JavadocNodeImpl createJavadocNode(ParseTree parseTree, DetailNode parent,
+            int index, int lineOffset) {
         final JavadocNodeImpl node = new JavadocNodeImpl();
         node.setText(parseTree.getText());
         node.setColumnNumber(getColumn(parseTree));
-        node.setLineNumber(getLine(parseTree) + blockCommentAst.getLineNo());
+        node.setLineNumber(getLine(parseTree) + lineOffset);
         node.setIndex(index);
         node.setType(getTokenType(parseTree));
         node.setParent(parent);
@@ -480,12 +521,41 @@ public abstract class AbstractJavadocCheck extends Check {
     }
 
     /**
-     * Parses block comment content as javadoc comment.
+     * Parses block comment content as javadoc comment. The comment is parsed
+     * with SLL prediction first, which is faster and gives the same tree
+     * for valid comments. Comments that SLL prediction fails on are parsed
+     * again with full LL prediction, which reports the actual error.
      * @param blockComment
      *        block comment content.
+     * @param errorListener
+     *        listener for the errors of full LL prediction.
      * @return parse tree
      */
-    private ParseTree parseJavadocAsParseTree(String blockComment) {
+    private static ParseTree parseJavadocAsParseTree(String blockComment,
+            BaseErrorListener errorListener) {
+        ParseTree result;
+        try {
+            result = createParser(blockComment, BAIL_ERROR_LISTENER, PredictionMode.SLL)
+                .javadoc();
+        }
+        catch (ParseCancellationException ignored) {
+            result = createParser(blockComment, errorListener, PredictionMode.LL).javadoc();
+        }
+        return result;
+    }
+
+    /**
+     * Creates a parser for block comment content.
+     * @param blockComment
+     *        block comment content.
+     * @param errorListener
+     *        listener for lexer and parser errors.
+     * @param predictionMode
+     *        prediction mode of the parser.
+     * @return the parser
+     */
+    private static JavadocParser createParser(String blockComment,
+            BaseErrorListener errorListener, PredictionMode predictionMode) {
         final ANTLRInputStream input = new ANTLRInputStream(blockComment);
 
         final JavadocLexer lexer = new JavadocLexer(input);
@@ -510,7 +580,9 @@ public abstract class AbstractJavadocCheck extends Check {
         // By default it uses Error Recover Strategy which is slow and useless.
         parser.setErrorHandler(new BailErrorStrategy());
 
-        return parser.javadoc();
+        parser.getInterpreter().setPredictionMode(predictionMode);
+
+        return parser;
     }
 
     /**
@@ -633,11 +705,72 @@ public abstract class AbstractJavadocCheck extends Check {
         }
     }
 
+    /**
+     * Error listener that stops parsing at the first error.
+     */
+    private static class BailErrorListener extends BaseErrorListener {
+        @Override
+        public void syntaxError(
+                Recognizer<?, ?> recognizer, Object offendingSymbol,
+                int line, int charPositionInLine,
+                String msg, RecognitionException ex) {
+            throw new ParseCancellationException(msg);
+        }
+    }
+
+    /**
+     * Number of parsed Javadoc comments of a file and the time spent on them.
+     */
+    private static class ParseTime {
+        /**
+         * Number of parsed comments.
+         */
+        private int comments;
+
+        /**
+         * Time spent parsing, in nanoseconds.
+         */
+        private long nanos;
+
+        /**
+         * Adds a parsed comment.
+         * @param commentNanos time spent parsing the comment, in nanoseconds.
+         */
+        public void add(long commentNanos) {
+            comments++;
+            nanos += commentNanos;
+        }
+
+        /**
+         * Getter for number of parsed comments.
+         * @return number of parsed comments.
+         */
+        public int getComments() {
+            return comments;
+        }
+
+        /**
+         * Getter for time spent parsing.
+         * @return time spent parsing, in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Forgets the parsed comments.
+         */
+        public void reset() {
+            comments = 0;
+            nanos = 0;
+        }
+    }
+
     /**
      * Contains result of parsing javadoc comment: DetailNode tree and parse
      * error message.
      */
-    private static class ParseStatus {
+    static class ParseStatus {
         /**
          * DetailNode tree (is null if parsing fails).
          */
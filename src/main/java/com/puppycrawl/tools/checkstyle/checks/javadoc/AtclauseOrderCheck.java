@@ -25,6 +25,7 @@ import java.util.List;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
@@ -62,6 +63,7 @@ import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
  * @author max
  *
  */
+@FileIndependent
 public class AtclauseOrderCheck extends AbstractJavadocCheck {
 
     /**
@@ -0,0 +1,117 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks.javadoc;
+
+import java.util.Map;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Table;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.TextBlock;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck.ParseStatus;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
+
+/**
+ * The Javadoc comments of a file, shared by all checks of the file. Each
+ * comment is parsed when a check first asks for it, so a file with N
+ * Javadoc comments is parsed at most N times however many checks use them.
+ * The model of a file is kept as long as its {@link FileContents}, and like
+ * the contents it is meant to be used by one thread at a time.
+ *
+ * @author the original author or authors.
+ */
+public final class FileJavadocModel {
+    /** The models of the files, by their contents. */
+    private static final LoadingCache<FileContents, FileJavadocModel> MODELS =
+        CacheBuilder.newBuilder().weakKeys().build(
+            new CacheLoader<FileContents, FileJavadocModel>() {
+                @Override
+                public FileJavadocModel load(FileContents contents) {
+                    return new FileJavadocModel();
+                }
+            });
+
+    /** Parsed comments by "line:column" of the comment. */
+    private final Map<String, ParseStatus> trees = Maps.newHashMap();
+
+    /** Tags of comments by comment and type of tags. */
+    private final Table<TextBlock, JavadocUtils.JavadocTagType, JavadocTags> tags =
+        HashBasedTable.create();
+
+    /** Prevent instantiation outside of this class. */
+    private FileJavadocModel() {
+    }
+
+    /**
+     * Gets the Javadoc model of a file.
+     * @param contents the contents of the file.
+     * @return the model of the file.
+     */
+    public static FileJavadocModel getModel(FileContents contents) {
+        return MODELS.getUnchecked(contents);
+    }
+
+    /**
+     * Gets the tree of a Javadoc comment.
+     * @param javadocCommentAst the block comment of the Javadoc comment.
+     * @return the tree of the comment, or null if the comment could not be parsed.
+     */
+    public DetailNode getTree(DetailAST javadocCommentAst) {
+        return getParseStatus(javadocCommentAst).getTree();
+    }
+
+    /**
+     * Gets the tags of a Javadoc comment, using the same rules as
+     * {@link JavadocUtils#getJavadocTags(TextBlock, JavadocUtils.JavadocTagType)}.
+     * @param textBlock the Javadoc comment.
+     * @param tagType the type of tags.
+     * @return the tags of the comment.
+     */
+    public JavadocTags getTags(TextBlock textBlock, JavadocUtils.JavadocTagType tagType) {
+        JavadocTags result = tags.get(textBlock, tagType);
+        if (result == null) {
+            result = JavadocUtils.getJavadocTags(textBlock, tagType);
+            tags.put(textBlock, tagType, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the result of parsing a Javadoc comment.
+     * @param javadocCommentAst the block comment of the Javadoc comment.
+     * @return the parse result.
+     */
+    ParseStatus getParseStatus(DetailAST javadocCommentAst) {
+        final String key = javadocCommentAst.getLineNo() + ":"
+            + javadocCommentAst.getColumnNo();
+        ParseStatus result = trees.get(key);
+        if (result == null) {
+            result = AbstractJavadocCheck.parseJavadocAsDetailNode(javadocCommentAst);
+            trees.put(key, result);
+        }
+        return result;
+    }
+}
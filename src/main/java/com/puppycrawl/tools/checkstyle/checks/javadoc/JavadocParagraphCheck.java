@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
@@ -72,6 +73,7 @@ import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
  * @author Vladislav Lisetskiy
  *
  */
+@FileIndependent
 public class JavadocParagraphCheck extends AbstractJavadocCheck {
 
     /**
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
@@ -43,6 +44,7 @@ import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
  * @author max
  *
  */
+@FileIndependent
 public class JavadocTagContinuationIndentationCheck extends AbstractJavadocCheck {
 
     /**
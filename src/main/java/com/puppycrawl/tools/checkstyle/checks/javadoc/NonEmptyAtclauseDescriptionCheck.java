@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
@@ -35,6 +36,7 @@ import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
  * @author maxvetrenko
  *
  */
+@FileIndependent
 public class NonEmptyAtclauseDescriptionCheck extends AbstractJavadocCheck {
 
     /**
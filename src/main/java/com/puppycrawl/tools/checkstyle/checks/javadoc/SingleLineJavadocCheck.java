@@ -26,6 +26,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
@@ -59,6 +60,7 @@ import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
  * @author vladlis
  *
  */
+@FileIndependent
 public class SingleLineJavadocCheck extends AbstractJavadocCheck {
 
     /**
@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 
 import com.google.common.base.CharMatcher;
 import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
@@ -61,6 +62,7 @@ import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
  * @author max
  * @author <a href="mailto:nesterenko-aleksey@list.ru">Aleksey Nesterenko</a>
  */
+@FileIndependent
 public class SummaryJavadocCheck extends AbstractJavadocCheck {
 
     /**
@@ -27,6 +27,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 import com.puppycrawl.tools.checkstyle.api.TextBlock;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
@@ -65,6 +66,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  *
  * @author Daniel Grenner
  */
+@FileIndependent
 public class WriteTagCheck
     extends Check {
 
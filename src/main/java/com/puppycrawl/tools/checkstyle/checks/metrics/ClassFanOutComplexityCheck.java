@@ -19,6 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle.checks.metrics;
 
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -29,6 +30,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author <a href="mailto:simon@redhillconsulting.com.au">Simon Harris</a>
  * @author o_sukhodolsky
  */
+@FileIndependent
 public final class ClassFanOutComplexityCheck extends AbstractClassCouplingCheck {
 
     /**
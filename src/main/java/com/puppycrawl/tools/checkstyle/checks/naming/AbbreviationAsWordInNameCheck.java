@@ -29,6 +29,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -81,6 +82,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  *
  * @author Roman Ivanov, Daniil Yaroslvtsev, Baratali Izmailov
  */
+@FileIndependent
 public class AbbreviationAsWordInNameCheck extends Check {
 
     /**
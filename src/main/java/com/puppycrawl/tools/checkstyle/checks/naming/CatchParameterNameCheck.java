@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.naming;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -60,6 +61,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  *
  * @author Michal Kordas
  */
+@FileIndependent
 public class CatchParameterNameCheck extends AbstractNameCheck {
 
     /**
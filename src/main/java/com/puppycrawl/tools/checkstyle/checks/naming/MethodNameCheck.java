@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.naming;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.AnnotationUtility;
 
@@ -68,6 +69,7 @@ import com.puppycrawl.tools.checkstyle.utils.AnnotationUtility;
  * @author Travis Schneeberger
  * @author Utkarsh Srivastava
  */
+@FileIndependent
 public class MethodNameCheck
     extends AbstractAccessControlNameCheck {
 
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.FileText;
 
 /**
@@ -31,6 +32,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
  * any file type.
  * @author Oliver Burn
  */
+@FileIndependent
 public class RegexpMultilineCheck extends AbstractFileSetCheck {
 
     /** The format of the regular expression to match. */
@@ -23,11 +23,13 @@ import java.io.File;
 import java.util.List;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Implementation of a check that looks for a single line in any file type.
  * @author Oliver Burn
  */
+@FileIndependent
 public class RegexpSinglelineCheck extends AbstractFileSetCheck {
 
     /** The format of the regular expression to match. */
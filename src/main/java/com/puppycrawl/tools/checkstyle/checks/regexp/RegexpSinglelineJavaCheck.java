@@ -25,12 +25,14 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Implementation of a check that looks for a single line in Java files.
  * Supports ignoring comments for matches.
  * @author Oliver Burn
  */
+@FileIndependent
 public class RegexpSinglelineJavaCheck extends Check {
 
     /** The format of the regular expression to match. */
@@ -23,6 +23,7 @@ import java.io.File;
 import java.util.List;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * <p>
@@ -54,6 +55,7 @@ import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
  * </pre>
  * @author Lars Kühne
  */
+@FileIndependent
 public class FileLengthCheck extends AbstractFileSetCheck {
 
     /**
@@ -21,12 +21,14 @@ package com.puppycrawl.tools.checkstyle.checks.sizes;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
  * Checks for the number of defined types at the "outer" level.
  * @author oliverb
  */
+@FileIndependent
 public class OuterTypeNumberCheck extends Check {
 
     /**
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.ArrayUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.AnnotationUtility;
 
@@ -64,6 +65,7 @@ import com.puppycrawl.tools.checkstyle.utils.AnnotationUtility;
  * </pre>
  * @author Oliver Burn
  */
+@FileIndependent
 public class ParameterNumberCheck
     extends Check {
 
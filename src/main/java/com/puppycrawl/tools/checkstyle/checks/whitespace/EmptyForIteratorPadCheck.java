@@ -25,6 +25,7 @@ import org.apache.commons.beanutils.ConversionException;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -50,6 +51,7 @@ for (Iterator foo = very.long.line.iterator();
  *
  * @author Rick Giles
  */
+@FileIndependent
 public class EmptyForIteratorPadCheck
     extends Check {
 
@@ -23,11 +23,13 @@ import java.io.File;
 import java.util.List;
 
 import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 
 /**
  * Checks to see if a file contains a tab character.
  * @author oliverb
  */
+@FileIndependent
 public class FileTabCharacterCheck extends AbstractFileSetCheck {
 
     /**
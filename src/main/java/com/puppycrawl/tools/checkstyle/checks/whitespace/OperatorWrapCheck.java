@@ -27,6 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
 
@@ -92,6 +93,7 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtils;
  *
  * @author Rick Giles
  */
+@FileIndependent
 public class OperatorWrapCheck
     extends Check {
 
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 /**
@@ -83,6 +84,7 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * @author Oliver Burn
  * @author Vladislav Lisetskiy
  */
+@FileIndependent
 public class ParenPadCheck extends AbstractParenPadCheck {
 
     /**
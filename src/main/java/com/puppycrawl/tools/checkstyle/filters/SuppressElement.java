@@ -128,28 +128,51 @@ public class SuppressElement
 
     @Override
     public boolean accept(AuditEvent event) {
-        // reject if file or check module mismatch?
-        if (isFileNameAndModuleNotMatching(event)) {
-            return true;
-        }
+        return event.getFileName() == null
+                || !isFileNameMatching(event.getFileName())
+                || event.getLocalizedMessage() == null
+                || !isModuleMatching(event.getSourceName(), event.getModuleId())
+                || !isLocationMatching(event.getLine(), event.getColumn());
+    }
 
-        // reject if no line/column matching
-        return (lineFilter != null || columnFilter != null)
-                && (lineFilter == null || !lineFilter.accept(event.getLine()))
-                && (columnFilter == null || !columnFilter.accept(event.getColumn()));
+    /**
+     * Gets the pattern for file names.
+     * @return the pattern for file names.
+     */
+    String getFilePattern() {
+        return filePattern;
     }
 
     /**
-     * Is matching by file name and Check name.
-     * @param event event
+     * Is matching by file name.
+     * @param fileName the name of the file of an event.
      * @return true is matching
      */
-    private boolean isFileNameAndModuleNotMatching(AuditEvent event) {
-        return event.getFileName() == null
-                || !fileRegexp.matcher(event.getFileName()).find()
-                || event.getLocalizedMessage() == null
-                || moduleId != null && !moduleId.equals(event.getModuleId())
-                || checkRegexp != null && !checkRegexp.matcher(event.getSourceName()).find();
+    boolean isFileNameMatching(String fileName) {
+        return fileRegexp.matcher(fileName).find();
+    }
+
+    /**
+     * Is matching by module id and Check name.
+     * @param sourceName the name of the check of an event.
+     * @param eventModuleId the module id of an event.
+     * @return true is matching
+     */
+    boolean isModuleMatching(String sourceName, String eventModuleId) {
+        return (moduleId == null || moduleId.equals(eventModuleId))
+                && (checkRegexp == null || checkRegexp.matcher(sourceName).find());
+    }
+
+    /**
+     * Is matching by line and column, which is true if neither are filtered.
+     * @param line the line of an event.
+     * @param column the column of an event.
+     * @return true is matching
+     */
+    boolean isLocationMatching(int line, int column) {
+        return lineFilter == null && columnFilter == null
+                || lineFilter != null && lineFilter.accept(line)
+                || columnFilter != null && columnFilter.accept(column);
     }
 
     @Override
@@ -20,9 +20,11 @@
 package com.puppycrawl.tools.checkstyle.filters;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,6 +33,8 @@ import java.util.regex.PatternSyntaxException;
 import org.apache.commons.beanutils.ConversionException;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
@@ -117,6 +121,9 @@ public class SuppressWithNearbyCommentFilter
      */
     private WeakReference<FileContents> fileContentsReference = new WeakReference<>(null);
 
+    /** Tags that match the events of a check, by check and module id. */
+    private final Map<String, MatchingTags> matchingTags = Maps.newHashMap();
+
     /**
      * Constructs a SuppressionCommentFilter.
      * Initializes comment on, comment off, and check formats
@@ -220,12 +227,13 @@ public class SuppressWithNearbyCommentFilter
      * @return true if event matches any tag from {@link #tags}, false otherwise.
      */
     private boolean matchesTag(AuditEvent event) {
-        for (final Tag tag : tags) {
-            if (tag.isMatch(event)) {
-                return true;
-            }
+        final String key = event.getSourceName() + '#' + event.getModuleId();
+        MatchingTags matching = matchingTags.get(key);
+        if (matching == null) {
+            matching = new MatchingTags(tags, event);
+            matchingTags.put(key, matching);
         }
-        return false;
+        return matching.isMatch(event.getLine(), event.getMessage());
     }
 
     /**
@@ -246,6 +254,7 @@ public class SuppressWithNearbyCommentFilter
             }
         }
         Collections.sort(tags);
+        matchingTags.clear();
     }
 
     /**
@@ -435,4 +444,116 @@ public class SuppressWithNearbyCommentFilter
                 + "]; text='" + text + "']";
         }
     }
+
+    /**
+     * The lines suppressed by the tags which match the events of one check.
+     * Tags whose match depends on the message of events are grouped by
+     * their message regexp, so each regexp is used once per event.
+     */
+    private static final class MatchingTags {
+        /** Lines of the tags matching events regardless of their message. */
+        private final LineRanges unconditional;
+
+        /** Message regexps of the tags matching events only by message. */
+        private final List<Pattern> messageRegexps = Lists.newArrayList();
+
+        /** Lines of the tags of each message regexp. */
+        private final List<LineRanges> messageLines = Lists.newArrayList();
+
+        /**
+         * Finds the tags matching the check of an event.
+         * @param tags the sorted tags of the file.
+         * @param event an event of the check.
+         */
+        MatchingTags(List<Tag> tags, AuditEvent event) {
+            final List<Tag> unconditionalTags = Lists.newArrayList();
+            final Map<String, List<Tag>> tagsByMessage = Maps.newLinkedHashMap();
+            for (final Tag tag : tags) {
+                if (tag.tagCheckRegexp.matcher(event.getSourceName()).find()) {
+                    unconditionalTags.add(tag);
+                }
+                else if (tag.tagMessageRegexp == null) {
+                    if (event.getModuleId() != null
+                            && tag.tagCheckRegexp.matcher(event.getModuleId()).find()) {
+                        unconditionalTags.add(tag);
+                    }
+                }
+                else {
+                    final String regexp = tag.tagMessageRegexp.pattern();
+                    List<Tag> messageTags = tagsByMessage.get(regexp);
+                    if (messageTags == null) {
+                        messageTags = Lists.newArrayList();
+                        tagsByMessage.put(regexp, messageTags);
+                        messageRegexps.add(tag.tagMessageRegexp);
+                    }
+                    messageTags.add(tag);
+                }
+            }
+            unconditional = new LineRanges(unconditionalTags);
+            for (List<Tag> messageTags : tagsByMessage.values()) {
+                messageLines.add(new LineRanges(messageTags));
+            }
+        }
+
+        /**
+         * Determines whether an event of the check is suppressed.
+         * @param line the line of the event.
+         * @param message the message of the event.
+         * @return true if a tag matches the event.
+         */
+        public boolean isMatch(int line, String message) {
+            boolean match = unconditional.contains(line);
+            for (int i = 0; !match && i < messageRegexps.size(); i++) {
+                match = messageLines.get(i).contains(line)
+                    && messageRegexps.get(i).matcher(message).find();
+            }
+            return match;
+        }
+    }
+
+    /**
+     * The lines covered by a set of tags, merged into disjoint sorted
+     * ranges so a line is looked up by binary search.
+     */
+    private static final class LineRanges {
+        /** First lines of the ranges. */
+        private final int[] firstLines;
+
+        /** Last lines of the ranges. */
+        private final int[] lastLines;
+
+        /**
+         * Merges the lines of tags.
+         * @param tags the tags, sorted by their first line.
+         */
+        LineRanges(List<Tag> tags) {
+            final List<Integer> firsts = Lists.newArrayList();
+            final List<Integer> lasts = Lists.newArrayList();
+            for (final Tag tag : tags) {
+                final int last = lasts.size() - 1;
+                if (last >= 0 && tag.firstLine <= lasts.get(last) + 1) {
+                    lasts.set(last, Math.max(lasts.get(last), tag.lastLine));
+                }
+                else if (tag.firstLine <= tag.lastLine) {
+                    firsts.add(tag.firstLine);
+                    lasts.add(tag.lastLine);
+                }
+            }
+            firstLines = Ints.toArray(firsts);
+            lastLines = Ints.toArray(lasts);
+        }
+
+        /**
+         * Determines whether a line is in one of the ranges.
+         * @param line the line number.
+         * @return true if a range contains the line.
+         */
+        public boolean contains(int line) {
+            int index = Arrays.binarySearch(firstLines, line);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return index >= 0 && line <= lastLines[index];
+        }
+    }
 }
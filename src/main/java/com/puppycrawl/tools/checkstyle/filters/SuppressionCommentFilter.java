@@ -20,9 +20,11 @@
 package com.puppycrawl.tools.checkstyle.filters;
 
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,6 +33,8 @@ import java.util.regex.PatternSyntaxException;
 import org.apache.commons.beanutils.ConversionException;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
@@ -78,6 +82,12 @@ public class SuppressionCommentFilter
     /** Tagged comments. */
     private final List<Tag> tags = Lists.newArrayList();
 
+    /** Positions of the tagged comments, as returned by {@link #getPosition}. */
+    private long[] tagPositions = new long[0];
+
+    /** Tags that match the events of a check, by check and module id. */
+    private final Map<String, MatchingTags> matchingTags = Maps.newHashMap();
+
     /** Whether to look in comments of the C type. */
     private boolean checkC = true;
 
@@ -210,19 +220,45 @@ public class SuppressionCommentFilter
      */
     private Tag findNearestMatch(AuditEvent event) {
         Tag result = null;
-        for (Tag tag : tags) {
-            if (tag.getLine() > event.getLine()
-                || tag.getLine() == event.getLine()
-                    && tag.getColumn() > event.getColumn()) {
-                break;
+        // binary search for the last tag which is not after the event
+        final long position = getPosition(event.getLine(), event.getColumn());
+        int low = 0;
+        int high = tagPositions.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (tagPositions[middle] <= position) {
+                low = middle + 1;
+            }
+            else {
+                high = middle - 1;
+            }
+        }
+        if (high >= 0) {
+            final String key = event.getSourceName() + '#' + event.getModuleId();
+            MatchingTags matching = matchingTags.get(key);
+            if (matching == null) {
+                matching = new MatchingTags(tags, event);
+                matchingTags.put(key, matching);
             }
-            if (tag.isMatch(event)) {
-                result = tag;
+            final int index = matching.findLast(high, event.getMessage());
+            if (index >= 0) {
+                result = tags.get(index);
             }
         }
         return result;
     }
 
+    /**
+     * Combines a line and column into a number which orders positions
+     * in a file.
+     * @param line the line number.
+     * @param column the column number.
+     * @return the position.
+     */
+    private static long getPosition(int line, int column) {
+        return (long) line << Integer.SIZE | column;
+    }
+
     /**
      * Collects all the suppression tags for all comments into a list and
      * sorts the list.
@@ -241,6 +277,12 @@ public class SuppressionCommentFilter
             }
         }
         Collections.sort(tags);
+        tagPositions = new long[tags.size()];
+        for (int i = 0; i < tagPositions.length; i++) {
+            final Tag tag = tags.get(i);
+            tagPositions[i] = getPosition(tag.getLine(), tag.getColumn());
+        }
+        matchingTags.clear();
     }
 
     /**
@@ -464,4 +506,93 @@ public class SuppressionCommentFilter
                 + "; on=" + reportingOn + "; text='" + text + "']";
         }
     }
+
+    /**
+     * The tags which match the events of one check, in the same order as
+     * the tags of the file, so the last matching tag before an event is
+     * found by binary search. Tags whose match depends on the message of
+     * events are grouped by their message regexp, so each regexp is used
+     * once per event.
+     */
+    private static final class MatchingTags {
+        /** Indexes of the tags matching events regardless of their message. */
+        private final int[] unconditional;
+
+        /** Message regexps of the tags matching events only by message. */
+        private final List<Pattern> messageRegexps = Lists.newArrayList();
+
+        /** Indexes of the tags of each message regexp. */
+        private final List<int[]> messageTags = Lists.newArrayList();
+
+        /**
+         * Finds the tags matching the check of an event.
+         * @param tags the sorted tags of the file.
+         * @param event an event of the check.
+         */
+        MatchingTags(List<Tag> tags, AuditEvent event) {
+            final List<Integer> unconditionalTags = Lists.newArrayList();
+            final Map<String, List<Integer>> tagsByMessage = Maps.newLinkedHashMap();
+            for (int i = 0; i < tags.size(); i++) {
+                final Tag tag = tags.get(i);
+                if (tag.tagCheckRegexp.matcher(event.getSourceName()).find()) {
+                    if (tag.tagMessageRegexp == null) {
+                        unconditionalTags.add(i);
+                    }
+                    else {
+                        final String regexp = tag.tagMessageRegexp.pattern();
+                        List<Integer> indexes = tagsByMessage.get(regexp);
+                        if (indexes == null) {
+                            indexes = Lists.newArrayList();
+                            tagsByMessage.put(regexp, indexes);
+                            messageRegexps.add(tag.tagMessageRegexp);
+                        }
+                        indexes.add(i);
+                    }
+                }
+                else if (event.getModuleId() != null
+                        && tag.tagCheckRegexp.matcher(event.getModuleId()).find()) {
+                    unconditionalTags.add(i);
+                }
+            }
+            unconditional = Ints.toArray(unconditionalTags);
+            for (List<Integer> indexes : tagsByMessage.values()) {
+                messageTags.add(Ints.toArray(indexes));
+            }
+        }
+
+        /**
+         * Finds the last tag which matches an event of the check.
+         * @param lastIndex the index of the last tag before the event.
+         * @param message the message of the event.
+         * @return the index of the tag, or -1 if no tag matches.
+         */
+        public int findLast(int lastIndex, String message) {
+            int result = findLast(unconditional, lastIndex);
+            for (int i = 0; i < messageRegexps.size(); i++) {
+                final int index = findLast(messageTags.get(i), lastIndex);
+                if (index > result && messageRegexps.get(i).matcher(message).find()) {
+                    result = index;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Finds the greatest tag index that does not exceed a limit.
+         * @param indexes the sorted indexes of tags.
+         * @param lastIndex the limit.
+         * @return the tag index, or -1 if there is no such index.
+         */
+        private static int findLast(int[] indexes, int lastIndex) {
+            int position = Arrays.binarySearch(indexes, lastIndex);
+            if (position < 0) {
+                position = -position - 2;
+            }
+            int result = -1;
+            if (position >= 0) {
+                result = indexes[position];
+            }
+            return result;
+        }
+    }
 }
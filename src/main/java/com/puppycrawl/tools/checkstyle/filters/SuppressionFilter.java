@@ -19,8 +19,12 @@
 
 package com.puppycrawl.tools.checkstyle.filters;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AutomaticBean;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
@@ -32,6 +36,12 @@ import com.puppycrawl.tools.checkstyle.api.FilterSet;
  * This filter accepts AuditEvents according to file, check, line, and
  * column, as specified in a suppression file.
  * </p>
+ * <p>
+ * The suppressions that apply to the file of an event are resolved once
+ * per file, and those that apply to a check once per file and check, so
+ * each event is only compared with the lines and columns of the few
+ * suppressions that can match it. Instances are not thread safe.
+ * </p>
  * @author Rick Giles
  */
 public class SuppressionFilter
@@ -40,6 +50,21 @@ public class SuppressionFilter
     /** Set of individual suppresses. */
     private FilterSet filters = new FilterSet();
 
+    /** Suppresses grouped by their file pattern, or null if not yet grouped. */
+    private Map<String, List<SuppressElement>> elementsByFilePattern;
+
+    /** Filters of the set that are not suppresses. */
+    private final List<Filter> otherFilters = Lists.newArrayList();
+
+    /** Name of the file of the last event. */
+    private String eventFileName;
+
+    /** Suppresses that match the file of the last event. */
+    private final List<SuppressElement> fileElements = Lists.newArrayList();
+
+    /** Suppresses that match the file of the last event, by check and module id. */
+    private final Map<String, List<SuppressElement>> checkElements = Maps.newHashMap();
+
     /**
      * Loads the suppressions for a file.
      * @param fileName name of the suppressions file.
@@ -48,11 +73,82 @@ public class SuppressionFilter
     public void setFile(String fileName)
         throws CheckstyleException {
         filters = SuppressionsLoader.loadSuppressions(fileName);
+        elementsByFilePattern = null;
     }
 
     @Override
     public boolean accept(AuditEvent event) {
-        return filters.accept(event);
+        if (elementsByFilePattern == null) {
+            groupFilters();
+        }
+        boolean result = true;
+        if (event.getFileName() != null && event.getLocalizedMessage() != null) {
+            for (SuppressElement element : getElements(event)) {
+                if (element.isLocationMatching(event.getLine(), event.getColumn())) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        for (int i = 0; result && i < otherFilters.size(); i++) {
+            result = otherFilters.get(i).accept(event);
+        }
+        return result;
+    }
+
+    /**
+     * Groups the suppresses of the filter set by their file pattern.
+     */
+    private void groupFilters() {
+        elementsByFilePattern = Maps.newLinkedHashMap();
+        otherFilters.clear();
+        for (Filter filter : filters.getFilters()) {
+            if (filter instanceof SuppressElement) {
+                final SuppressElement element = (SuppressElement) filter;
+                List<SuppressElement> elements =
+                    elementsByFilePattern.get(element.getFilePattern());
+                if (elements == null) {
+                    elements = Lists.newArrayList();
+                    elementsByFilePattern.put(element.getFilePattern(), elements);
+                }
+                elements.add(element);
+            }
+            else {
+                otherFilters.add(filter);
+            }
+        }
+        eventFileName = null;
+    }
+
+    /**
+     * Gets the suppresses that match the file, check and module id of an
+     * event, resolving them for the file and check when first needed.
+     * @param event the event.
+     * @return the suppresses matching the event except for its location.
+     */
+    private List<SuppressElement> getElements(AuditEvent event) {
+        if (!event.getFileName().equals(eventFileName)) {
+            eventFileName = event.getFileName();
+            fileElements.clear();
+            checkElements.clear();
+            for (List<SuppressElement> elements : elementsByFilePattern.values()) {
+                if (elements.get(0).isFileNameMatching(eventFileName)) {
+                    fileElements.addAll(elements);
+                }
+            }
+        }
+        final String key = event.getSourceName() + '#' + event.getModuleId();
+        List<SuppressElement> elements = checkElements.get(key);
+        if (elements == null) {
+            elements = Lists.newArrayList();
+            for (SuppressElement element : fileElements) {
+                if (element.isModuleMatching(event.getSourceName(), event.getModuleId())) {
+                    elements.add(element);
+                }
+            }
+            checkElements.put(key, elements);
+        }
+        return elements;
     }
 
     @Override
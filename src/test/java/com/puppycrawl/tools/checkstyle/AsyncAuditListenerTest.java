@@ -0,0 +1,219 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+import com.puppycrawl.tools.checkstyle.api.ProfileListener;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class AsyncAuditListenerTest {
+    @Test
+    public void testCapacityNotPositive() {
+        try {
+            new AsyncAuditListener(new RecordingListener(0), 0);
+            fail("Exception is expected");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Capacity must be positive: 0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testEventsAreDeliveredInOrder() {
+        final RecordingListener listener = new RecordingListener(1);
+        final AsyncAuditListener asyncListener = new AsyncAuditListener(listener, 2);
+        assertSame(listener, asyncListener.getListener());
+
+        final List<String> expected = Lists.newArrayList("auditStarted");
+        asyncListener.auditStarted(new AuditEvent(this));
+        for (int i = 0; i < 5; i++) {
+            final String fileName = "File" + i + ".java";
+            asyncListener.fileStarted(new AuditEvent(this, fileName));
+            asyncListener.addError(createEvent(fileName, i));
+            asyncListener.addException(createEvent(fileName, i), new IllegalStateException());
+            asyncListener.fileFinished(new AuditEvent(this, fileName));
+            expected.add("fileStarted " + fileName);
+            expected.add("addError " + fileName + ":" + i);
+            expected.add("addException " + fileName + ":" + i);
+            expected.add("fileFinished " + fileName);
+        }
+        asyncListener.auditFinished(new AuditEvent(this));
+        expected.add("auditFinished");
+
+        // all events are delivered when auditFinished returns
+        assertEquals(expected, listener.getEvents());
+    }
+
+    @Test
+    public void testListenerCanBeReused() {
+        final RecordingListener listener = new RecordingListener(0);
+        final AsyncAuditListener asyncListener = new AsyncAuditListener(listener, 1);
+        for (int i = 0; i < 2; i++) {
+            asyncListener.auditStarted(new AuditEvent(this));
+            asyncListener.auditFinished(new AuditEvent(this));
+        }
+
+        assertEquals(Lists.newArrayList("auditStarted", "auditFinished",
+                "auditStarted", "auditFinished"), listener.getEvents());
+    }
+
+    @Test
+    public void testCloseDeliversFiredEvents() {
+        final RecordingListener listener = new RecordingListener(1);
+        final AsyncAuditListener asyncListener = new AsyncAuditListener(listener, 1);
+        asyncListener.close();
+        asyncListener.auditStarted(new AuditEvent(this));
+        asyncListener.fileStarted(new AuditEvent(this, "File.java"));
+        asyncListener.close();
+        asyncListener.close();
+
+        assertEquals(Lists.newArrayList("auditStarted", "fileStarted File.java"),
+                listener.getEvents());
+    }
+
+    @Test
+    public void testProfileIsDeliveredToProfileListeners() {
+        final ProfileEntry parsing = new ProfileEntry("Parsing", 0, 0, 0, 0);
+        final Profile profile = new Profile(Collections.<ProfileEntry>emptyList(),
+                Collections.<ProfileEntry>emptyList(), parsing);
+        final RecordingListener listener = new RecordingListener(0);
+        final AsyncAuditListener asyncListener = new AsyncAuditListener(listener, 1);
+        final RecordingProfileListener profileListener = new RecordingProfileListener();
+        final AsyncAuditListener asyncProfileListener =
+                new AsyncAuditListener(profileListener, 1);
+        for (AsyncAuditListener async : Lists.newArrayList(asyncListener, asyncProfileListener)) {
+            async.auditStarted(new AuditEvent(this));
+            async.addProfile(new AuditEvent(this), profile);
+            async.auditFinished(new AuditEvent(this));
+        }
+
+        assertEquals(Lists.newArrayList("auditStarted", "auditFinished"), listener.getEvents());
+        assertEquals(Lists.newArrayList("auditStarted", "addProfile Parsing", "auditFinished"),
+                profileListener.getEvents());
+    }
+
+    @Test
+    public void testListenerFailure() {
+        final RecordingListener listener = new RecordingListener(0);
+        final AsyncAuditListener asyncListener = new AsyncAuditListener(listener, 1);
+        asyncListener.auditStarted(new AuditEvent(this));
+        asyncListener.fileStarted(new AuditEvent(this, null));
+        try {
+            for (int i = 0; i < 10; i++) {
+                asyncListener.fileFinished(new AuditEvent(this, "File.java"));
+            }
+            asyncListener.auditFinished(new AuditEvent(this));
+            fail("Exception is expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("Audit listener " + RecordingListener.class.getName() + " failed",
+                    ex.getMessage());
+            assertTrue(ex.getCause() instanceof NullPointerException);
+        }
+    }
+
+    private AuditEvent createEvent(String fileName, int line) {
+        final LocalizedMessage message = new LocalizedMessage(line, 0, "messages.properties",
+                "key", null, SeverityLevel.ERROR, null, getClass(), null);
+        return new AuditEvent(this, fileName, message);
+    }
+
+    /** Records the events, failing for files without a name. */
+    private static class RecordingListener implements AuditListener {
+        private final List<String> events = Lists.newArrayList();
+        private final long delayMillis;
+
+        RecordingListener(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        public List<String> getEvents() {
+            return events;
+        }
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            record("auditStarted");
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            record("auditFinished");
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            record("fileStarted " + event.getFileName().trim());
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            record("fileFinished " + event.getFileName());
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            record("addError " + event.getFileName() + ":" + event.getLine());
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            record("addException " + event.getFileName() + ":" + event.getLine());
+        }
+
+        private void record(String event) {
+            try {
+                Thread.sleep(delayMillis);
+            }
+            catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            events.add(event);
+        }
+    }
+
+    /** Records the events including the profile. */
+    private static class RecordingProfileListener extends RecordingListener
+            implements ProfileListener {
+        RecordingProfileListener() {
+            super(0);
+        }
+
+        @Override
+        public void addProfile(AuditEvent event, Profile profile) {
+            getEvents().add("addProfile " + profile.getParsing().getName());
+        }
+    }
+}
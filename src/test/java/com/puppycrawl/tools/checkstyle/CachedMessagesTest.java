@@ -0,0 +1,130 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.SortedSet;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.checks.sizes.FileLengthCheck;
+import com.puppycrawl.tools.checkstyle.internal.TestUtils;
+
+public class CachedMessagesTest {
+    private static final String BUNDLE = "com.puppycrawl.tools.checkstyle.checks.sizes.messages";
+
+    @After
+    public void tearDown() {
+        LocalizedMessage.setLocale(Locale.getDefault());
+    }
+
+    @Test
+    public void testIsProperUtilsClass() throws ReflectiveOperationException {
+        TestUtils.assertUtilsClassHasPrivateConstructor(CachedMessages.class);
+    }
+
+    @Test
+    public void testNoMessages() {
+        final SortedSet<LocalizedMessage> noMessages = Sets.newTreeSet();
+        assertEquals("", CachedMessages.serialize(noMessages));
+        assertTrue(CachedMessages.deserialize("").isEmpty());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final SortedSet<LocalizedMessage> messages = Sets.newTreeSet();
+        messages.add(new LocalizedMessage(1, 2, "bundle", "key",
+                new Object[] {"tab\tline\nreturn\rbackslash\\0", null, 3L, 1.5},
+                SeverityLevel.WARNING, "module\\0id", getClass(), null));
+        messages.add(new LocalizedMessage(5, "bundle", "key", null,
+                SeverityLevel.INFO, null, getClass(), "custom\tmessage"));
+        messages.add(new LocalizedMessage(6, "bundle", "key", new Object[0],
+                SeverityLevel.ERROR, "", getClass(), null));
+        final String serialized = CachedMessages.serialize(messages);
+        assertEquals(3, serialized.split("\n").length);
+        assertEquals(messages, CachedMessages.deserialize(serialized));
+    }
+
+    @Test
+    public void testNumberArgumentsKeepTheirFormat() {
+        LocalizedMessage.setLocale(Locale.ENGLISH);
+        final LocalizedMessage message = new LocalizedMessage(1, BUNDLE,
+                FileLengthCheck.MSG_KEY, new Object[] {5775, (short) 3000},
+                null, FileLengthCheck.class, null);
+        final SortedSet<LocalizedMessage> loaded = CachedMessages.deserialize(
+                CachedMessages.serialize(Sets.newTreeSet(Collections.singleton(
+                        message))));
+        assertEquals("File length is 5,775 lines (max allowed is 3,000).",
+                loaded.first().getMessage());
+    }
+
+    @Test
+    public void testOtherArgumentsAreConvertedToStrings() {
+        final LocalizedMessage message = new LocalizedMessage(1, "bundle", "key",
+                new Object[] {new StringBuilder("text"), SeverityLevel.ERROR},
+                null, getClass(), null);
+        final SortedSet<LocalizedMessage> loaded = CachedMessages.deserialize(
+                CachedMessages.serialize(Sets.newTreeSet(Collections.singleton(
+                        message))));
+        assertArrayEquals(new Object[] {"text", "error"}, loaded.first().getArgs());
+    }
+
+    @Test
+    public void testInvalidMessages() {
+        final String className = getClass().getName();
+        assertNull("missing fields", CachedMessages.deserialize("1\t2\n"));
+        assertNull("not a number", CachedMessages.deserialize(
+                "a\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t\\0\n"));
+        assertNull("missing line", CachedMessages.deserialize(
+                "\\0\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t\\0\n"));
+        assertNull("unknown severity", CachedMessages.deserialize(
+                "1\t2\tfatal\tbundle\tkey\t\\0\t" + className + "\t\\0\t\\0\n"));
+        assertNull("unknown class", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\tcom.example.Missing\t\\0\t\\0\n"));
+        assertNull("wrong number of arguments", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t2\tsa\n"));
+        assertNull("unknown type of argument", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t1\tx1\n"));
+        assertNull("missing type of argument", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t1\t\n"));
+        assertNull("unknown escape", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\x\t" + className + "\t\\0\t\\0\n"));
+        assertNull("unfinished escape", CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\t" + className + "\t\\0\t\\\n"));
+    }
+
+    @Test
+    public void testArgumentTypes() {
+        final SortedSet<LocalizedMessage> loaded = CachedMessages.deserialize(
+                "1\t2\terror\tbundle\tkey\t\\0\t" + getClass().getName()
+                + "\t\\0\t4\ti1\tl2\td3.5\t\\0\n");
+        assertArrayEquals(new Object[] {1, 2L, 3.5, null}, loaded.first().getArgs());
+    }
+}
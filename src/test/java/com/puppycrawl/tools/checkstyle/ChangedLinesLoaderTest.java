@@ -0,0 +1,189 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.puppycrawl.tools.checkstyle.internal.TestUtils.assertUtilsClassHasPrivateConstructor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.BitSet;
+
+import org.eclipse.jgit.api.Git;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+public class ChangedLinesLoaderTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File workTree;
+
+    @Before
+    public void setUp() throws Exception {
+        workTree = temporaryFolder.newFolder("repository");
+        write("Modified.java", "1\n2\n3\n4\n5\n");
+        write("Unmodified.java", "1\n2\n");
+        write("Deleted.java", "1\n");
+        write("Renamed.java", "1\n2\n3\n");
+        write(".gitignore", "Ignored.java\n");
+        try (Git git = Git.init().setDirectory(workTree).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit")
+                    .setAuthor("author", "author@example.com")
+                    .setCommitter("author", "author@example.com")
+                    .call();
+        }
+
+        write("Modified.java", "1\nchanged\n3\n4\nadded\n5\n");
+        write("Untracked.java", "1\n2\n");
+        write("Ignored.java", "1\n");
+        Files.delete(new File(workTree, "Deleted.java").toPath());
+        Files.move(new File(workTree, "Renamed.java").toPath(),
+                new File(workTree, "NewName.java").toPath());
+    }
+
+    private String getPath(String fileName) {
+        return new File(workTree, fileName).getPath();
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        Files.write(new File(workTree, fileName).toPath(),
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testIsProperUtilsClass() throws ReflectiveOperationException {
+        assertUtilsClassHasPrivateConstructor(ChangedLinesLoader.class);
+    }
+
+    @Test
+    public void testLoadChangedLines() throws Exception {
+        final File subdirectory = new File(workTree, "subdirectory");
+        assertTrue(subdirectory.mkdir());
+        final ChangedLines changedLines =
+                ChangedLinesLoader.loadChangedLines(subdirectory, "HEAD");
+
+        final BitSet modified = new BitSet();
+        modified.set(0);
+        modified.set(2);
+        modified.set(5);
+        assertEquals(modified, changedLines.getLines(getPath("Modified.java")));
+
+        final BitSet untracked = new BitSet();
+        untracked.set(0, 3);
+        assertEquals(untracked, changedLines.getLines(getPath("Untracked.java")));
+
+        assertFalse(changedLines.isChanged(new File(workTree, "Unmodified.java")));
+        assertFalse(changedLines.isChanged(new File(workTree, "Ignored.java")));
+        assertFalse(changedLines.isChanged(new File(workTree, "Deleted.java")));
+        assertFalse("renamed files keep their lines",
+                changedLines.isChanged(new File(workTree, "NewName.java")));
+    }
+
+    @Test
+    public void testLoadChangedLinesOfModifiedRenamedFile() throws Exception {
+        write("NewName.java", "1\n2\n3\n4\n");
+        final ChangedLines changedLines = ChangedLinesLoader.loadChangedLines(workTree, "HEAD");
+
+        final BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(4);
+        assertEquals("renamed files keep their lines", expected,
+                changedLines.getLines(getPath("NewName.java")));
+    }
+
+    @Test
+    public void testJGitIsNotAvailable() throws Exception {
+        assertFalse(ChangedLinesLoader.isClassAvailable(getClass().getClassLoader(),
+                "org.eclipse.jgit.lib.Unknown"));
+
+        final URL classes = ChangedLinesLoader.class.getProtectionDomain()
+                .getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes}, null)) {
+            final Method loadChangedLines = classLoader
+                    .loadClass(ChangedLinesLoader.class.getName())
+                    .getMethod("loadChangedLines", File.class, String.class);
+            try {
+                loadChangedLines.invoke(null, workTree, "HEAD");
+                fail("Exception is expected");
+            }
+            catch (InvocationTargetException ex) {
+                assertEquals(CheckstyleException.class.getName(),
+                        ex.getCause().getClass().getName());
+                assertEquals("JGit is required to find the lines changed since HEAD,"
+                        + " but it is not on the class path", ex.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownRevision() throws Exception {
+        try {
+            ChangedLinesLoader.loadChangedLines(workTree, "HEAD~1");
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertEquals("Unknown git revision HEAD~1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testNotInWorkingTree() throws Exception {
+        final File directory = temporaryFolder.newFolder("directory");
+        try {
+            ChangedLinesLoader.loadChangedLines(directory, "HEAD");
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertEquals("Not in a git working tree: " + directory, ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testCorruptRepository() throws Exception {
+        for (File objects : new File(workTree, ".git/objects").listFiles()) {
+            for (File object : objects.listFiles()) {
+                Files.write(object.toPath(), new byte[] {1});
+            }
+        }
+        try {
+            ChangedLinesLoader.loadChangedLines(workTree, "HEAD");
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertEquals("Unable to compare the git working tree of " + workTree
+                    + " with HEAD", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.BitSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ChangedLinesTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testChangedLines() throws Exception {
+        final File file = temporaryFolder.newFile("Changed.java");
+        final ChangedLines changedLines = new ChangedLines();
+        changedLines.addLines(file, 2, 3);
+        changedLines.addLines(file, 7, 7);
+
+        assertTrue(changedLines.isChanged(file));
+
+        final BitSet expected = new BitSet();
+        // the file itself changed
+        expected.set(0);
+        expected.set(2, 4);
+        expected.set(7);
+        assertEquals(expected, changedLines.getLines(file.getPath()));
+    }
+
+    @Test
+    public void testUnchangedFile() throws Exception {
+        final File changed = temporaryFolder.newFile("Changed.java");
+        final File unchanged = temporaryFolder.newFile("Unchanged.java");
+        final ChangedLines changedLines = new ChangedLines();
+        changedLines.addLines(changed, 1, 1);
+
+        assertFalse(changedLines.isChanged(unchanged));
+        assertTrue(changedLines.getLines(unchanged.getPath()).isEmpty());
+        assertTrue(changedLines.isChanged(changed));
+    }
+
+    @Test
+    public void testFilesAreIdentifiedByCanonicalPath() throws Exception {
+        final File directory = temporaryFolder.newFolder("directory");
+        final File file = new File(directory, "File.java");
+        final ChangedLines changedLines = new ChangedLines();
+        changedLines.addLines(file, 1, 1);
+
+        final File samePath = new File(directory, "../directory/./File.java");
+        assertTrue(changedLines.isChanged(samePath));
+        assertTrue(changedLines.getLines(samePath.getPath()).get(1));
+    }
+}
@@ -24,21 +24,46 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.SortedSet;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+import com.puppycrawl.tools.checkstyle.api.ProfileListener;
+import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.sizes.FileLengthCheck;
+import com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck;
+import com.puppycrawl.tools.checkstyle.filters.SuppressWarningsFilter;
+import com.puppycrawl.tools.checkstyle.filters.SuppressionCommentFilter;
 
 public class CheckerTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testDestroy() throws Exception {
         final DebugChecker checker = new DebugChecker();
@@ -188,6 +213,18 @@ public class CheckerTest {
         assertEquals(1, counter);
     }
 
+    @Test
+    public void testProcessIterable() throws Exception {
+        final Checker checker = new Checker();
+        checker.setFileExtensions("java");
+        final Iterable<File> files = Collections.unmodifiableSet(
+                new LinkedHashSet<>(Arrays.asList(new File("file.pdf"), new File("file.java"))));
+        final int counter = checker.process(files);
+
+        // comparing to 1 as there is only one legal file in input
+        assertEquals(1, counter);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testSetters() throws Exception {
@@ -275,4 +312,440 @@ public class CheckerTest {
             DebugAuditAdapter.class.getCanonicalName());
         checker.setupChild(config);
     }
+
+    @Test
+    public void testSetThreadsNotPositive() throws Exception {
+        final Checker checker = new Checker();
+        try {
+            checker.setThreads(0);
+            fail("Exception is expected");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Number of threads must be positive: 0", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testParallelOutputIsSameAsSequential() throws Exception {
+        final File[] inputs = new File("src/test/resources/com/puppycrawl/tools/checkstyle/"
+                + "checks/metrics").listFiles();
+        Arrays.sort(inputs);
+        final List<File> files = Arrays.asList(inputs);
+
+        final String sequential = runAudit(1, 0, files);
+        assertTrue("Audit has no violations", sequential.contains("[WARN]"));
+        assertEquals(sequential, runAudit(4, 0, files));
+    }
+
+    @Test
+    public void testSetListenerQueueSizeNegative() throws Exception {
+        final Checker checker = new Checker();
+        try {
+            checker.setListenerQueueSize(-1);
+            fail("Exception is expected");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("Listener queue size must not be negative: -1", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testAsyncListenersOutputIsSameAsSynchronous() throws Exception {
+        final File[] inputs = new File("src/test/resources/com/puppycrawl/tools/checkstyle/"
+                + "checks/metrics").listFiles();
+        Arrays.sort(inputs);
+        final List<File> files = Arrays.asList(inputs);
+
+        final String synchronous = runAudit(1, 0, files);
+        assertEquals(synchronous, runAudit(1, 2, files));
+        assertEquals(synchronous, runAudit(4, 2, files));
+    }
+
+    @Test
+    public void testParallelCheckNotFileIndependentIsNotDuplicated() throws Exception {
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addChild(new DefaultConfiguration(JavadocPackageCheck.class.getName()));
+        final Checker checker = createChecker(checkerConfig);
+        final DebugAuditAdapter auditAdapter = new DebugAuditAdapter();
+        checker.addListener(auditAdapter);
+        checker.setThreads(3);
+
+        final File directory = new File("src/test/resources/com/puppycrawl/tools/checkstyle/"
+                + "checks/metrics");
+        final List<File> files = Arrays.asList(new File(directory, "InputComplexity.java"),
+                new File(directory, "InputJavaNCSS.java"),
+                new File(directory, "InputClassCoupling.java"));
+
+        // one missing package-info.java is reported only once for the directory
+        assertEquals(1, checker.process(files));
+        checker.destroy();
+    }
+
+    @Test
+    public void testParallelSuppressionsOfCheckNotFileIndependent() throws Exception {
+        final List<File> files = Lists.newArrayList();
+        for (int i = 0; i < 4; i++) {
+            final File file = temporaryFolder.newFile("Input" + i + ".java");
+            final String source = "class Input" + i + " {\n"
+                    + "\tint reported;\n"
+                    + "    // CHECKSTYLE:OFF\n"
+                    + "\tint suppressedByComment;\n"
+                    + "    // CHECKSTYLE:ON\n"
+                    + "    @SuppressWarnings(\"globalfiletabcharacter\")\n"
+                    + "\tint suppressedByAnnotation;\n"
+                    + "}\n";
+            Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+
+        final String sequential = runAudit(1, 0, files);
+        for (File file : files) {
+            assertTrue(sequential, sequential.contains(file.getPath() + ":2:"));
+            assertFalse(sequential, sequential.contains(file.getPath() + ":4:"));
+            assertFalse(sequential, sequential.contains(file.getPath() + ":7:"));
+        }
+        assertEquals(sequential, runAudit(2, 0, files));
+    }
+
+    @Test
+    public void testParallelFailureWaitsForWorkers() throws Exception {
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("threads", "2");
+        checkerConfig.addChild(new DefaultConfiguration(SlowFileSetCheck.class.getName()));
+        final Checker checker = createChecker(checkerConfig);
+        final File failing = temporaryFolder.newFile("Fail.java");
+        try {
+            checker.process(Arrays.asList(failing, temporaryFolder.newFile("Slow.java")));
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertEquals("Exception was thrown while processing " + failing.getPath(),
+                    ex.getMessage());
+        }
+        assertFalse("worker checks are destroyed after their tasks end",
+                SlowFileSetCheck.isDestroyedWhileProcessing());
+        checker.destroy();
+    }
+
+    @Test
+    public void testProfile() throws Exception {
+        verifyProfile(1, 0);
+    }
+
+    @Test
+    public void testProfileInParallelWithAsyncListeners() throws Exception {
+        verifyProfile(3, 2);
+    }
+
+    @Test
+    public void testNoProfileByDefault() throws Exception {
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addChild(new DefaultConfiguration(FileLengthCheck.class.getName()));
+        final Checker checker = createChecker(checkerConfig);
+        final ProfileCollector collector = new ProfileCollector();
+        checker.addListener(collector);
+        checker.process(Collections.singletonList(temporaryFolder.newFile("file.java")));
+        checker.destroy();
+        assertTrue("Audit should finish", collector.wasCalled());
+        assertEquals(null, collector.profile);
+    }
+
+    /**
+     * Checks the profile of two audits of the same files.
+     * @param threads the number of threads
+     * @param listenerQueueSize the maximum number of events waiting for listeners
+     */
+    private static void verifyProfile(int threads, int listenerQueueSize) throws Exception {
+        final Checker checker = createProfiledChecker(threads, listenerQueueSize);
+        final ProfileCollector collector = new ProfileCollector();
+        checker.addListener(collector);
+
+        final File directory = new File("src/test/resources/com/puppycrawl/tools/checkstyle/"
+                + "checks/metrics");
+        final List<File> files = Arrays.asList(new File(directory, "InputComplexity.java"),
+                new File(directory, "InputJavaNCSS.java"),
+                new File(directory, "InputClassCoupling.java"));
+        for (int i = 0; i < 2; i++) {
+            checker.process(files);
+            final Profile profile = collector.profile;
+            assertTrue("Profile should be received before the audit finishes",
+                    collector.profiledBeforeFinish);
+            assertEquals(3, profile.getParsing().getCount());
+            assertEquals(3, getEntry(profile.getModules(), "TreeWalker").getCount());
+            assertEquals(3, getEntry(profile.getModules(), "FileLengthCheck").getCount());
+            final ProfileEntry memberNames = getEntry(profile.getModules(), "memberNames");
+            assertTrue("Check should be called", memberNames.getCount() > 0);
+            assertEquals(0, memberNames.getCount() % 2);
+            assertEquals(3, profile.getModules().size());
+            assertEquals(3, profile.getFiles().size());
+            final ProfileEntry file = getEntry(profile.getFiles(),
+                    files.get(0).getAbsolutePath());
+            assertEquals(2, file.getCount());
+            assertTrue("Wall time should be measured", file.getWallTime() > 0);
+        }
+        checker.destroy();
+    }
+
+    /**
+     * Creates a Checker that profiles audits, with a check and two fileset checks.
+     * @param threads the number of threads
+     * @param listenerQueueSize the maximum number of events waiting for listeners
+     * @return the configured Checker
+     */
+    private static Checker createProfiledChecker(int threads, int listenerQueueSize)
+            throws Exception {
+        final DefaultConfiguration memberNameConfig =
+                new DefaultConfiguration(MemberNameCheck.class.getName());
+        memberNameConfig.addAttribute("id", "memberNames");
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalkerConfig.addChild(memberNameConfig);
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("profile", "true");
+        checkerConfig.addAttribute("threads", String.valueOf(threads));
+        checkerConfig.addAttribute("listenerQueueSize", String.valueOf(listenerQueueSize));
+        checkerConfig.addChild(treeWalkerConfig);
+        checkerConfig.addChild(new DefaultConfiguration(FileLengthCheck.class.getName()));
+        return createChecker(checkerConfig);
+    }
+
+    /**
+     * Finds a profile entry by name.
+     * @param entries the entries
+     * @param name the name of the entry
+     * @return the entry
+     */
+    private static ProfileEntry getEntry(List<ProfileEntry> entries, String name) {
+        ProfileEntry result = null;
+        for (ProfileEntry entry : entries) {
+            if (entry.getName().equals(name)) {
+                result = entry;
+            }
+        }
+        assertTrue("No profile entry " + name, result != null);
+        return result;
+    }
+
+    @Test
+    public void testCacheFileReplaysMessages() throws Exception {
+        verifyCacheFile(1);
+    }
+
+    @Test
+    public void testCacheFileReplaysMessagesInParallel() throws Exception {
+        verifyCacheFile(2);
+    }
+
+    @Test
+    public void testCacheFileIsPersisted() throws Exception {
+        final File file = temporaryFolder.newFile("file.java");
+        final String cacheFile = temporaryFolder.getRoot() + "/cache/cache.bin";
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("cacheFile", cacheFile);
+        checkerConfig.addAttribute("cacheMode", "content");
+        checkerConfig.addChild(new DefaultConfiguration(FileLengthCheck.class.getName()));
+        final Checker checker = createChecker(checkerConfig);
+        checker.process(Collections.singletonList(file));
+        checker.destroy();
+
+        final ContentHashCacheFile cache = new ContentHashCacheFile(checkerConfig, cacheFile);
+        cache.load();
+        assertTrue(cache.isInCache(file.getAbsolutePath(), cache.getFileKey(file)));
+    }
+
+    /**
+     * Checks that the messages of files that did not change are reported
+     * from the cache, while global fileset checks still process every file
+     * and their messages are not filtered with the comments of another file.
+     * @param threads the number of threads
+     */
+    private void verifyCacheFile(int threads) throws Exception {
+        final File suppressed = temporaryFolder.newFile("Suppressed.java");
+        Files.write(suppressed.toPath(),
+                "// CHECKSTYLE:OFF\nclass B {\n}\n".getBytes(StandardCharsets.UTF_8));
+        final File file = temporaryFolder.newFile("file.java");
+        Files.write(file.toPath(), "class A {\n\t}\n".getBytes(StandardCharsets.UTF_8));
+        final long timestamp = file.lastModified();
+        final String cacheFile = temporaryFolder.newFile().getPath();
+
+        // file length, tab character and missing package-info.java
+        assertEquals(3, runCachedAudit(cacheFile, threads, suppressed, file));
+
+        // the file is not read again while its timestamp does not change,
+        // while the file with the suppression comment is parsed before it
+        Files.write(file.toPath(), "class A {\t}".getBytes(StandardCharsets.UTF_8));
+        assertTrue(file.setLastModified(timestamp));
+        assertTrue(suppressed.setLastModified(timestamp + 5_000));
+        assertEquals(3, runCachedAudit(cacheFile, threads, suppressed, file));
+
+        assertTrue(file.setLastModified(timestamp + 10_000));
+        assertEquals(2, runCachedAudit(cacheFile, threads, suppressed, file));
+    }
+
+    /**
+     * Runs an audit with a cache file.
+     * @param cacheFile the cache file
+     * @param threads the number of threads
+     * @param files the files to audit
+     * @return the number of errors
+     */
+    private static int runCachedAudit(String cacheFile, int threads, File... files)
+            throws Exception {
+        final DefaultConfiguration fileLengthConfig =
+                new DefaultConfiguration(FileLengthCheck.class.getName());
+        fileLengthConfig.addAttribute("max", "1");
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalkerConfig.addChild(new DefaultConfiguration(FileContentsHolder.class.getName()));
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("cacheFile", cacheFile);
+        checkerConfig.addAttribute("threads", String.valueOf(threads));
+        checkerConfig.addChild(fileLengthConfig);
+        checkerConfig.addChild(treeWalkerConfig);
+        checkerConfig.addChild(new DefaultConfiguration(JavadocPackageCheck.class.getName()));
+        checkerConfig.addChild(
+                new DefaultConfiguration(GlobalFileTabCharacterCheck.class.getName()));
+        checkerConfig.addChild(
+                new DefaultConfiguration(SuppressionCommentFilter.class.getName()));
+        final Checker checker = createChecker(checkerConfig);
+        final int errors = checker.process(Arrays.asList(files));
+        checker.destroy();
+        return errors;
+    }
+
+    @Test
+    public void testChangedLines() throws Exception {
+        final File changed = temporaryFolder.newFile("Changed.java");
+        final File unchanged = temporaryFolder.newFile("Unchanged.java");
+        final byte[] source = "class A {\n    int aaaaaaaaaa;\n    int bbbbbbbbbb;\n}\n"
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(changed.toPath(), source);
+        Files.write(unchanged.toPath(), source);
+        final ChangedLines changedLines = new ChangedLines();
+        changedLines.addLines(changed, 3, 4);
+        final String cacheFile = temporaryFolder.getRoot() + "/cache.bin";
+
+        final String output = runChangedLinesAudit(changedLines, cacheFile,
+                Arrays.asList(changed, unchanged));
+        assertTrue(output, output.contains(changed.getPath() + ":3: "));
+        assertFalse(output, output.contains(changed.getPath() + ":2: "));
+        assertFalse(output, output.contains(unchanged.getPath()));
+
+        final String fullOutput = runChangedLinesAudit(null, cacheFile,
+                Collections.singletonList(changed));
+        assertTrue("the cache has the errors of unchanged lines",
+                fullOutput.contains(changed.getPath() + ":2: "));
+    }
+
+    /**
+     * Runs an audit of the line lengths of changed lines.
+     * @param changedLines the changed lines, null to audit all lines
+     * @param cacheFile the cache file
+     * @param files the files to audit
+     * @return the output of the audit
+     */
+    private static String runChangedLinesAudit(ChangedLines changedLines, String cacheFile,
+            List<File> files) throws Exception {
+        final DefaultConfiguration lineLengthConfig =
+                new DefaultConfiguration(LineLengthCheck.class.getName());
+        lineLengthConfig.addAttribute("max", "10");
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalkerConfig.addChild(lineLengthConfig);
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("cacheFile", cacheFile);
+        checkerConfig.addChild(treeWalkerConfig);
+
+        final Checker checker = createChecker(checkerConfig);
+        checker.setChangedLines(changedLines);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checker.addListener(new DefaultLogger(out, false));
+        checker.process(files);
+        checker.destroy();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs an audit with a configuration that has checks on several levels,
+     * and filters on comments and annotations.
+     * @param threads the number of threads
+     * @param listenerQueueSize the maximum number of events waiting for listeners
+     * @param files the files to audit
+     * @return the output of the audit
+     */
+    private static String runAudit(int threads, int listenerQueueSize, List<File> files)
+            throws Exception {
+        final DefaultConfiguration treeWalkerConfig =
+                new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalkerConfig.addChild(new DefaultConfiguration(MemberNameCheck.class.getName()));
+        final DefaultConfiguration lineLengthConfig =
+                new DefaultConfiguration(LineLengthCheck.class.getName());
+        lineLengthConfig.addAttribute("max", "60");
+        treeWalkerConfig.addChild(lineLengthConfig);
+        treeWalkerConfig.addChild(new DefaultConfiguration(FileContentsHolder.class.getName()));
+        treeWalkerConfig.addChild(
+                new DefaultConfiguration(SuppressWarningsHolder.class.getName()));
+        final DefaultConfiguration fileLengthConfig =
+                new DefaultConfiguration(FileLengthCheck.class.getName());
+        fileLengthConfig.addAttribute("max", "50");
+        final DefaultConfiguration tabConfig =
+                new DefaultConfiguration(GlobalFileTabCharacterCheck.class.getName());
+        tabConfig.addAttribute("eachLine", "true");
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("severity", "warning");
+        checkerConfig.addAttribute("threads", String.valueOf(threads));
+        checkerConfig.addAttribute("listenerQueueSize", String.valueOf(listenerQueueSize));
+        checkerConfig.addChild(treeWalkerConfig);
+        checkerConfig.addChild(fileLengthConfig);
+        checkerConfig.addChild(tabConfig);
+        checkerConfig.addChild(
+                new DefaultConfiguration(SuppressionCommentFilter.class.getName()));
+        checkerConfig.addChild(
+                new DefaultConfiguration(SuppressWarningsFilter.class.getName()));
+
+        final Checker checker = createChecker(checkerConfig);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checker.addListener(new DefaultLogger(out, false));
+        checker.process(files);
+        checker.destroy();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a Checker for a configuration.
+     * @param checkerConfig the configuration of the Checker
+     * @return the configured Checker
+     */
+    private static Checker createChecker(DefaultConfiguration checkerConfig) throws Exception {
+        checkerConfig.addAttribute("charset", "UTF-8");
+        final Checker checker = new Checker();
+        checker.setLocaleCountry(Locale.ROOT.getCountry());
+        checker.setLocaleLanguage(Locale.ROOT.getLanguage());
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        return checker;
+    }
+
+    private static class ProfileCollector extends DebugAuditAdapter implements ProfileListener {
+        private Profile profile;
+        private boolean profiledBeforeFinish;
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            super.auditStarted(event);
+            profile = null;
+            profiledBeforeFinish = false;
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            super.auditFinished(event);
+            profiledBeforeFinish = profile != null;
+        }
+
+        @Override
+        public void addProfile(AuditEvent event, Profile auditProfile) {
+            profile = auditProfile;
+        }
+    }
 }
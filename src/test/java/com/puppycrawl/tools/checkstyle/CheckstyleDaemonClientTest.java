@@ -0,0 +1,104 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.puppycrawl.tools.checkstyle.internal.TestUtils.assertUtilsClassHasPrivateConstructor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+public class CheckstyleDaemonClientTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testIsProperUtilsClass() throws ReflectiveOperationException {
+        assertUtilsClassHasPrivateConstructor(CheckstyleDaemonClient.class);
+    }
+
+    @Test
+    public void testNoDaemon() throws Exception {
+        final int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 0,
+                InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        try {
+            CheckstyleDaemonClient.audit(port, "config.xml", null, "plain",
+                    Collections.<File>emptyList(), new ByteArrayOutputStream());
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertEquals("Unable to audit files with the daemon on port " + port,
+                    ex.getMessage());
+            assertTrue(ex.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void testUnexpectedResponse() throws Exception {
+        try (final ServerSocket serverSocket = new ServerSocket(0, 0,
+                InetAddress.getLoopbackAddress())) {
+            final Thread server = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try (Socket socket = serverSocket.accept()) {
+                        socket.getOutputStream().write(
+                                "HTTP/1.1 400\n".getBytes(StandardCharsets.UTF_8));
+                    }
+                    catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            });
+            server.start();
+            final File tokenDirectory = temporaryFolder.getRoot();
+            FileUtils.write(CheckstyleDaemonToken.getFile(tokenDirectory,
+                    serverSocket.getLocalPort()), "token");
+            try {
+                CheckstyleDaemonClient.audit(tokenDirectory, serverSocket.getLocalPort(),
+                        "config.xml", null, "plain", Collections.<File>emptyList(),
+                        new ByteArrayOutputStream());
+                fail("Exception is expected");
+            }
+            catch (CheckstyleException ex) {
+                assertEquals("Unexpected response of the daemon: HTTP/1.1 400",
+                        ex.getMessage());
+            }
+            server.join();
+        }
+    }
+}
@@ -0,0 +1,341 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+public class CheckstyleDaemonTest {
+    private static final String HEADER = "<?xml version=\"1.0\"?>%n"
+            + "<!DOCTYPE module PUBLIC"
+            + " \"-//Puppy Crawl//DTD Check Configuration 1.3//EN\""
+            + " \"http://www.puppycrawl.com/dtds/configuration_1_3.dtd\">%n";
+    private static final String CONFIG = HEADER
+            + "<module name=\"Checker\"><module name=\"TreeWalker\">"
+            + "<module name=\"TypeName\"><property name=\"format\" value=\"%s\"/></module>"
+            + "</module></module>%n";
+
+    private static final String SUPPRESSIONS = "<?xml version=\"1.0\"?>%n"
+            + "<!DOCTYPE suppressions PUBLIC"
+            + " \"-//Puppy Crawl//DTD Suppressions 1.1//EN\""
+            + " \"http://www.puppycrawl.com/dtds/suppressions_1_1.dtd\">%n"
+            + "<suppressions>%s</suppressions>%n";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<File> files = Collections.singletonList(
+            new File(getPath("InputMain.java")));
+
+    private File tokenDirectory;
+
+    private CheckstyleDaemon daemon;
+
+    private Thread daemonThread;
+
+    private static String getPath(String filename) {
+        return new File("src/test/resources/com/puppycrawl/tools/checkstyle/" + filename)
+                .getAbsolutePath();
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        tokenDirectory = temporaryFolder.newFolder("tokens");
+        daemon = new CheckstyleDaemon(0, tokenDirectory);
+        daemonThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    daemon.run();
+                }
+                catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        daemonThread.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        daemon.close();
+        daemonThread.join();
+    }
+
+    private int audit(String configLocation, String propertiesLocation, OutputStream report)
+            throws CheckstyleException {
+        return CheckstyleDaemonClient.audit(tokenDirectory, daemon.getPort(), configLocation,
+                propertiesLocation, "plain", files, report);
+    }
+
+    @Test
+    public void testAudit() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        assertEquals(2, audit(getPath("config-classname2-error.xml"), null, report));
+        final String[] lines = report.toString(StandardCharsets.UTF_8.name())
+                .split(System.lineSeparator());
+        assertEquals(4, lines.length);
+        assertEquals("Starting audit...", lines[0]);
+        assertEquals("[ERROR] " + files.get(0) + ":3:14: Name 'InputMain' must match"
+                + " pattern '^[a-z0-9]*$'. [TypeName]", lines[1]);
+        assertEquals("Audit done.", lines[3]);
+    }
+
+    @Test
+    public void testXmlAudit() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        assertEquals(2, CheckstyleDaemonClient.audit(tokenDirectory,
+                daemon.getPort(), getPath("config-classname2-error.xml"), null, "xml", files,
+                report));
+        final String xml = report.toString(StandardCharsets.UTF_8.name());
+        assertTrue(xml, xml.startsWith("<?xml"));
+        assertTrue(xml, xml.contains("source=\"com.puppycrawl.tools.checkstyle.checks.naming"
+                + ".TypeNameCheck\""));
+    }
+
+    @Test
+    public void testCheckerIsReconfiguredOnlyWhenConfigurationChanges() throws Exception {
+        final File config = temporaryFolder.newFile("config.xml");
+        FileUtils.write(config, String.format(CONFIG, "^[a-z0-9]*$"));
+        final OutputStream report = new ByteArrayOutputStream();
+
+        assertEquals(2, audit(config.getPath(), null, report));
+        final Checker checker = getChecker();
+        assertEquals(2, audit(config.getPath(), null, report));
+        assertSame(checker, getChecker());
+
+        FileUtils.write(config, String.format(CONFIG, "^.*$"));
+        assertEquals(0, audit(config.getPath(), null, report));
+        assertNotSame(checker, getChecker());
+    }
+
+    @Test
+    public void testCheckerIsReconfiguredWhenPropertiesChange() throws Exception {
+        final File config = temporaryFolder.newFile("config.xml");
+        FileUtils.write(config, String.format(CONFIG, "${format}"));
+        final File properties = temporaryFolder.newFile("checkstyle.properties");
+        FileUtils.write(properties, "format=^[a-z0-9]*$");
+        final OutputStream report = new ByteArrayOutputStream();
+
+        assertEquals(2, audit(config.getPath(), properties.getPath(), report));
+        FileUtils.write(properties, "format=^.*$");
+        assertEquals(0, audit(config.getPath(), properties.getPath(), report));
+    }
+
+    @Test
+    public void testCheckerIsReconfiguredWhenReferencedFileChanges() throws Exception {
+        final File suppressions = temporaryFolder.newFile("suppressions.xml");
+        FileUtils.write(suppressions, String.format(SUPPRESSIONS, ""));
+        final File config = temporaryFolder.newFile("config.xml");
+        FileUtils.write(config, String.format(HEADER + "<module name=\"Checker\">"
+                + "<module name=\"SuppressionFilter\"><property name=\"file\" value=\"%s\"/>"
+                + "</module><module name=\"TreeWalker\"><module name=\"TypeName\">"
+                + "<property name=\"format\" value=\"^[a-z0-9]*$\"/></module></module>"
+                + "</module>%n", suppressions.getPath()));
+        final OutputStream report = new ByteArrayOutputStream();
+
+        assertEquals(2, audit(config.getPath(), null, report));
+        FileUtils.write(suppressions, String.format(SUPPRESSIONS,
+                "<suppress checks=\"TypeName\" files=\".\"/>"));
+        assertEquals(0, audit(config.getPath(), null, report));
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        daemon.setThreads(2);
+        assertEquals(2, audit(getPath("config-classname2-error.xml"), null,
+                new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testInvalidConfiguration() throws Exception {
+        try {
+            audit(getPath("config-Incorrect.xml"), null, new ByteArrayOutputStream());
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("The daemon failed"
+                    + " to audit the files: " + CheckstyleException.class.getName()));
+        }
+        assertEquals("the daemon serves requests after a failure", 2,
+                audit(getPath("config-classname2-error.xml"), null, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testUnexpectedFailure() throws Exception {
+        final File config = temporaryFolder.newFile("config.xml");
+        FileUtils.write(config, String.format(HEADER + "<module name=\"Checker\">"
+                + "<module name=\"%s\"/></module>%n", FailingFileSetCheck.class.getName()));
+        try {
+            audit(config.getPath(), null, new ByteArrayOutputStream());
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().startsWith("The daemon failed"
+                    + " to audit the files: " + IllegalStateException.class.getName()));
+        }
+        assertEquals("the daemon serves requests after a failure", 2,
+                audit(getPath("config-classname2-error.xml"), null, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testMissingConfiguration() throws Exception {
+        try {
+            audit(getPath("config-missing.xml"), null, new ByteArrayOutputStream());
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("Unable to find: "
+                    + getPath("config-missing.xml")));
+        }
+    }
+
+    @Test
+    public void testInvalidFormat() throws Exception {
+        try {
+            CheckstyleDaemonClient.audit(tokenDirectory, daemon.getPort(),
+                    getPath("config-classname.xml"), null, "html", files,
+                    new ByteArrayOutputStream());
+            fail("Exception is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("Invalid output format html"));
+        }
+    }
+
+    @Test
+    public void testIncompleteRequest() throws Exception {
+        final List<String> response =
+                sendRequest(readToken() + "\n" + getPath("config-classname.xml"));
+        assertEquals(String.valueOf(CheckstyleDaemon.FAILURE_STATUS), response.get(0));
+        assertEquals(CheckstyleException.class.getName() + ": Incomplete request",
+                response.get(1));
+    }
+
+    @Test
+    public void testInvalidToken() throws Exception {
+        final List<String> response = sendRequest("0123456789abcdef\n"
+                + temporaryFolder.getRoot() + "\n" + getPath("config-classname.xml")
+                + "\n\nplain\n" + files.get(0) + "\n\n");
+        assertEquals(String.valueOf(CheckstyleDaemon.FAILURE_STATUS), response.get(0));
+        assertEquals(CheckstyleException.class.getName() + ": Invalid token",
+                response.get(1));
+    }
+
+    @Test
+    public void testRelativePathsOfClient() throws Exception {
+        FileUtils.write(temporaryFolder.newFile("config.xml"), String.format(CONFIG, "${format}"));
+        FileUtils.write(temporaryFolder.newFile("checkstyle.properties"), "format=^[a-z0-9]*$");
+        FileUtils.copyFile(files.get(0), temporaryFolder.newFile("InputMain.java"));
+        final List<String> response = sendRequest(readToken() + "\n"
+                + temporaryFolder.getRoot() + "\nconfig.xml\ncheckstyle.properties\nplain\n"
+                + "InputMain.java\n\n");
+        assertEquals("2", response.get(0));
+        assertEquals("[ERROR] " + new File(temporaryFolder.getRoot(), "InputMain.java")
+                + ":3:14: Name 'InputMain' must match pattern '^[a-z0-9]*$'. [TypeName]",
+                response.get(2));
+    }
+
+    @Test
+    public void testTokenFile() throws Exception {
+        final Path tokenFile = CheckstyleDaemonToken.getFile(tokenDirectory, daemon.getPort())
+                .toPath();
+        assertEquals(64, FileUtils.readFileToString(tokenFile.toFile()).length());
+        if (tokenFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(EnumSet.of(PosixFilePermission.OWNER_READ,
+                    PosixFilePermission.OWNER_WRITE), Files.getPosixFilePermissions(tokenFile));
+        }
+        daemon.close();
+        assertFalse("the token is deleted when the daemon is closed",
+                Files.exists(tokenFile));
+    }
+
+    @Test
+    public void testTokenFileOfKilledDaemon() throws Exception {
+        final int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 0,
+                InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+        final File tokenFile = CheckstyleDaemonToken.getFile(tokenDirectory, port);
+        final String killedDaemonToken = "token of a killed daemon";
+        FileUtils.write(tokenFile, killedDaemonToken);
+        try (CheckstyleDaemon otherDaemon = new CheckstyleDaemon(port, tokenDirectory)) {
+            assertNotEquals(killedDaemonToken, FileUtils.readFileToString(tokenFile));
+        }
+    }
+
+    private String readToken() throws IOException {
+        return FileUtils.readFileToString(
+                CheckstyleDaemonToken.getFile(tokenDirectory, daemon.getPort()));
+    }
+
+    private List<String> sendRequest(String request) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+            return IOUtils.readLines(socket.getInputStream(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private Checker getChecker() throws ReflectiveOperationException {
+        final Field field = CheckstyleDaemon.class.getDeclaredField("checkers");
+        field.setAccessible(true);
+        final Map<?, ?> checkers = (Map<?, ?>) field.get(daemon);
+        assertEquals(1, checkers.size());
+        final Object configuredChecker = checkers.values().iterator().next();
+        final Method method = configuredChecker.getClass().getDeclaredMethod("getChecker");
+        method.setAccessible(true);
+        return (Checker) method.invoke(configuredChecker);
+    }
+}
@@ -0,0 +1,62 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.puppycrawl.tools.checkstyle.internal.TestUtils.assertUtilsClassHasPrivateConstructor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
+import org.junit.rules.TemporaryFolder;
+
+public class CheckstyleDaemonTokenTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+    @Rule
+    public final RestoreSystemProperties systemProperties = new RestoreSystemProperties();
+
+    @Test
+    public void testIsProperUtilsClass() throws ReflectiveOperationException {
+        assertUtilsClassHasPrivateConstructor(CheckstyleDaemonToken.class);
+    }
+
+    @Test
+    public void testDefaultDirectory() {
+        System.setProperty("user.home", temporaryFolder.getRoot().getPath());
+        assertEquals(new File(temporaryFolder.getRoot(), ".checkstyle"),
+                CheckstyleDaemonToken.getDefaultDirectory());
+    }
+
+    @Test
+    public void testCreateAndRead() throws Exception {
+        final Path file = CheckstyleDaemonToken.getFile(
+                new File(temporaryFolder.getRoot(), "tokens"), 5510).toPath();
+        assertEquals("daemon-5510.token", file.getFileName().toString());
+        final String token = CheckstyleDaemonToken.create(file);
+        assertEquals(64, token.length());
+        assertEquals(token, CheckstyleDaemonToken.read(file));
+        assertNotEquals("a new token is random", token, CheckstyleDaemonToken.create(file));
+    }
+}
@@ -0,0 +1,196 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.SortedSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Sets;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class ContentHashCacheFileTest {
+    private static final SortedSet<LocalizedMessage> NO_MESSAGES = Sets.newTreeSet();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCtor() {
+        try {
+            new ContentHashCacheFile(null, "");
+            fail("IllegalArgumentException is expected");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("config can not be null", ex.getMessage());
+        }
+        try {
+            final Configuration config = new DefaultConfiguration("myName");
+            new ContentHashCacheFile(config, null);
+            fail("IllegalArgumentException is expected");
+        }
+        catch (IllegalArgumentException ex) {
+            assertEquals("fileName can not be null", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testFileKeyDependsOnContentOnly() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config,
+                temporaryFolder.newFile().getPath());
+        final File file = temporaryFolder.newFile("file.java");
+        Files.write(file.toPath(), "class A {}".getBytes(StandardCharsets.UTF_8));
+        final String key = cache.getFileKey(file);
+
+        assertTrue(file.setLastModified(file.lastModified() + 10_000));
+        assertEquals(key, cache.getFileKey(file));
+
+        Files.write(file.toPath(), "class B {}".getBytes(StandardCharsets.UTF_8));
+        assertNotEquals(key, cache.getFileKey(file));
+    }
+
+    @Test
+    public void testInCache() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config,
+                temporaryFolder.newFile().getPath());
+        final File file = temporaryFolder.newFile("file.java");
+        final String key = cache.getFileKey(file);
+        cache.put("myFile", key, NO_MESSAGES);
+        assertTrue(cache.isInCache("myFile", key));
+        assertFalse(cache.isInCache("myFile1", key));
+        Files.write(file.toPath(), "class A {}".getBytes(StandardCharsets.UTF_8));
+        assertFalse(cache.isInCache("myFile", cache.getFileKey(file)));
+    }
+
+    @Test
+    public void testPersistAndLoad() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final String cacheFile = new File(temporaryFolder.getRoot(), "dir/cache").getPath();
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config, cacheFile);
+        cache.load();
+        final String key = cache.getFileKey(temporaryFolder.newFile("file.java"));
+        cache.put("myFile", key, NO_MESSAGES);
+        cache.persist();
+        cache.persist();
+
+        final ContentHashCacheFile loadedCache = new ContentHashCacheFile(config, cacheFile);
+        loadedCache.load();
+        assertTrue(loadedCache.isInCache("myFile", key));
+        assertEquals("only the cache file is expected in the directory",
+                1, new File(cacheFile).getParentFile().list().length);
+    }
+
+    @Test
+    public void testMessagesArePersisted() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final String cacheFile = temporaryFolder.newFile().getPath();
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config, cacheFile);
+        cache.load();
+        final String key = cache.getFileKey(temporaryFolder.newFile("file.java"));
+        final SortedSet<LocalizedMessage> messages = Sets.newTreeSet();
+        messages.add(new LocalizedMessage(1, 2, "bundle", "key", new Object[] {"arg", 3},
+                SeverityLevel.WARNING, "moduleId", getClass(), null));
+        messages.add(new LocalizedMessage(5, "bundle", "key", null,
+                SeverityLevel.ERROR, null, getClass(), "custom message"));
+        cache.put("myFile", key, messages);
+        cache.put("objectArgumentFile", key, Sets.newTreeSet(Collections.singleton(
+                new LocalizedMessage(1, "bundle", "key", new Object[] {new StringBuilder("a")},
+                        null, getClass(), null))));
+        assertEquals(messages, cache.getMessages("myFile", key));
+        cache.persist();
+
+        final ContentHashCacheFile loadedCache = new ContentHashCacheFile(config, cacheFile);
+        loadedCache.load();
+        final SortedSet<LocalizedMessage> loadedMessages = loadedCache.getMessages("myFile", key);
+        assertEquals(messages, loadedMessages);
+        assertEquals(SeverityLevel.WARNING, loadedMessages.first().getSeverityLevel());
+        assertEquals("custom message", loadedMessages.last().getMessage());
+        assertNull(loadedCache.getMessages("myFile", "0"));
+        assertArrayEquals("arguments of other types are converted to strings",
+                new Object[] {"a"},
+                loadedCache.getMessages("objectArgumentFile", key).first().getArgs());
+    }
+
+    @Test
+    public void testConfigurationChangeClearsCache() throws IOException {
+        final DefaultConfiguration config = new DefaultConfiguration("myName");
+        final String cacheFile = temporaryFolder.newFile().getPath();
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config, cacheFile);
+        cache.load();
+        final String key = cache.getFileKey(temporaryFolder.newFile("file.java"));
+        cache.put("myFile", key, NO_MESSAGES);
+        cache.persist();
+
+        config.addAttribute("charset", "UTF-8");
+        final ContentHashCacheFile loadedCache = new ContentHashCacheFile(config, cacheFile);
+        loadedCache.load();
+        assertFalse(loadedCache.isInCache("myFile", key));
+    }
+
+    @Test
+    public void testUnknownFormatIsIgnored() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = temporaryFolder.newFile();
+        Files.write(cacheFile.toPath(),
+                "configuration*?=1\nmyFile=1\n".getBytes(StandardCharsets.ISO_8859_1));
+        final ContentHashCacheFile cache =
+                new ContentHashCacheFile(config, cacheFile.getPath());
+        cache.load();
+        assertFalse(cache.isInCache("myFile", "1"));
+    }
+
+    @Test
+    public void testTruncatedFileIsIgnored() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final String cacheFile = temporaryFolder.newFile().getPath();
+        final ContentHashCacheFile cache = new ContentHashCacheFile(config, cacheFile);
+        cache.load();
+        final String key = cache.getFileKey(temporaryFolder.newFile("file.java"));
+        cache.put("myFile", key, NO_MESSAGES);
+        cache.persist();
+
+        final byte[] content = Files.readAllBytes(new File(cacheFile).toPath());
+        Files.write(new File(cacheFile).toPath(),
+                Arrays.copyOf(content, content.length - 1));
+        final ContentHashCacheFile loadedCache = new ContentHashCacheFile(config, cacheFile);
+        loadedCache.load();
+        assertFalse(loadedCache.isInCache("myFile", key));
+    }
+}
@@ -0,0 +1,182 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+
+public class FileScannerTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File root;
+
+    @Before
+    public void setUp() throws Exception {
+        root = temporaryFolder.newFolder("root");
+        for (String fileName : Arrays.asList("b/B.java", "a/c/C.java", "a/A.java",
+                "a/A.txt", "Root.java", "target/Target.java", "node_modules/m/M.java")) {
+            final File file = new File(root, fileName);
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.write(file.toPath(), new byte[0]);
+        }
+    }
+
+    private List<File> getFiles(String... fileNames) {
+        final List<File> files = Lists.newArrayList();
+        for (String fileName : fileNames) {
+            files.add(new File(root, fileName));
+        }
+        return files;
+    }
+
+    private static List<File> scan(FileScanner scanner) {
+        try {
+            return Lists.newArrayList(scanner);
+        }
+        finally {
+            scanner.close();
+        }
+    }
+
+    @Test
+    public void testScanInStableOrder() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 2);
+        assertEquals(getFiles("Root.java", "a/A.java", "a/A.txt", "a/c/C.java", "b/B.java",
+                "node_modules/m/M.java", "target/Target.java"), scan(scanner));
+    }
+
+    @Test
+    public void testFileExtensions() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 1);
+        scanner.setFileExtensions("txt");
+        assertEquals(getFiles("a/A.txt"), scan(scanner));
+    }
+
+    @Test
+    public void testExcludes() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 3);
+        scanner.setFileExtensions(".java");
+        scanner.addExclude("target");
+        scanner.addExclude("node_modules");
+        scanner.addExclude("a/c");
+        scanner.addExclude("B.*");
+        assertEquals(getFiles("Root.java", "a/A.java"), scan(scanner));
+    }
+
+    @Test
+    public void testFilesAndDirectories() {
+        final List<File> roots = getFiles("b", "Root.java", "a/A.txt", "Missing.java", "a/c");
+        final FileScanner scanner = new FileScanner(roots, 2);
+        scanner.setFileExtensions("java");
+        assertEquals(getFiles("b/B.java", "Root.java", "a/c/C.java"), scan(scanner));
+    }
+
+    @Test
+    public void testNoFiles() {
+        final FileScanner scanner = new FileScanner(getFiles("Missing.java"), 1);
+        final Iterator<File> files = scanner.iterator();
+        assertFalse(files.hasNext());
+        try {
+            files.next();
+            fail("Exception is expected");
+        }
+        catch (NoSuchElementException ignored) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSymbolicLinkCycle() throws Exception {
+        try {
+            Files.createSymbolicLink(new File(root, "b/link").toPath(), root.toPath());
+        }
+        catch (IOException | UnsupportedOperationException ignored) {
+            // the file system has no symbolic links
+            return;
+        }
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 2);
+        scanner.addExclude("node_modules");
+        scanner.addExclude("target");
+        assertEquals(getFiles("Root.java", "a/A.java", "a/A.txt", "a/c/C.java", "b/B.java"),
+                scan(scanner));
+    }
+
+    @Test
+    public void testIterateOnce() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 1);
+        scan(scanner);
+        try {
+            scanner.iterator();
+            fail("Exception is expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("The files have already been iterated", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 1);
+        try {
+            scanner.iterator().remove();
+            fail("Exception is expected");
+        }
+        catch (UnsupportedOperationException ex) {
+            assertEquals("remove", ex.getMessage());
+        }
+        finally {
+            scanner.close();
+        }
+    }
+
+    @Test
+    public void testClosed() {
+        final FileScanner scanner = new FileScanner(Collections.singletonList(root), 1);
+        final Iterator<File> files = scanner.iterator();
+        scanner.close();
+        try {
+            while (files.hasNext()) {
+                files.next();
+            }
+            fail("Exception is expected");
+        }
+        catch (IllegalStateException ex) {
+            assertEquals("The scanner is closed", ex.getMessage());
+        }
+    }
+}
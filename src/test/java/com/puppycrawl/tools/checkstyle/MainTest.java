@@ -23,22 +23,27 @@ import static com.puppycrawl.tools.checkstyle.internal.TestUtils.assertUtilsClas
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-import static org.powermock.api.mockito.PowerMockito.mock;
-import static org.powermock.api.mockito.PowerMockito.when;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.List;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.Assertion;
 import org.junit.contrib.java.lang.system.ExpectedSystemExit;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 import org.junit.contrib.java.lang.system.SystemErrRule;
 import org.junit.contrib.java.lang.system.SystemOutRule;
 import org.junit.rules.TemporaryFolder;
@@ -54,6 +59,8 @@ public class MainTest {
     public final SystemErrRule systemErr = new SystemErrRule().enableLog().mute();
     @Rule
     public final SystemOutRule systemOut = new SystemOutRule().enableLog().mute();
+    @Rule
+    public final RestoreSystemProperties systemProperties = new RestoreSystemProperties();
 
     private static String getPath(String filename) {
         return "src/test/resources/com/puppycrawl/tools/checkstyle/" + filename;
@@ -90,19 +97,32 @@ public class MainTest {
     @Test
     public void testWrongArgument()
             throws Exception {
+        final String usage = String.format(Locale.ROOT, "Unrecognized option: -w%n"
+            + "usage: java com.puppycrawl.tools.checkstyle.Main [options] -c <config.xml>%n"
+            + "            file...%n"
+            + " -c <arg>                   Sets the check configuration file to use.%n"
+            + "    --changed-since <arg>   Audits only the lines of the git working tree%n"
+            + "                            that changed since the given revision%n"
+            + "    --client <arg>          Sends the files to audit to the daemon%n"
+            + "                            listening to the given local port%n"
+            + "    --daemon <arg>          Runs a daemon listening to the given local%n"
+            + "                            port and auditing the files its clients send%n"
+            + "    --exclude <arg>         Excludes the files and directories matching%n"
+            + "                            the given glob, can be repeated%n"
+            + " -f <arg>                   Sets the output format. (plain|xml). Defaults%n"
+            + "                            to plain%n"
+            + " -o <arg>                   Sets the output file, compressed with gzip if%n"
+            + "                            its name ends with .gz. Defaults to stdout%n"
+            + " -p <arg>                   Loads the properties file%n"
+            + "    --profile <arg>         Profiles the audit and prints the given number%n"
+            + "                            of slowest modules and files%n"
+            + " -t,--threads <arg>         Sets the number of threads to process files%n"
+            + "                            with%n"
+            + " -v                         Print product version and exit%n");
         exit.expectSystemExitWithStatus(-1);
         exit.checkAssertionAfterwards(new Assertion() {
             @Override
             public void checkAssertion() {
-                final String usage = String.format(Locale.ROOT, "Unrecognized option: -w%n"
-                    + "usage: java com.puppycrawl.tools.checkstyle.Main [options] -c <config.xml>%n"
-                    + "            file...%n"
-                    + " -c <arg>   Sets the check configuration file to use.%n"
-                    + " -f <arg>   Sets the output format. (plain|xml). Defaults to plain%n"
-                    + " -o <arg>   Sets the output file. Defaults to stdout%n"
-                    + " -p <arg>   Loads the properties file%n"
-                    + " -v         Print product version and exit%n");
-
                 assertEquals(usage, systemOut.getLog());
                 assertEquals("", systemErr.getLog());
             }
@@ -274,6 +294,257 @@ public class MainTest {
                 getPath("InputMain.java"));
     }
 
+    @Test
+    public void testExistingTargetFileWithViolationsInThreads() throws Exception {
+
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() throws IOException {
+                final String expectedPath = getFilePath("InputMain.java");
+                assertEquals(String.format(Locale.ROOT, "Starting audit...%n"
+                                + "[WARN] %1$s:3:14: "
+                                + "Name 'InputMain' must match pattern"
+                                + " '^[a-z0-9]*$'. [TypeName]%n"
+                                + "[WARN] %1$s:5:7: "
+                                + "Name 'InputMainInner' must match pattern"
+                                + " '^[a-z0-9]*$'. [TypeName]%n"
+                                + "Audit done.%n", expectedPath),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("-c", getPath("config-classname2.xml"),
+                "--threads", "2",
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testInvalidNumberOfThreads() throws Exception {
+        exit.expectSystemExitWithStatus(-1);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals("Invalid number of threads. Found '0' but expected"
+                        + " a positive integer." + System.lineSeparator(),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("-c", getPath("config-classname.xml"),
+                "-t", "0",
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testProfile() throws Exception {
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() throws IOException {
+                final String[] lines = systemOut.getLog().split(System.lineSeparator());
+                assertEquals("Starting audit...", lines[0]);
+                assertTrue(lines[1], lines[1].startsWith("Parsed 1 files in "));
+                assertEquals("Slowest modules:", lines[2]);
+                assertTrue(lines[4], lines[4].endsWith("  TreeWalker"));
+                assertEquals("Slowest files:", lines[5]);
+                assertTrue(lines[7], lines[7].endsWith("  " + getFilePath("InputMain.java")));
+                assertEquals("Audit done.", lines[8]);
+                assertEquals(9, lines.length);
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("-c", getPath("config-classname.xml"),
+                "--profile", "1",
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testInvalidProfileLimit() throws Exception {
+        exit.expectSystemExitWithStatus(-1);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals("Invalid number of profiled modules and files. Found 'all'"
+                        + " but expected a positive integer." + System.lineSeparator(),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("-c", getPath("config-classname.xml"),
+                "--profile", "all",
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testClient() throws Exception {
+        // the daemon and the client agree on the directory of tokens
+        System.setProperty("user.home", temporaryFolder.getRoot().getPath());
+        final CheckstyleDaemon daemon = new CheckstyleDaemon(0);
+        final Thread daemonThread = startDaemon(daemon);
+        try {
+            exit.expectSystemExitWithStatus(2);
+            exit.checkAssertionAfterwards(new Assertion() {
+                @Override
+                public void checkAssertion() throws Exception {
+                    daemon.close();
+                    daemonThread.join();
+                    final String expectedPath = getFilePath("InputMain.java");
+                    assertEquals(String.format(Locale.ROOT, "Starting audit...%n"
+                            + "[ERROR] %1$s:3:14: "
+                            + "Name 'InputMain' must match pattern '^[a-z0-9]*$'. [TypeName]%n"
+                            + "[ERROR] %1$s:5:7: "
+                            + "Name 'InputMainInner' must match pattern '^[a-z0-9]*$'."
+                            + " [TypeName]%n"
+                            + "Audit done.%n"
+                            + "Checkstyle ends with 2 errors.%n", expectedPath),
+                            systemOut.getLog());
+                    assertEquals("", systemErr.getLog());
+                }
+            });
+            Main.main("--client", String.valueOf(daemon.getPort()),
+                    "-c", getPath("config-classname2-error.xml"),
+                    getPath("InputMain.java"));
+        }
+        finally {
+            daemon.close();
+        }
+    }
+
+    @Test
+    public void testClientOutputToFile() throws Exception {
+        // the daemon and the client agree on the directory of tokens
+        System.setProperty("user.home", temporaryFolder.getRoot().getPath());
+        final CheckstyleDaemon daemon = new CheckstyleDaemon(0);
+        final Thread daemonThread = startDaemon(daemon);
+        final String outputFile = temporaryFolder.getRoot().getCanonicalPath()
+                + File.separator + "output.xml";
+        try {
+            exit.checkAssertionAfterwards(new Assertion() {
+                @Override
+                public void checkAssertion() throws Exception {
+                    daemon.close();
+                    daemonThread.join();
+                    assertEquals("", systemOut.getLog());
+                    assertEquals("", systemErr.getLog());
+                    final String xml = FileUtils.readFileToString(new File(outputFile));
+                    assertTrue(xml, xml.startsWith("<?xml"));
+                    assertTrue(xml, xml.contains("<file name=\""
+                            + getFilePath("InputMain.java") + "\">"));
+                }
+            });
+            Main.main("--client", String.valueOf(daemon.getPort()),
+                    "-c", getPath("config-classname-prop.xml"),
+                    "-p", getPath("mycheckstyle.properties"),
+                    "-f", "xml", "-o", outputFile,
+                    getPath("InputMain.java"));
+        }
+        finally {
+            daemon.close();
+        }
+    }
+
+    @Test
+    public void testInvalidClientPort() throws Exception {
+        exit.expectSystemExitWithStatus(-1);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals("Invalid port. Found 'local' but expected an integer"
+                        + " between 1 and 65535." + System.lineSeparator(),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("--client", "local",
+                "-c", getPath("config-classname.xml"),
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testInvalidDaemonPortAndThreads() throws Exception {
+        exit.expectSystemExitWithStatus(-1);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals("Invalid port. Found '65536' but expected an integer"
+                        + " between 1 and 65535." + System.lineSeparator()
+                        + "Invalid number of threads. Found '0' but expected"
+                        + " a positive integer." + System.lineSeparator(),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("--daemon", "65536", "-t", "0");
+    }
+
+    @Test
+    public void testDaemonPortInUse() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 0,
+                InetAddress.getLoopbackAddress())) {
+            final int port = serverSocket.getLocalPort();
+            exit.expectSystemExitWithStatus(-2);
+            exit.checkAssertionAfterwards(new Assertion() {
+                @Override
+                public void checkAssertion() {
+                    assertEquals("Checkstyle ends with 1 errors." + System.lineSeparator(),
+                            systemOut.getLog());
+                    assertTrue(systemErr.getLog(), systemErr.getLog().startsWith(
+                            CheckstyleException.class.getName()
+                            + ": Unable to run the daemon on port " + port + "."));
+                }
+            });
+            Main.main("--daemon", String.valueOf(port));
+        }
+    }
+
+    @Test
+    public void testChangedSince() throws Exception {
+        Assume.assumeTrue("the sources are in a git working tree", new File(".git").exists());
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals(String.format(Locale.ROOT, "Starting audit...%n"
+                        + "Audit done.%n"), systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("--changed-since", "HEAD",
+                "-c", getPath("config-classname2-error.xml"),
+                getPath("InputMain.java"));
+    }
+
+    @Test
+    public void testChangedSinceUnknownRevision() throws Exception {
+        exit.expectSystemExitWithStatus(-2);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals("Checkstyle ends with 1 errors." + System.lineSeparator(),
+                        systemOut.getLog());
+                assertTrue(systemErr.getLog(), systemErr.getLog().startsWith(
+                        CheckstyleException.class.getName()));
+            }
+        });
+        Main.main("--changed-since", "no-such-revision",
+                "-c", getPath("config-classname2-error.xml"),
+                getPath("InputMain.java"));
+    }
+
+    private static Thread startDaemon(final CheckstyleDaemon daemon) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    daemon.run();
+                }
+                catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
     @Test
     public void testExistingTargetFileWithError()
             throws Exception {
@@ -331,6 +602,28 @@ public class MainTest {
                 getPath("InputMain.java"));
     }
 
+    @Test
+    public void testExistingTargetFileXmlOutputToGzipFile()
+            throws Exception {
+        final File file = temporaryFolder.newFile("file.output.gz");
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() throws IOException {
+                assertEquals("", systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+                try (InputStream input = new GZIPInputStream(new FileInputStream(file))) {
+                    final String output = IOUtils.toString(input, "UTF-8");
+                    assertTrue(output.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"));
+                    assertTrue(output.endsWith("</checkstyle>" + System.lineSeparator()));
+                }
+            }
+        });
+        Main.main("-c", getPath("config-classname.xml"),
+                "-f", "xml",
+                "-o", file.getCanonicalPath(),
+                getPath("InputMain.java"));
+    }
+
     @Test
     public void testExistingTargetFilePlainOutputToFileWithoutRwPermissions()
             throws Exception {
@@ -532,33 +825,23 @@ public class MainTest {
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testListFilesNotFile() throws Exception {
-        final Method method = Main.class.getDeclaredMethod("listFiles", File.class);
-        method.setAccessible(true);
-
-        final File fileMock = mock(File.class);
-        when(fileMock.canRead()).thenReturn(true);
-        when(fileMock.isDirectory()).thenReturn(false);
-        when(fileMock.isFile()).thenReturn(false);
-
-        final List<File> result = (List<File>) method.invoke(null, fileMock);
-        assertEquals(0, result.size());
-    }
-
-    @Test
-    @SuppressWarnings("unchecked")
-    public void testListFilesDirectoryWithNull() throws Exception {
-        final Method method = Main.class.getDeclaredMethod("listFiles", File.class);
-        method.setAccessible(true);
-
-        final File fileMock = mock(File.class);
-        when(fileMock.canRead()).thenReturn(true);
-        when(fileMock.isDirectory()).thenReturn(true);
-        when(fileMock.listFiles()).thenReturn(null);
-
-        final List<File> result = (List<File>) method.invoke(null, fileMock);
-        assertEquals(0, result.size());
+    public void testExcludeAndFileExtensions() throws Exception {
+        final String expectedPath = getFilePath("main/InputMainDirectory.java");
+        exit.expectSystemExitWithStatus(1);
+        exit.checkAssertionAfterwards(new Assertion() {
+            @Override
+            public void checkAssertion() {
+                assertEquals(String.format(Locale.ROOT, "Starting audit...%n"
+                        + "[ERROR] %s:1: File length is 4 lines (max allowed is 1). [FileLength]%n"
+                        + "Audit done.%n"
+                        + "Checkstyle ends with 1 errors.%n", expectedPath),
+                        systemOut.getLog());
+                assertEquals("", systemErr.getLog());
+            }
+        });
+        Main.main("-c", getPath("config-filelength-extensions.xml"),
+                "--exclude", "*Excluded*", "--exclude", "sub/**",
+                getPath("main"));
     }
 
     @Test
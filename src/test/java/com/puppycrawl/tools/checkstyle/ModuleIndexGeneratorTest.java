@@ -0,0 +1,88 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocMethodCheck;
+import com.puppycrawl.tools.checkstyle.filters.SuppressionCommentFilter;
+
+public class ModuleIndexGeneratorTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+
+    private Map<String, String> createIndex(Set<String> packageNames) throws Exception {
+        final File classesDirectory = new File(ModuleIndexGenerator.class
+                .getProtectionDomain().getCodeSource().getLocation().toURI());
+        return ModuleIndexGenerator.createIndex(classesDirectory, packageNames, loader);
+    }
+
+    @Test
+    public void testIndexContainsModules() throws Exception {
+        final Map<String, String> index =
+                createIndex(PackageNamesLoader.getPackageNames(loader));
+
+        assertEquals(JavadocMethodCheck.class.getName(), index.get("JavadocMethod"));
+        assertEquals(JavadocMethodCheck.class.getName(), index.get("JavadocMethodCheck"));
+        assertEquals(SuppressionCommentFilter.class.getName(),
+                index.get("SuppressionCommentFilter"));
+        assertEquals(TreeWalker.class.getName(), index.get("TreeWalker"));
+        assertFalse(index.containsKey("AbstractTypeAwareCheck"));
+        assertFalse(index.containsKey("ClassResolver"));
+    }
+
+    @Test
+    public void testIndexMatchesPackageObjectFactory() throws Exception {
+        final Set<String> packageNames = PackageNamesLoader.getPackageNames(loader);
+        final Map<String, String> index = createIndex(packageNames);
+        final PackageObjectFactory factory = new PackageObjectFactory(packageNames, loader);
+
+        for (Map.Entry<String, String> entry : index.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue(),
+                    factory.createModule(entry.getKey()).getClass().getName());
+        }
+    }
+
+    @Test
+    public void testWrittenIndexIsLoaded() throws Exception {
+        final Map<String, String> index =
+                createIndex(PackageNamesLoader.getPackageNames(loader));
+        final File directory = temporaryFolder.newFolder();
+        ModuleIndexGenerator.writeIndex(
+                new File(directory, PackageNamesLoader.CHECKSTYLE_MODULES), index);
+
+        final ClassLoader indexLoader =
+                new URLClassLoader(new URL[] {directory.toURI().toURL()}, null);
+        assertEquals(index, PackageNamesLoader.getModuleNames(indexLoader));
+    }
+}
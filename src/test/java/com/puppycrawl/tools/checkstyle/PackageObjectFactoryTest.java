@@ -20,7 +20,11 @@
 package com.puppycrawl.tools.checkstyle;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.Test;
@@ -69,4 +73,29 @@ public class PackageObjectFactoryTest {
                         "puppycrawl.tools.checkstyle.Checker");
         assertNotNull(checker);
     }
+
+    @Test
+    public void testMakeObjectFromModuleNames()
+        throws CheckstyleException {
+        final PackageObjectFactory indexedFactory = new PackageObjectFactory(
+                new HashSet<String>(),
+                Collections.singletonMap("Constant", ConstantNameCheck.class.getName()),
+                Thread.currentThread().getContextClassLoader());
+        final Object first = indexedFactory.createModule("Constant");
+        final Object second = indexedFactory.createModule("Constant");
+        assertTrue(first instanceof ConstantNameCheck);
+        assertTrue(second instanceof ConstantNameCheck);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testAbstractClassIsNotCreated() {
+        try {
+            factory.createModule("com.puppycrawl.tools.checkstyle.api.Check");
+            fail("CheckstyleException is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage().startsWith("Unable to instantiate"));
+        }
+    }
 }
@@ -0,0 +1,64 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+
+public class ProfileLoggerTest {
+    @Test
+    public void testReportListsSlowestModulesAndFiles() {
+        final ProfileEntry parsing = new ProfileEntry("Parsing", 2, 3000000, 2000000, 4096);
+        final Profile profile = new Profile(
+                Arrays.asList(new ProfileEntry("TreeWalker", 2, 5000000, 4000000, 10240),
+                        new ProfileEntry("MemberNameCheck", 40, 1000000, -1, -1)),
+                Collections.singletonList(new ProfileEntry("A.java", 1, 7000000, -1, 2048)),
+                parsing);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ProfileLogger logger = new ProfileLogger(out, true, 1);
+        logger.auditStarted(new AuditEvent(this));
+        logger.fileStarted(new AuditEvent(this, "A.java"));
+        logger.addError(new AuditEvent(this, "A.java"));
+        logger.addException(new AuditEvent(this, "A.java"), new IllegalStateException());
+        logger.fileFinished(new AuditEvent(this, "A.java"));
+        logger.addProfile(new AuditEvent(this), profile);
+        logger.auditFinished(new AuditEvent(this));
+
+        final String expected = String.format(
+                "Parsed 2 files in 3 ms, 2 ms of CPU time, 4 KB allocated.%n"
+                + "Slowest modules:%n"
+                + "   Wall ms     CPU ms   Alloc KB      Calls  Name%n"
+                + "         5          4         10          2  TreeWalker%n"
+                + "Slowest files:%n"
+                + "   Wall ms     CPU ms   Alloc KB     Checks  Name%n"
+                + "         7          -          2          1  A.java%n");
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.puppycrawl.tools.checkstyle.api.Profile;
+import com.puppycrawl.tools.checkstyle.api.ProfileEntry;
+
+public class ProfilerTest {
+    @Test
+    public void testCountersAreAddedByName() {
+        final Profiler profiler = new Profiler();
+        final Profiler.Counter counter = new Profiler.Counter();
+        for (int i = 0; i < 3; i++) {
+            counter.start();
+            counter.stop(2);
+            profiler.addModule("Check", counter);
+        }
+        counter.start();
+        counter.stop(1);
+        profiler.addModule("OtherCheck", counter);
+        counter.start();
+        counter.stop(0);
+        profiler.addFile("File.java", counter);
+        counter.start();
+        counter.stop(1);
+        profiler.addParsing(counter);
+
+        final Profile profile = profiler.collectProfile();
+        assertEquals(2, profile.getModules().size());
+        assertEquals(6, getEntry(profile.getModules(), "Check").getCount());
+        assertEquals(1, getEntry(profile.getModules(), "OtherCheck").getCount());
+        assertEquals(0, getEntry(profile.getFiles(), "File.java").getCount());
+        assertEquals("Parsing", profile.getParsing().getName());
+        assertEquals(1, profile.getParsing().getCount());
+        verifyMeasured(profile.getParsing());
+    }
+
+    @Test
+    public void testCollectProfileStartsNewProfile() {
+        final Profiler profiler = new Profiler();
+        final Profiler.Counter counter = new Profiler.Counter();
+        counter.start();
+        counter.stop(1);
+        profiler.addModule("Check", counter);
+        profiler.addParsing(counter);
+        profiler.collectProfile();
+
+        final Profile profile = profiler.collectProfile();
+        assertTrue(profile.getModules().isEmpty());
+        assertTrue(profile.getFiles().isEmpty());
+        assertEquals(0, profile.getParsing().getCount());
+        assertEquals(0, profile.getParsing().getWallTime());
+    }
+
+    @Test
+    public void testCounterMeasuresWork() {
+        final Profiler profiler = new Profiler();
+        final Profiler.Counter counter = new Profiler.Counter();
+        counter.start();
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i);
+        }
+        counter.stop(1);
+        profiler.addModule(builder.substring(0, 1), counter);
+
+        final ProfileEntry entry = profiler.collectProfile().getModules().get(0);
+        assertEquals("0", entry.getName());
+        assertTrue("Wall time should be measured", entry.getWallTime() > 0);
+        verifyMeasured(entry);
+    }
+
+    /**
+     * Checks that CPU time and allocations are either measured or not supported.
+     * @param entry the entry to check
+     */
+    private static void verifyMeasured(ProfileEntry entry) {
+        assertTrue("Invalid CPU time " + entry.getCpuTime(), entry.getCpuTime() >= -1);
+        assertTrue("Invalid allocated bytes " + entry.getAllocatedBytes(),
+                entry.getAllocatedBytes() >= -1);
+    }
+
+    private static ProfileEntry getEntry(List<ProfileEntry> entries, String name) {
+        for (ProfileEntry entry : entries) {
+            if (entry.getName().equals(name)) {
+                return entry;
+            }
+        }
+        throw new AssertionError("No profile entry " + name);
+    }
+}
@@ -24,6 +24,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -38,6 +39,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
@@ -45,6 +47,7 @@ import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Locale;
+import java.util.SortedSet;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -53,7 +56,10 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.google.common.collect.Sets;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ PropertyCacheFile.class, PropertyCacheFileTest.class })
@@ -105,6 +111,62 @@ public class PropertyCacheFileTest {
         assertFalse(cache.isInCache("myFile1", 1));
     }
 
+    @Test
+    public void testMessagesArePersisted() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final String filePath = temporaryFolder.newFile().getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, filePath);
+        cache.load();
+        final SortedSet<LocalizedMessage> messages = Sets.newTreeSet();
+        messages.add(new LocalizedMessage(1, 2, "bundle", "key", new Object[] {"arg"},
+                SeverityLevel.WARNING, "moduleId", getClass(), null));
+        cache.put("myFile", "1", messages);
+        cache.put("myCleanFile", 1);
+        cache.persist();
+
+        final PropertyCacheFile loadedCache = new PropertyCacheFile(config, filePath);
+        loadedCache.load();
+        assertEquals(messages, loadedCache.getMessages("myFile", "1"));
+        assertTrue(loadedCache.getMessages("myCleanFile", "1").isEmpty());
+        assertNull(loadedCache.getMessages("myFile", "2"));
+
+        loadedCache.put("myFile", 2);
+        assertTrue(loadedCache.getMessages("myFile", "2").isEmpty());
+    }
+
+    @Test
+    public void testCacheIsInvalidatedWhenReferencedFileChanges() throws IOException {
+        final File suppressions = temporaryFolder.newFile("suppressions.xml");
+        Files.write(suppressions.toPath(), "<suppressions/>".getBytes(StandardCharsets.UTF_8));
+        final DefaultConfiguration config = new DefaultConfiguration("myName");
+        final DefaultConfiguration filterConfig = new DefaultConfiguration("SuppressionFilter");
+        filterConfig.addAttribute("file", suppressions.getPath());
+        config.addChild(filterConfig);
+        final String filePath = temporaryFolder.newFile().getPath();
+        final PropertyCacheFile cache = new PropertyCacheFile(config, filePath);
+        cache.load();
+        cache.put("myFile", 1);
+        cache.persist();
+
+        final PropertyCacheFile sameCache = new PropertyCacheFile(config, filePath);
+        sameCache.load();
+        assertTrue(sameCache.isInCache("myFile", 1));
+
+        Files.write(suppressions.toPath(), "<suppressions></suppressions>"
+                .getBytes(StandardCharsets.UTF_8));
+        final PropertyCacheFile changedCache = new PropertyCacheFile(config, filePath);
+        changedCache.load();
+        assertFalse(changedCache.isInCache("myFile", 1));
+    }
+
+    @Test
+    public void testHashCodeOfConfigurationWithoutLocalFiles() {
+        final DefaultConfiguration config = new DefaultConfiguration("myName");
+        config.addAttribute("fileExtensions", "java");
+        assertEquals(PropertyCacheFile.getConfigHashCode(config),
+                PropertyCacheFile.getConfigAndResourcesHashCode(config));
+    }
+
     @Test
     public void testCacheDirectoryDoesNotExistAndShouldBeCreated() throws IOException {
         final Configuration config = new DefaultConfiguration("myName");
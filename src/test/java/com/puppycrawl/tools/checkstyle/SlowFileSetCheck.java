@@ -0,0 +1,80 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.FileIndependent;
+
+/**
+ * Takes a while to process files, and fails on files whose name starts with
+ * {@code Fail} once another file is being processed.
+ */
+@FileIndependent
+public class SlowFileSetCheck extends AbstractFileSetCheck {
+    private static final long PROCESSING_MILLIS = 300;
+
+    private static final AtomicInteger PROCESSING = new AtomicInteger();
+
+    private static final AtomicBoolean DESTROYED_WHILE_PROCESSING = new AtomicBoolean();
+
+    public static boolean isDestroyedWhileProcessing() {
+        return DESTROYED_WHILE_PROCESSING.get();
+    }
+
+    @Override
+    protected void processFiltered(File file, List<String> lines) {
+        if (file.getName().startsWith("Fail")) {
+            while (PROCESSING.get() == 0) {
+                Thread.yield();
+            }
+            throw new IllegalStateException("Unexpected failure");
+        }
+        PROCESSING.incrementAndGet();
+        try {
+            Uninterruptibles.sleepUninterruptibly(PROCESSING_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        finally {
+            PROCESSING.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void finishProcessing() {
+        checkProcessing();
+    }
+
+    @Override
+    public void destroy() {
+        checkProcessing();
+    }
+
+    private static void checkProcessing() {
+        if (PROCESSING.get() > 0) {
+            DESTROYED_WHILE_PROCESSING.set(true);
+        }
+    }
+}
@@ -21,6 +21,9 @@ package com.puppycrawl.tools.checkstyle;
 
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -33,10 +36,14 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.InvalidPathException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.Assume;
@@ -44,13 +51,21 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import antlr.TokenStreamRecognitionException;
+
+import com.google.common.collect.Maps;
 import com.puppycrawl.tools.checkstyle.api.Check;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
 import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
 import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.ConstantNameCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
 public class TreeWalkerTest extends BaseCheckTestSupport {
     @Rule
@@ -184,6 +199,41 @@ public class TreeWalkerTest extends BaseCheckTestSupport {
         }
     }
 
+    @Test
+    public void testSharedCacheIsPersistedByItsOwnerOnly() throws Exception {
+        final File cacheFile = temporaryFolder.newFile();
+        final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
+        treeWalkerConfig.addAttribute("cacheFile", cacheFile.getPath());
+
+        final TreeWalker owner = new TreeWalker();
+        owner.configure(treeWalkerConfig);
+        final TreeWalker worker = new TreeWalker();
+        worker.shareCache(owner);
+        worker.configure(treeWalkerConfig);
+        assertTrue(cacheFile.delete());
+
+        worker.destroy();
+        assertFalse("the worker does not persist the cache", cacheFile.exists());
+        owner.destroy();
+        assertTrue("the owner persists the cache", cacheFile.exists());
+    }
+
+    @Test
+    public void testHasFileIndependentChecks() throws Exception {
+        final TreeWalker treeWalker = new TreeWalker();
+        treeWalker.configure(new DefaultConfiguration("default config"));
+        final PackageObjectFactory factory = new PackageObjectFactory(
+                new HashSet<String>(), Thread.currentThread().getContextClassLoader());
+        treeWalker.setModuleFactory(factory);
+        treeWalker.setupChild(createCheckConfig(TypeNameCheck.class));
+        treeWalker.setupChild(createCheckConfig(FileContentsHolder.class));
+        assertTrue(treeWalker.hasFileIndependentChecks());
+
+        // the field of the check may keep state across files
+        treeWalker.setupChild(createCheckConfig(VisitCountingCheck.class));
+        assertFalse(treeWalker.hasFileIndependentChecks());
+    }
+
     @Test
     public void testCacheFile() throws Exception {
         final DefaultConfiguration checkConfig = createCheckConfig(HiddenFieldCheck.class);
@@ -254,6 +304,91 @@ public class TreeWalkerTest extends BaseCheckTestSupport {
         verify(otherChecker, pathToEmptyFile, pathToEmptyFile, expected);
     }
 
+    @Test
+    public void testCacheFileWithContentMode() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(HiddenFieldCheck.class);
+
+        final String cacheFile = temporaryFolder.newFile().getPath();
+        final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
+        treeWalkerConfig.addAttribute("cacheFile", cacheFile);
+        treeWalkerConfig.addAttribute("cacheMode", "content");
+        treeWalkerConfig.addChild(checkConfig);
+
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("charset", "UTF-8");
+        checkerConfig.addChild(treeWalkerConfig);
+
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.addListener(new BriefUtLogger(stream));
+
+        final File file = temporaryFolder.newFile("file.java");
+        final String[] expected = ArrayUtils.EMPTY_STRING_ARRAY;
+
+        verify(checker, file.getPath(), file.getPath(), expected);
+
+        final ContentHashCacheFile cache = new ContentHashCacheFile(treeWalkerConfig, cacheFile);
+        cache.load();
+        assertTrue(file.setLastModified(file.lastModified() + 10_000));
+        assertTrue(cache.isInCache(file.getPath(), cache.getFileKey(file)));
+    }
+
+    @Test
+    public void testCacheFileReplaysMessages() throws Exception {
+        final File file = temporaryFolder.newFile("file.java");
+        writeFile(file, "public class Main { public static final int k = 5 + 4; }");
+        final long timestamp = file.lastModified();
+        final String[] expected = {
+            "1:45: Name 'k' must match pattern '^[A-Z][A-Z0-9]*(_[A-Z0-9]+)*$'.",
+        };
+        final String cacheFile = temporaryFolder.newFile().getPath();
+
+        verify(createCheckerWithCache(cacheFile), file.getPath(), file.getPath(), expected);
+
+        // the file is not parsed again while its timestamp does not change
+        writeFile(file, "public class Main { public static final int K = 5 + 4; }");
+        assertTrue(file.setLastModified(timestamp));
+        verify(createCheckerWithCache(cacheFile), file.getPath(), file.getPath(), expected);
+
+        assertTrue(file.setLastModified(timestamp + 10_000));
+        verify(createCheckerWithCache(cacheFile), file.getPath(), file.getPath(),
+                ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
+    @Test
+    public void testCacheFileDoesNotReplayMessagesWithFileContentsHolder() throws Exception {
+        final File file = temporaryFolder.newFile("file.java");
+        writeFile(file, "public class Main { public static final int k = 5 + 4; }");
+        final long timestamp = file.lastModified();
+        final String cacheFile = temporaryFolder.newFile().getPath();
+        final DefaultConfiguration holderConfig = createCheckConfig(FileContentsHolder.class);
+
+        final String[] expected = {
+            "1:45: Name 'k' must match pattern '^[A-Z][A-Z0-9]*(_[A-Z0-9]+)*$'.",
+        };
+        verify(createCheckerWithCache(cacheFile, holderConfig), file.getPath(), file.getPath(),
+                expected);
+
+        writeFile(file, "public class Main { public static final int K = 5 + 4; }");
+        assertTrue(file.setLastModified(timestamp));
+        verify(createCheckerWithCache(cacheFile, holderConfig), file.getPath(), file.getPath(),
+                ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
+    @Test
+    public void testInvalidCacheMode() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
+        treeWalkerConfig.addAttribute("cacheMode", "size");
+        try {
+            new TreeWalker().configure(treeWalkerConfig);
+            fail("CheckstyleException is expected");
+        }
+        catch (CheckstyleException ex) {
+            assertTrue(ex.getMessage().contains("Cannot set property 'cacheMode' to 'size'"));
+        }
+    }
+
     @Test
     public void testForInvalidCheckImplementation() throws Exception {
         final DefaultConfiguration checkConfig = createCheckConfig(BadJavaDocCheck.class);
@@ -337,6 +472,92 @@ public class TreeWalkerTest extends BaseCheckTestSupport {
         }
     }
 
+    @Test
+    public void testParseAfterFailedParse() throws Exception {
+        final File file = new File(getPath("InputTreeWalkerComments.java"));
+        final FileContents contents =
+            new FileContents(new FileText(file, StandardCharsets.UTF_8.name()));
+        final String expected = TreeWalker.parse(contents).toStringTree();
+
+        final List<String> lines = Arrays.asList("class a {", " int a%$# ", "}");
+        try {
+            TreeWalker.parse(new FileContents(FileText.fromLines(file, lines)));
+            fail("exception expected");
+        }
+        catch (TokenStreamRecognitionException ex) {
+            assertEquals(2, ex.recog.getLine());
+        }
+
+        final FileContents reparsed =
+            new FileContents(new FileText(file, StandardCharsets.UTF_8.name()));
+        assertEquals(expected, TreeWalker.parse(reparsed).toStringTree());
+        assertEquals(contents.getCComments().keySet(), reparsed.getCComments().keySet());
+        assertEquals(contents.getCppComments().keySet(), reparsed.getCppComments().keySet());
+    }
+
+    @Test
+    public void testNodesWithEqualTextShareText() throws Exception {
+        final File file = new File(getPath("InputTreeWalkerComments.java"));
+        final DetailAST root = TreeWalker.parse(
+            new FileContents(new FileText(file, StandardCharsets.UTF_8.name())));
+        final Map<String, String> texts = Maps.newHashMap();
+        final Deque<DetailAST> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            final DetailAST node = nodes.pop();
+            if (texts.containsKey(node.getText())) {
+                assertSame(texts.get(node.getText()), node.getText());
+            }
+            else {
+                texts.put(node.getText(), node.getText());
+            }
+            if (node.getFirstChild() != null) {
+                nodes.push(node.getFirstChild());
+            }
+            if (node.getNextSibling() != null) {
+                nodes.push(node.getNextSibling());
+            }
+        }
+    }
+
+    @Test
+    public void testParseWithComments() throws Exception {
+        final FileContents contents = new FileContents(new FileText(
+            new File(getPath("InputTreeWalkerComments.java")), StandardCharsets.UTF_8.name()));
+        assertEquals(0, countCommentNodes(TreeWalker.parse(contents)));
+
+        final DetailAST root = TreeWalker.parseWithComments(contents);
+        assertEquals(TokenTypes.SINGLE_LINE_COMMENT, root.getType());
+        // the comment of a declaration with several variables is appended to each of them
+        assertEquals(7, countCommentNodes(root));
+    }
+
+    /**
+     * Counts the single line comments and the beginnings of block comments
+     * in a tree.
+     * @param root the root of the tree
+     * @return the number of comments
+     */
+    private static int countCommentNodes(DetailAST root) {
+        int count = 0;
+        final Deque<DetailAST> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            final DetailAST node = nodes.pop();
+            if (node.getType() == TokenTypes.SINGLE_LINE_COMMENT
+                    || node.getType() == TokenTypes.BLOCK_COMMENT_BEGIN) {
+                count++;
+            }
+            if (node.getFirstChild() != null) {
+                nodes.push(node.getFirstChild());
+            }
+            if (node.getNextSibling() != null) {
+                nodes.push(node.getNextSibling());
+            }
+        }
+        return count;
+    }
+
     @Test
     public void testRequiredTokenIsNotInDefaultTokens() throws Exception {
         final DefaultConfiguration checkConfig =
@@ -372,6 +593,83 @@ public class TreeWalkerTest extends BaseCheckTestSupport {
         }
     }
 
+    @Test
+    public void testCheckIsVisitedOnceForTokenRegisteredTwice() throws Exception {
+        final DefaultConfiguration checkConfig =
+            createCheckConfig(VisitCountingCheck.class);
+        checkConfig.addAttribute("tokens", "CLASS_DEF, METHOD_DEF");
+        final String[] expected = {
+            "1: visits: 2, leaves: 2",
+        };
+
+        verify(checkConfig, getPath("InputMain.java"), expected);
+    }
+
+    @Test
+    public void testCommentNodesAreAppendedToTree() throws Exception {
+        final DefaultConfiguration checkConfig =
+            createCheckConfig(CommentParentCheck.class);
+        final String[] expected = {
+            "1:1: Comment under root.",
+            "4:1: Comment under CLASS_DEF.",
+            "6:5: Comment under MODIFIERS.",
+            "10:9: Comment under TYPE.",
+            "11:21: Comment under EXPR.",
+            "14:1: Comment under OBJBLOCK.",
+        };
+
+        verify(checkConfig, getPath("InputTreeWalkerComments.java"), expected);
+    }
+
+    @Test
+    public void testPrecomputedBranchTokenTypesContainComments() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
+        treeWalkerConfig.addAttribute("precomputeBranchTokenTypes", "true");
+        treeWalkerConfig.addChild(createCheckConfig(BranchCommentCheck.class));
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("charset", "UTF-8");
+        checkerConfig.addChild(treeWalkerConfig);
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.addListener(new BriefUtLogger(stream));
+        final String[] expected = {
+            "9:5: Branch contains comments.",
+        };
+
+        final String path = getPath("InputTreeWalkerComments.java");
+        verify(checker, path, path, expected);
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        try (final Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            writer.write(content);
+        }
+    }
+
+    private Checker createCheckerWithCache(String cacheFile,
+            DefaultConfiguration... otherChecks) throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
+        treeWalkerConfig.addAttribute("cacheFile", cacheFile);
+        treeWalkerConfig.addChild(createCheckConfig(ConstantNameCheck.class));
+        for (DefaultConfiguration checkConfig : otherChecks) {
+            treeWalkerConfig.addChild(checkConfig);
+        }
+
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addAttribute("charset", "UTF-8");
+        checkerConfig.addChild(treeWalkerConfig);
+
+        final Checker checker = new Checker();
+        checker.setLocaleCountry(Locale.ROOT.getCountry());
+        checker.setLocaleLanguage(Locale.ROOT.getLanguage());
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.addListener(new BriefUtLogger(stream));
+        return checker;
+    }
+
     private static class BadJavaDocCheck extends Check {
         @Override
         public int[] getDefaultTokens() {
@@ -423,4 +721,108 @@ public class TreeWalkerTest extends BaseCheckTestSupport {
         }
     }
 
+    private static class CommentParentCheck extends Check {
+        @Override
+        public boolean isCommentNodesRequired() {
+            return true;
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getDefaultTokens() {
+            return getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return new int[] {TokenTypes.SINGLE_LINE_COMMENT, TokenTypes.BLOCK_COMMENT_BEGIN};
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            final DetailAST parent = ast.getParent();
+            final String parentName;
+            if (parent == null) {
+                parentName = "root";
+            }
+            else {
+                parentName = TokenUtils.getTokenName(parent.getType());
+            }
+            log(ast, "Comment under {0}.", parentName);
+        }
+    }
+
+    private static class BranchCommentCheck extends Check {
+        @Override
+        public boolean isCommentNodesRequired() {
+            return true;
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getDefaultTokens() {
+            return getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return new int[] {TokenTypes.METHOD_DEF};
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            if (ast.branchContains(TokenTypes.SINGLE_LINE_COMMENT)) {
+                log(ast, "Branch contains comments.");
+            }
+        }
+    }
+
+    private static class VisitCountingCheck extends Check {
+        private int visits;
+        private int leaves;
+
+        @Override
+        public int[] getRequiredTokens() {
+            return new int[] {TokenTypes.CLASS_DEF};
+        }
+
+        @Override
+        public int[] getDefaultTokens() {
+            return getAcceptableTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return new int[] {TokenTypes.CLASS_DEF, TokenTypes.METHOD_DEF};
+        }
+
+        @Override
+        public void beginTree(DetailAST rootAST) {
+            visits = 0;
+            leaves = 0;
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            visits++;
+        }
+
+        @Override
+        public void leaveToken(DetailAST ast) {
+            leaves++;
+        }
+
+        @Override
+        public void finishTree(DetailAST rootAST) {
+            log(1, "visits: {0}, leaves: {1}", visits, leaves);
+        }
+    }
 }
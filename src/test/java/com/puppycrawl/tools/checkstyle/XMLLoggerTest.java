@@ -21,6 +21,7 @@ package com.puppycrawl.tools.checkstyle;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.BufferedReader;
@@ -71,6 +72,14 @@ public class XMLLoggerTest {
         outStream.close();
     }
 
+    @Test
+    public void testEncodeWithoutEscapes() {
+        final String value = "Line is longer than 100 characters (found 120).";
+        assertSame(value, XMLLogger.encode(value));
+        assertEquals("", XMLLogger.encode(""));
+        assertEquals("a&lt;b&gt;c &amp;d &lt; e", XMLLogger.encode("a<b>c &d < e"));
+    }
+
     @Test
     public void testIsReference()
         throws IOException {
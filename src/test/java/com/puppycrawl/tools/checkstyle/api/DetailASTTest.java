@@ -20,7 +20,9 @@
 package com.puppycrawl.tools.checkstyle.api;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileFilter;
@@ -29,7 +31,9 @@ import java.util.Locale;
 
 import org.junit.Test;
 
+import com.google.common.primitives.Ints;
 import com.puppycrawl.tools.checkstyle.TreeWalker;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtils;
 
 /**
  * TestCase to check DetailAST.
@@ -106,6 +110,50 @@ public class DetailASTTest {
         assertEquals(firstLevelC, firstLevelA.getNextSibling());
     }
 
+    @Test
+    public void testComputeBranchTokenTypes() throws Exception {
+        final String filename = "src/test/resources/com/puppycrawl/tools/checkstyle/"
+                + "checks/coding/InputHiddenField.java";
+        final FileContents contents =
+                new FileContents(new FileText(new File(filename), "UTF-8"));
+        final DetailAST lazyRoot = TreeWalker.parse(contents);
+        final DetailAST precomputedRoot = TreeWalker.parse(contents);
+        DetailAST.computeBranchTokenTypes(precomputedRoot);
+
+        checkBranchTokenTypes(lazyRoot, precomputedRoot);
+    }
+
+    @Test
+    public void testComputeBranchTokenTypesOfUnknownType() {
+        final DetailAST root = new DetailAST();
+        root.setType(TokenTypes.CLASS_DEF);
+        final DetailAST child = new DetailAST();
+        // beyond the precomputed masks, which have a word more than needed at most
+        final int unknownType = Ints.max(TokenUtils.getAllTokenIds()) + Long.SIZE;
+        child.setType(unknownType);
+        root.setFirstChild(child);
+        DetailAST.computeBranchTokenTypes(root);
+
+        assertTrue(root.branchContains(TokenTypes.CLASS_DEF));
+        assertTrue(root.branchContains(unknownType));
+        assertFalse(child.branchContains(TokenTypes.CLASS_DEF));
+    }
+
+    private static void checkBranchTokenTypes(DetailAST lazyNode, DetailAST precomputedNode) {
+        final int[] tokenIds = TokenUtils.getAllTokenIds();
+        DetailAST lazy = lazyNode;
+        DetailAST precomputed = precomputedNode;
+        while (lazy != null) {
+            for (int tokenId : tokenIds) {
+                assertEquals("Bad branch token types of " + lazy,
+                        lazy.branchContains(tokenId), precomputed.branchContains(tokenId));
+            }
+            checkBranchTokenTypes(lazy.getFirstChild(), precomputed.getFirstChild());
+            lazy = lazy.getNextSibling();
+            precomputed = precomputed.getNextSibling();
+        }
+    }
+
     @Test
     public void testTreeStructure() throws Exception {
         checkDir(new File("src/test/resources/com/puppycrawl/tools/checkstyle"));
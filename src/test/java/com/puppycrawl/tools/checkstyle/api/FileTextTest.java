@@ -19,15 +19,30 @@
 
 package com.puppycrawl.tools.checkstyle.api;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
 
 public class FileTextTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testUnsupportedCharset() throws IOException {
         // just to make UT coverage 100%
@@ -49,4 +64,70 @@ public class FileTextTest {
                  + "checkstyle/api/import-control_complete.xml"), charsetName);
         assertEquals(charsetName, o.getCharset().name());
     }
+
+    @Test
+    public void testLineTerminators() throws IOException {
+        final File file = temporaryFolder.newFile();
+        Files.write(file.toPath(),
+                "first\nsecond\r\nthird\r\rfifth".getBytes(StandardCharsets.UTF_8));
+        final FileText text = new FileText(file, "UTF-8");
+
+        assertEquals(5, text.size());
+        assertEquals("fifth", text.get(4));
+        assertEquals("third", text.get(2));
+        assertEquals("", text.get(3));
+        assertArrayEquals(new String[] {"first", "second", "third", "", "fifth"},
+                text.toLinesArray());
+        assertEquals("first\nsecond\r\nthird\r\rfifth", text.getFullText().toString());
+    }
+
+    @Test
+    public void testLinesAreSameAsReadByBufferedReader() throws IOException {
+        final String[] contents = {"", "\n", "a", "a\n", "a\r", "\r\n\r\n", "a\n\nb\r\n"};
+        for (String content : contents) {
+            final File file = temporaryFolder.newFile();
+            Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+            final List<String> expected = Lists.newArrayList();
+            try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    expected.add(line);
+                }
+            }
+            assertEquals(expected, new FileText(file, "UTF-8"));
+        }
+    }
+
+    @Test
+    public void testLineColumn() throws IOException {
+        final File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "ab\r\ncd\ne".getBytes(StandardCharsets.UTF_8));
+        final FileText text = new FileText(file, "UTF-8");
+
+        assertLineColumn(1, 0, text.lineColumn(0));
+        assertLineColumn(1, 2, text.lineColumn(2));
+        assertLineColumn(2, 0, text.lineColumn(4));
+        assertLineColumn(2, 1, text.lineColumn(5));
+        assertLineColumn(3, 0, text.lineColumn(7));
+    }
+
+    @Test
+    public void testCopyAndFromLines() throws IOException {
+        final File file = temporaryFolder.newFile();
+        Files.write(file.toPath(), "ab\r\ncd".getBytes(StandardCharsets.UTF_8));
+        final FileText text = new FileText(file, "UTF-8");
+        final FileText copy = new FileText(text);
+        assertEquals(text, copy);
+        assertEquals("cd", copy.get(1));
+
+        final FileText fromLines = FileText.fromLines(file, Arrays.asList("ab", "cd"));
+        assertEquals(text, fromLines);
+        assertEquals("ab\ncd\n", fromLines.getFullText().toString());
+        assertLineColumn(2, 1, fromLines.lineColumn(4));
+        assertSame(text, FileText.fromLines(file, text));
+    }
+
+    private static void assertLineColumn(int line, int column, LineColumn lineColumn) {
+        assertEquals(line, lineColumn.getLine());
+        assertEquals(column, lineColumn.getColumn());
+    }
 }
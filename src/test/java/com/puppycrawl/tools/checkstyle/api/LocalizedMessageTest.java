@@ -21,7 +21,10 @@ package com.puppycrawl.tools.checkstyle.api;
 
 import static org.apache.commons.lang3.ArrayUtils.EMPTY_BYTE_ARRAY;
 import static org.apache.commons.lang3.ArrayUtils.EMPTY_OBJECT_ARRAY;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -54,6 +57,20 @@ public class LocalizedMessageTest {
         assertEquals("module", localizedMessage.getModuleId());
     }
 
+    @Test
+    public void testGetBundleNameArgsAndCustomMessage() {
+        final Object[] args = {"arg"};
+        final LocalizedMessage localizedMessage = new LocalizedMessage(0, "bundle", "key",
+                args, "module", LocalizedMessage.class, "custom");
+        args[0] = "changed";
+
+        assertEquals("bundle", localizedMessage.getBundleName());
+        assertArrayEquals(new Object[] {"arg"}, localizedMessage.getArgs());
+        assertEquals("custom", localizedMessage.getCustomMessage());
+        assertNull(new LocalizedMessage(0, "bundle", "key", null, "module",
+                LocalizedMessage.class, null).getArgs());
+    }
+
     @Test
     public void testMessageInEnglish() {
         final LocalizedMessage localizedMessage = createSampleLocalizedMessage();
@@ -141,6 +158,42 @@ public class LocalizedMessageTest {
         assertEquals("Empty statement.", localizedMessage.getMessage());
     }
 
+    @Test
+    public void testMessageIsFormattedOnce() {
+        LocalizedMessage.setLocale(Locale.ENGLISH);
+        final LocalizedMessage localizedMessage = createSampleLocalizedMessage();
+
+        assertSame(localizedMessage.getMessage(), localizedMessage.getMessage());
+    }
+
+    @Test
+    public void testMessageIsTranslatedAgainForOtherLocale() {
+        final LocalizedMessage localizedMessage = createSampleLocalizedMessage();
+        LocalizedMessage.setLocale(Locale.ENGLISH);
+        assertEquals("Empty statement.", localizedMessage.getMessage());
+
+        LocalizedMessage.setLocale(Locale.FRENCH);
+        assertEquals("Instruction vide.", localizedMessage.getMessage());
+        assertEquals("Instruction vide.", createSampleLocalizedMessage().getMessage());
+    }
+
+    @Test
+    public void testMessagesWithArguments() {
+        final String bundle = "com.puppycrawl.tools.checkstyle.checks.coding.messages";
+        final LocalizedMessage missingKey = new LocalizedMessage(0, bundle,
+                "Missing key {0}.", new Object[] {"a"}, "module", LocalizedMessage.class, null);
+        final LocalizedMessage customMessage = new LocalizedMessage(0, bundle,
+                "empty.statement", new Object[] {"b"}, "module", LocalizedMessage.class,
+                "Custom message {0}.");
+        final LocalizedMessage otherCustomMessage = new LocalizedMessage(0, bundle,
+                "empty.statement", new Object[] {"c"}, "module", LocalizedMessage.class,
+                "Custom message {0}.");
+
+        assertEquals("Missing key a.", missingKey.getMessage());
+        assertEquals("Custom message b.", customMessage.getMessage());
+        assertEquals("Custom message c.", otherCustomMessage.getMessage());
+    }
+
     private static LocalizedMessage createSampleLocalizedMessage() {
         return new LocalizedMessage(0, "com.puppycrawl.tools.checkstyle.checks.coding.messages",
                 "empty.statement", EMPTY_OBJECT_ARRAY, "module", LocalizedMessage.class, null);
@@ -0,0 +1,54 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.api;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ProfileTest {
+    @Test
+    public void testEntriesAreSortedByDecreasingWallTime() {
+        final ProfileEntry parsing = new ProfileEntry("Parsing", 0, 0, 0, 0);
+        final Profile profile = new Profile(
+                Arrays.asList(new ProfileEntry("b", 1, 1, 1, 1),
+                        new ProfileEntry("c", 1, 5, 1, 1),
+                        new ProfileEntry("a", 1, 1, 1, 1)),
+                Collections.<ProfileEntry>emptyList(), parsing);
+
+        final List<ProfileEntry> modules = profile.getModules();
+        assertEquals("c", modules.get(0).getName());
+        assertEquals("a", modules.get(1).getName());
+        assertEquals("b", modules.get(2).getName());
+        assertEquals(0, profile.getFiles().size());
+        assertEquals(parsing, profile.getParsing());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEntriesAreUnmodifiable() {
+        final Profile profile = new Profile(Collections.<ProfileEntry>emptyList(),
+                Collections.<ProfileEntry>emptyList(), new ProfileEntry("Parsing", 0, 0, 0, 0));
+        profile.getModules().clear();
+    }
+}
@@ -20,11 +20,14 @@
 package com.puppycrawl.tools.checkstyle.checks;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.anyObject;
 
+import java.net.URL;
 import java.util.Set;
 
 import org.junit.Test;
@@ -128,6 +131,70 @@ public class ClassResolverTest {
         }
     }
 
+    @Test
+    public void testLoadedClassesAreSharedByClassLoader() throws Exception {
+        final CountingClassLoader loader = new CountingClassLoader();
+        final Set<String> imports = Sets.newHashSet();
+        imports.add("java.util.*");
+        final ClassResolver firstResolver = new ClassResolver(loader, "", imports);
+
+        assertEquals("java.util.List", firstResolver.resolve("List", "").getName());
+        assertFalse(firstResolver.isLoadable("unknown.Missing"));
+        final int loads = loader.loads;
+
+        final ClassResolver secondResolver = new ClassResolver(loader, "", imports);
+        assertEquals("java.util.List", secondResolver.resolve("List", "").getName());
+        assertFalse(secondResolver.isLoadable("unknown.Missing"));
+        assertEquals(loads, loader.loads);
+
+        final ClassResolver otherLoaderResolver = new ClassResolver(
+                new CountingClassLoader(), "", imports);
+        assertTrue(otherLoaderResolver.isLoadable("java.util.List"));
+    }
+
+    @Test
+    public void testSafeLoadMissingClass() throws Exception {
+        final ClassResolver classResolver = new ClassResolver(
+                Thread.currentThread().getContextClassLoader(),
+                "", Sets.<String>newHashSet());
+        for (int i = 0; i < 2; i++) {
+            try {
+                classResolver.safeLoad("unknown.Missing");
+                fail("ClassNotFoundException is expected");
+            }
+            catch (ClassNotFoundException ex) {
+                assertEquals("unknown.Missing", ex.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testTryResolveMissingClass() {
+        final CountingClassLoader loader = new CountingClassLoader();
+        final Set<String> imports = Sets.newHashSet();
+        imports.add("java.util.*");
+        final ClassResolver classResolver = new ClassResolver(loader, "java.io", imports);
+
+        assertEquals("java.util.List", classResolver.tryResolve("List", "").getName());
+        final int loads = loader.loads;
+        assertNull(classResolver.tryResolve("Missing", "Outer"));
+        assertEquals("a class without class file is not loaded", loads, loader.loads);
+    }
+
+    @Test
+    public void testClearCache() {
+        final CountingClassLoader loader = new CountingClassLoader();
+        final ClassResolver classResolver = new ClassResolver(loader, "",
+                Sets.<String>newHashSet());
+        assertFalse(classResolver.isLoadable("unknown.Missing"));
+        assertFalse(classResolver.isLoadable("unknown.Missing"));
+        assertEquals(1, loader.resourceLookups);
+
+        ClassResolver.clearCache();
+        assertFalse(classResolver.isLoadable("unknown.Missing"));
+        assertEquals("missing classes are looked up again", 2, loader.resourceLookups);
+    }
+
     @Test
     public void testResolveQualifiedNameFails() throws Exception {
         final Set<String> imports = Sets.newHashSet();
@@ -150,4 +217,26 @@ public class ClassResolverTest {
             assertTrue(ex.getMessage().endsWith("expected exception"));
         }
     }
+
+    private static class CountingClassLoader extends ClassLoader {
+        private int loads;
+        private int resourceLookups;
+
+        CountingClassLoader() {
+            super(Thread.currentThread().getContextClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve)
+                throws ClassNotFoundException {
+            loads++;
+            return super.loadClass(name, resolve);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            resourceLookups++;
+            return super.getResource(name);
+        }
+    }
 }
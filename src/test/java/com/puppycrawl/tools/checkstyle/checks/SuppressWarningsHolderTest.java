@@ -22,6 +22,8 @@ package com.puppycrawl.tools.checkstyle.checks;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.powermock.api.mockito.PowerMockito.mock;
@@ -34,6 +36,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.lang3.ArrayUtils;
@@ -152,6 +157,37 @@ public class SuppressWarningsHolderTest extends BaseCheckTestSupport {
         assertFalse(SuppressWarningsHolder.isSuppressed(event));
     }
 
+    @Test
+    public void testSuppressionsOfAnotherThread() throws Exception {
+        final AuditEvent event = new AuditEvent(new Checker(), "fileName",
+            new LocalizedMessage(100, 10, null, null, null, "id", MemberNameCheck.class, "msg"));
+        final SuppressWarningsHolder holder = new SuppressWarningsHolder();
+        holder.beginTree(null);
+        final SuppressWarningsHolder.Suppressions suppressions =
+            SuppressWarningsHolder.getSuppressions();
+        assertNotNull(suppressions);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    assertNull(SuppressWarningsHolder.getSuppressions());
+                    assertFalse("nothing is suppressed without suppressions",
+                        SuppressWarningsHolder.isSuppressed(event));
+                    SuppressWarningsHolder.setSuppressions(suppressions);
+                    assertNotNull(SuppressWarningsHolder.getSuppressions());
+                    SuppressWarningsHolder.setSuppressions(null);
+                    assertNull(SuppressWarningsHolder.getSuppressions());
+                    return null;
+                }
+            }).get();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testIsSuppressedWithAllArgument() throws Exception {
         final Class<?> entry = Class
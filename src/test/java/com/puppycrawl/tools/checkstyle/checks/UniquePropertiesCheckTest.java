@@ -19,30 +19,17 @@
 
 package com.puppycrawl.tools.checkstyle.checks;
 
-import static com.puppycrawl.tools.checkstyle.checks.UniquePropertiesCheck.MSG_IO_EXCEPTION_KEY;
 import static com.puppycrawl.tools.checkstyle.checks.UniquePropertiesCheck.MSG_KEY;
 import static org.junit.Assert.assertEquals;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.SortedSet;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.puppycrawl.tools.checkstyle.BaseFileSetCheckTestSupport;
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
-import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 
 /**
  * JUnit tests for Unique Properties check.
@@ -88,80 +75,21 @@ public class UniquePropertiesCheckTest extends BaseFileSetCheckTestSupport {
     }
 
     /**
-     * Tests the {@link UniquePropertiesCheck#getLineNumber(List, String)}
-     * method return value.
+     * Tests keys on continued lines, with escapes and after comments.
      */
     @Test
-    public void testNotFoundKey() throws Exception {
-        final List<String> testStrings = new ArrayList<>(3);
-        testStrings.add("");
-        testStrings.add("0 = 0");
-        testStrings.add("445");
-        final int stringNumber =
-                UniquePropertiesCheck.getLineNumber(testStrings,
-                        "some key");
-        assertEquals(0, stringNumber);
-    }
-
-    /**
-     * Tests IO exception, that can occur during reading of properties file.
-     */
-    @Test
-    public void testIoException() throws Exception {
-        final UniquePropertiesCheck check = new UniquePropertiesCheck();
-        check.configure(checkConfig);
-        final String fileName =
-                getPath("InputUniquePropertiesCheckNotExisting.properties");
-        final File file = new File(fileName);
-        final SortedSet<LocalizedMessage> messages =
-                check.process(file, Collections.<String>emptyList());
-        assertEquals("Wrong messages count: " + messages.size(),
-                1, messages.size());
-        final LocalizedMessage message = messages.iterator().next();
-        final String retrievedMessage = messages.iterator().next().getKey();
-        assertEquals("Message key '" + retrievedMessage
-                        + "' is not valid", "unable.open.cause",
-                retrievedMessage);
-        assertEquals("Message '" + message.getMessage()
-                        + "' is not valid", message.getMessage(),
-                getCheckMessage(MSG_IO_EXCEPTION_KEY, fileName, getFileNotFoundDetail(file)));
-    }
-
-    @Test
-    public void testWrongKeyTypeInProperties() throws Exception {
-        final Class<?> uniquePropertiesClass = Class
-                .forName("com.puppycrawl.tools.checkstyle.checks."
-                    + "UniquePropertiesCheck$UniqueProperties");
-        final Constructor<?> constructor = uniquePropertiesClass.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        final Object uniqueProperties = constructor.newInstance();
-        final Method method = uniqueProperties.getClass().getDeclaredMethod("put", Object.class,
-                Object.class);
-        final Object result = method.invoke(uniqueProperties, 1, "value");
-        final Map<Object, Object> table = new HashMap<>();
-        final Object expected = table.put(1, "value");
-        assertEquals(expected, result);
-        final Object result2 = method.invoke(uniqueProperties, 1, "value");
-        final Object expected2 = table.put(1, "value");
-        assertEquals(expected2, result2);
-    }
-
-    /**
-     * Method generates FileNotFound exception details. It tries to open file,
-     * that does not exist.
-     * @param file to be opened
-     * @return detail message of {@link FileNotFoundException}
-     */
-    private static String getFileNotFoundDetail(File file) throws Exception {
-        // Create exception to know detail message we should wait in
-        // LocalisedMessage
-        try {
-            final InputStream stream = new FileInputStream(file);
-            stream.close();
-            throw new IllegalStateException("File " + file.getPath() + " should not exist");
-        }
-        catch (FileNotFoundException ex) {
-            return ex.getLocalizedMessage();
-        }
+    public void testSyntax() throws Exception {
+        final String[] expected = {
+            "2: " + getCheckMessage(MSG_KEY, "first.key", 2),
+            "5: " + getCheckMessage(MSG_KEY, "indented.key", 2),
+            "8: " + getCheckMessage(MSG_KEY, "comment.key", 2),
+            "10: " + getCheckMessage(MSG_KEY, "unicode.key", 2),
+            "12: " + getCheckMessage(MSG_KEY, "escaped=key", 2),
+            "14: " + getCheckMessage(MSG_KEY, "escaped\\", 2),
+            "16: " + getCheckMessage(MSG_KEY, "continued.key", 2),
+            "19: " + getCheckMessage(MSG_KEY, "malformed.u00zz", 2),
+            "21: " + getCheckMessage(MSG_KEY, "last.key", 2),
+        };
+        verify(checkConfig, getPath("InputUniquePropertiesSyntax.properties"), expected);
     }
 }
@@ -78,6 +78,20 @@ public class AbstractJavadocCheckTest extends BaseCheckTestSupport {
         verify(checkConfig, getPath("InputParsingErrors.java"), expected);
     }
 
+    @Test
+    public void testParsingErrorsAfterWarmUp() throws Exception {
+        AbstractJavadocCheck.warmUpParser(
+            "*\n * Summary of <b>method</b>.\n * @param value the {@code value}\n ",
+            "*\n * <unclosedTag>\n ",
+            "*\n * <img src=\"x\"></img>\n ");
+        final DefaultConfiguration checkConfig = createCheckConfig(TempCheck.class);
+        final String[] expected = {
+            "4: " + getCheckMessage(MSG_JAVADOC_MISSED_HTML_CLOSE, 4, "unclosedTag"),
+            "8: " + getCheckMessage(MSG_JAVADOC_WRONG_SINGLETON_TAG, 35, "img"),
+        };
+        verify(checkConfig, getPath("InputParsingErrors.java"), expected);
+    }
+
     @Test
     public void testWithMultipleChecks() throws Exception {
         final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
@@ -0,0 +1,70 @@
+////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code for adherence to a set of rules.
+// Copyright (C) 2001-2016 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks.javadoc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TextBlock;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtils;
+
+public class FileJavadocModelTest {
+    private static FileContents createContents() throws Exception {
+        final File file = new File("src/test/resources/com/puppycrawl/tools/checkstyle/"
+            + "checks/javadoc/InputJavadocStyle.java");
+        final FileContents contents =
+            new FileContents(new FileText(file, StandardCharsets.UTF_8.name()));
+        contents.reportCComment(8, 0, 14, 2);
+        return contents;
+    }
+
+    @Test
+    public void testModelIsSharedByFile() throws Exception {
+        final FileContents contents = createContents();
+        assertSame(FileJavadocModel.getModel(contents), FileJavadocModel.getModel(contents));
+        assertNotSame(FileJavadocModel.getModel(contents),
+            FileJavadocModel.getModel(createContents()));
+    }
+
+    @Test
+    public void testTagsAreExtractedOnce() throws Exception {
+        final FileContents contents = createContents();
+        final TextBlock comment = contents.getJavadocBefore(15);
+        final FileJavadocModel model = FileJavadocModel.getModel(contents);
+        final JavadocTags tags = model.getTags(comment, JavadocUtils.JavadocTagType.ALL);
+
+        assertSame(tags, model.getTags(comment, JavadocUtils.JavadocTagType.ALL));
+        final List<JavadocTag> expected = JavadocUtils.getJavadocTags(comment,
+            JavadocUtils.JavadocTagType.ALL).getValidTags();
+        assertEquals(2, tags.getValidTags().size());
+        assertEquals(expected.toString(), tags.getValidTags().toString());
+        assertEquals(0, model.getTags(comment, JavadocUtils.JavadocTagType.INLINE)
+            .getValidTags().size());
+    }
+}
@@ -25,7 +25,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.lang3.ArrayUtils;
@@ -41,6 +43,7 @@ import com.puppycrawl.tools.checkstyle.TreeWalker;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
@@ -339,4 +342,59 @@ public class SuppressWithNearbyCommentFilterTest
             getPath("InputSuppressByIdWithNearbyCommentFilter.java"),
             removeSuppressed(expectedViolationMessages, suppressedViolationMessages));
     }
+
+    @Test
+    public void testAcceptMatchesTagsInRange() {
+        final SuppressWithNearbyCommentFilter filter = new SuppressWithNearbyCommentFilter();
+        filter.setCommentFormat("SUPPRESS (\\w+) (\\w+) (-?\\d)");
+        filter.setCheckFormat("$1");
+        filter.setInfluenceFormat("$3");
+        verifyAcceptMatchesTagsInRange(filter);
+        filter.setMessageFormat("$2");
+        verifyAcceptMatchesTagsInRange(filter);
+    }
+
+    private void verifyAcceptMatchesTagsInRange(SuppressWithNearbyCommentFilter filter) {
+        final String[] checks = {"ConstantName", "MemberName", "Illegal", "other"};
+        final Random random = new Random(0);
+        final int lineCount = 300;
+        final String[] lines = new String[lineCount];
+        final List<SuppressWithNearbyCommentFilter.Tag> tags = Lists.newArrayList();
+        for (int i = 0; i < lineCount; i++) {
+            final String text = "SUPPRESS " + checks[random.nextInt(checks.length)]
+                + " msg" + random.nextInt(3) + " " + (random.nextInt(11) - 5);
+            lines[i] = "// " + text;
+            tags.add(new SuppressWithNearbyCommentFilter.Tag(text, i + 1, filter));
+        }
+        final FileContents contents = new FileContents("Test.java", lines);
+        for (int i = 0; i < lineCount; i++) {
+            contents.reportCppComment(i + 1, 0);
+        }
+        final FileContentsHolder holder = new FileContentsHolder();
+        holder.setFileContents(contents);
+        holder.beginTree(null);
+
+        final Class<?>[] sources = {ConstantNameCheck.class, MemberNameCheck.class,
+            IllegalCatchCheck.class, };
+        final String[] moduleIds = {null, "other", "none"};
+        for (int i = 0; i < 20000; i++) {
+            final AuditEvent event = new AuditEvent(this, "Test.java",
+                new LocalizedMessage(random.nextInt(lineCount + 8), 0,
+                    null, null, null, moduleIds[random.nextInt(moduleIds.length)],
+                    sources[random.nextInt(sources.length)], "msg" + random.nextInt(3)));
+            assertEquals(String.valueOf(event.getLine()),
+                isAccepted(tags, event), filter.accept(event));
+        }
+    }
+
+    private static boolean isAccepted(List<SuppressWithNearbyCommentFilter.Tag> tags,
+            AuditEvent event) {
+        boolean accepted = true;
+        for (SuppressWithNearbyCommentFilter.Tag tag : tags) {
+            if (tag.isMatch(event)) {
+                accepted = false;
+            }
+        }
+        return accepted;
+    }
 }
@@ -25,13 +25,17 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Random;
 
 import org.apache.commons.beanutils.ConversionException;
 import org.apache.commons.lang3.ArrayUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.puppycrawl.tools.checkstyle.BaseCheckTestSupport;
 import com.puppycrawl.tools.checkstyle.BriefUtLogger;
@@ -41,6 +45,7 @@ import com.puppycrawl.tools.checkstyle.TreeWalker;
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
 import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 import com.puppycrawl.tools.checkstyle.checks.FileContentsHolder;
@@ -335,4 +340,62 @@ public class SuppressionCommentFilterTest
             getPath("InputSuppressByIdWithCommentFilter.java"),
             removeSuppressed(expectedViolationMessages, suppressedViolationMessages));
     }
+
+    @Test
+    public void testAcceptMatchesTagsInOrder() {
+        final SuppressionCommentFilter filter = new SuppressionCommentFilter();
+        filter.setOffCommentFormat("CSOFF (\\w+) (\\w+)");
+        filter.setOnCommentFormat("CSON (\\w+) (\\w+)");
+        filter.setCheckFormat("$1");
+        filter.setMessageFormat("$2");
+        final String[] formats = {"CSOFF %s msg%d", "CSON %s msg%d"};
+        final String[] checks = {"ConstantName", "MemberName", "Illegal", "other"};
+        final Random random = new Random(0);
+        final int lineCount = 300;
+        final String[] lines = new String[lineCount];
+        final List<SuppressionCommentFilter.Tag> tags = Lists.newArrayList();
+        for (int i = 0; i < lineCount; i++) {
+            final int format = random.nextInt(formats.length);
+            final String text = String.format(Locale.ROOT, formats[format],
+                checks[random.nextInt(checks.length)], random.nextInt(3));
+            final int column = random.nextInt(20);
+            lines[i] = Strings.repeat(" ", column) + "// " + text;
+            tags.add(new SuppressionCommentFilter.Tag(i + 1, column, text, format == 1, filter));
+        }
+        Collections.sort(tags);
+        final FileContents contents = new FileContents("Test.java", lines);
+        for (SuppressionCommentFilter.Tag tag : tags) {
+            contents.reportCppComment(tag.getLine(), tag.getColumn());
+        }
+        final FileContentsHolder holder = new FileContentsHolder();
+        holder.setFileContents(contents);
+        holder.beginTree(null);
+
+        final Class<?>[] sources = {ConstantNameCheck.class, MemberNameCheck.class,
+            IllegalCatchCheck.class, };
+        final String[] moduleIds = {null, "other", "none"};
+        for (int i = 0; i < 20000; i++) {
+            final AuditEvent event = new AuditEvent(this, "Test.java",
+                new LocalizedMessage(random.nextInt(lineCount + 2), random.nextInt(25),
+                    null, null, null, moduleIds[random.nextInt(moduleIds.length)],
+                    sources[random.nextInt(sources.length)], "msg" + random.nextInt(3)));
+            assertEquals(event.getLine() + ":" + event.getColumn(),
+                isAccepted(tags, event), filter.accept(event));
+        }
+    }
+
+    private static boolean isAccepted(List<SuppressionCommentFilter.Tag> tags,
+            AuditEvent event) {
+        SuppressionCommentFilter.Tag nearest = null;
+        for (SuppressionCommentFilter.Tag tag : tags) {
+            if (tag.getLine() > event.getLine()
+                    || tag.getLine() == event.getLine() && tag.getColumn() > event.getColumn()) {
+                break;
+            }
+            if (tag.isMatch(event)) {
+                nearest = tag;
+            }
+        }
+        return nearest == null || nearest.isReportingOn();
+    }
 }
@@ -24,6 +24,11 @@ import org.junit.Test;
 
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.api.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.checks.coding.IllegalCatchCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.ConstantNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
@@ -48,4 +53,36 @@ public class SuppressionFilterTest {
         Assert.assertTrue(filter.accept(ev));
     }
 
+    @Test
+    public void testAcceptMatchesSuppressElements() throws CheckstyleException {
+        final String fileName = "src/test/resources/com/puppycrawl/tools/checkstyle/filters/"
+            + "suppressions_index.xml";
+        final FilterSet elements = SuppressionsLoader.loadSuppressions(fileName);
+        final SuppressionFilter filter = new SuppressionFilter();
+        filter.setFile(fileName);
+
+        final String[] files = {"File0.java", "File1.java", "File2.java", "File3.java",
+            "File4.java", "File0.txt", };
+        final Class<?>[] sources = {ConstantNameCheck.class, MemberNameCheck.class,
+            IllegalCatchCheck.class, };
+        final String[] moduleIds = {null, "ignore"};
+        int suppressed = 0;
+        for (String file : files) {
+            for (int line = 0; line < 10; line++) {
+                for (int i = 0; i < sources.length * moduleIds.length * 5; i++) {
+                    final LocalizedMessage message = new LocalizedMessage(line, i % 5,
+                        null, null, null, moduleIds[i / 5 % moduleIds.length],
+                        sources[i / 5 / moduleIds.length], null);
+                    final AuditEvent event = new AuditEvent(this, file, message);
+                    final boolean expected = elements.accept(event);
+                    Assert.assertEquals(file + ":" + line + ":" + i,
+                        expected, filter.accept(event));
+                    if (!expected) {
+                        suppressed++;
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(501, suppressed);
+    }
 }
@@ -0,0 +1,14 @@
+// comment before the package
+package com.puppycrawl.tools.checkstyle;
+
+/** Comment before the class. */
+class InputTreeWalkerComments {
+    /** Comment before a declaration with several variables. */
+    private int first, second;
+
+    void method() {
+        // comment in a method
+        int third = /* inline comment */ 1;
+    }
+}
+// comment after the class
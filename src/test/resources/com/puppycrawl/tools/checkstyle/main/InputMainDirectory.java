@@ -0,0 +1,4 @@
+package com.puppycrawl.tools.checkstyle.main;
+
+public class InputMainDirectory {
+}